@@ -0,0 +1,220 @@
+package com.example.chalpu.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한과 만료 시간을 가지는 인메모리 LRU 캐시
+ * 토큰/권한처럼 요청마다 반복 조회되지만 자주 바뀌지 않는 값을 프로세스 내에 보관한다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거된다.
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    private final Duration defaultTtl;
+    private final Clock clock;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    // 적재 중인 키 -> 세대 (invalidate 되면 세대가 올라가 진행 중인 적재 결과를 버린다)
+    private final Map<K, PendingLoad> pendingLoads = new HashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public LocalCache(String name, int maximumSize, Duration defaultTtl) {
+        this(name, maximumSize, defaultTtl, Clock.systemUTC());
+    }
+
+    public LocalCache(String name, int maximumSize, Duration defaultTtl, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.defaultTtl = defaultTtl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > LocalCache.this.maximumSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값 조회 (없거나 만료된 경우 null)
+     */
+    public synchronized V getIfPresent(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(key);
+            evictionCount.increment();
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value();
+    }
+
+    /**
+     * 캐시된 값을 조회하고, 없으면 loader로 적재
+     * loader는 락 밖에서 실행되므로 동시에 같은 키가 여러 번 적재될 수 있다.
+     * 적재 도중 같은 키가 invalidate 되면 적재한 값은 반환만 하고 캐시하지 않는다. (무효화 이전 상태를 읽었을 수 있으므로)
+     * loader가 null을 반환하면 캐시하지 않는다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        PendingLoad pending;
+        long generation;
+        synchronized (this) {
+            pending = pendingLoads.computeIfAbsent(key, k -> new PendingLoad());
+            pending.loaders++;
+            generation = pending.generation;
+        }
+        V loaded = null;
+        try {
+            loaded = loader.apply(key);
+            return loaded;
+        } finally {
+            synchronized (this) {
+                if (loaded != null && pending.generation == generation) {
+                    put(key, loaded);
+                }
+                if (--pending.loaders == 0) {
+                    pendingLoads.remove(key);
+                }
+            }
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, clock.instant().plus(defaultTtl));
+    }
+
+    /**
+     * 만료 시각을 직접 지정하여 저장 (기본 TTL보다 늦은 시각은 기본 TTL로 제한)
+     */
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        Instant now = clock.instant();
+        Instant maxExpiresAt = now.plus(defaultTtl);
+        Instant effectiveExpiresAt = expiresAt.isAfter(maxExpiresAt) ? maxExpiresAt : expiresAt;
+        if (!effectiveExpiresAt.isAfter(now)) {
+            return;
+        }
+        entries.put(key, new CacheEntry<>(value, effectiveExpiresAt));
+        putCount.increment();
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        PendingLoad pending = pendingLoads.get(key);
+        if (pending != null) {
+            pending.generation++;
+        }
+    }
+
+    /**
+     * 조건에 맞는 키를 모두 제거
+     */
+    public synchronized void invalidateIf(Predicate<? super K> keyPredicate) {
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (keyPredicate.test(iterator.next())) {
+                iterator.remove();
+            }
+        }
+        pendingLoads.forEach((key, pending) -> {
+            if (keyPredicate.test(key)) {
+                pending.generation++;
+            }
+        });
+    }
+
+    /**
+     * 조건에 맞는 값을 모두 제거 (키로 대상을 알 수 없을 때 사용, 전체 항목을 순회한다)
+     */
+    public synchronized int invalidateValuesIf(Predicate<? super V> valuePredicate) {
+        int removed = 0;
+        Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (valuePredicate.test(iterator.next().value())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        pendingLoads.values().forEach(pending -> pending.generation++);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long putCount() {
+        return putCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Prometheus 등 Micrometer 레지스트리에 캐시 지표 등록
+     */
+    public LocalCache<K, V> bindTo(MeterRegistry meterRegistry) {
+        if (meterRegistry != null) {
+            new LocalCacheMetrics(this).bindTo(meterRegistry);
+        }
+        return this;
+    }
+
+    private static final class PendingLoad {
+        private long generation;
+        private int loaders;
+    }
+
+    private record CacheEntry<V>(V value, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.chalpu.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * LocalCache 지표 바인더
+ * cache.gets(result=hit|miss), cache.puts, cache.evictions, cache.size 지표를 cache 태그와 함께 노출한다.
+ */
+public class LocalCacheMetrics extends CacheMeterBinder<LocalCache<?, ?>> {
+
+    private final LocalCache<?, ?> cache;
+
+    public LocalCacheMetrics(LocalCache<?, ?> cache) {
+        super(cache, cache.getName(), Tags.empty());
+        this.cache = cache;
+    }
+
+    @Override
+    protected Long size() {
+        return (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        return cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        return cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        return cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.chalpu.common.config;
+
+import com.example.chalpu.common.http.OutboundHttpDestination;
+import com.example.chalpu.common.http.PooledClientHttpRequestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 외부 API(PhotoRoom, Kakao, Naver) 호출용 RestTemplate 설정
+ * 대상별 타임아웃과 동시 요청 수는 outbound-http.{name}.* 프로퍼티로 덮어쓸 수 있다.
+ * JDK HttpClient의 유휴 커넥션 유지 시간(jdk.httpclient.keepalive.timeout)은 JVM 전역 설정이므로
+ * 코드에서 바꾸지 않고 실행 옵션(Dockerfile)으로 지정한다.
+ */
+@Slf4j
+@Configuration
+public class OutboundHttpConfig {
+
+    @Bean
+    public PooledClientHttpRequestFactory pooledClientHttpRequestFactory(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${photoroom.api.url:https://sdk.photoroom.com/v1/segment}") String photoRoomApiUrl) {
+        List<OutboundHttpDestination> destinations = List.of(
+                destination(environment, "photoroom", URI.create(photoRoomApiUrl).getHost(), 3_000, 60_000, 8),
+                destination(environment, "kakao", "kapi.kakao.com", 2_000, 5_000, 32),
+                destination(environment, "naver", "openapi.naver.com", 2_000, 5_000, 32));
+        OutboundHttpDestination defaultDestination = destination(environment, "default", null, 2_000, 10_000, 32);
+
+        destinations.forEach(destination -> log.info("event=outbound_http_destination_configured, name={}, host={}, max_concurrent={}",
+                destination.name(), destination.host(), destination.maxConcurrent()));
+        return new PooledClientHttpRequestFactory(destinations, defaultDestination, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(PooledClientHttpRequestFactory pooledClientHttpRequestFactory) {
+        return new RestTemplate(pooledClientHttpRequestFactory);
+    }
+
+    private OutboundHttpDestination destination(Environment environment, String name, String host,
+                                                long connectTimeoutMillis, long readTimeoutMillis, int maxConcurrent) {
+        String prefix = "outbound-http." + name + ".";
+        return new OutboundHttpDestination(
+                name,
+                environment.getProperty(prefix + "host", host),
+                Duration.ofMillis(environment.getProperty(prefix + "connect-timeout-millis", Long.class, connectTimeoutMillis)),
+                Duration.ofMillis(environment.getProperty(prefix + "read-timeout-millis", Long.class, readTimeoutMillis)),
+                environment.getProperty(prefix + "max-concurrent", Integer.class, maxConcurrent),
+                Duration.ofMillis(environment.getProperty(prefix + "acquire-timeout-millis", Long.class, 1_000L)));
+    }
+}
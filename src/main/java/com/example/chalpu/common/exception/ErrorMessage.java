@@ -73,6 +73,8 @@ public enum ErrorMessage {
     MENU_ITEM_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "메뉴 항목 수정에 실패했습니다."),
     MENU_ITEM_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "메뉴 항목 삭제에 실패했습니다."),
     MENU_ITEM_NOT_IN_MENU(BAD_REQUEST, "해당 메뉴에 속한 아이템이 아닙니다."),
+    MENU_ITEM_REORDER_INVALID(BAD_REQUEST, "메뉴 아이템 순서 목록이 올바르지 않습니다."),
+    MENU_ITEM_REORDER_CONFLICT(CONFLICT, "메뉴 아이템 목록이 변경되었습니다. 다시 조회 후 시도해주세요."),
     
     // 음식 관련 에러
     FOOD_NOT_FOUND(NOT_FOUND, "음식을 찾을 수 없습니다."),
@@ -93,6 +95,14 @@ public enum ErrorMessage {
     PHOTO_SIZE_EXCEEDED(BAD_REQUEST, "사진 크기가 제한을 초과했습니다."),
     PHOTO_FEATURE_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "대표 사진 설정에 실패했습니다."),
     PHOTO_BACKGROUND_REMOVAL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "배경 제거 처리에 실패했습니다."),
+    PHOTO_BACKGROUND_REMOVAL_BUSY(SERVICE_UNAVAILABLE, "배경 제거 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    PHOTO_BACKGROUND_REMOVAL_UNAVAILABLE(SERVICE_UNAVAILABLE, "배경 제거 서비스가 일시적으로 중단되었습니다. 잠시 후 다시 시도해주세요."),
+    PHOTO_BACKGROUND_REMOVAL_JOB_NOT_FOUND(NOT_FOUND, "배경 제거 작업을 찾을 수 없습니다."),
+    PHOTO_BATCH_EMPTY(BAD_REQUEST, "처리할 사진이 없습니다."),
+    PHOTO_BATCH_SIZE_EXCEEDED(BAD_REQUEST, "한 번에 처리할 수 있는 사진 수를 초과했습니다."),
+    PHOTO_ALREADY_REGISTERED(CONFLICT, "이미 등록된 사진입니다."),
+    PHOTO_INVALID_REQUEST(BAD_REQUEST, "사진 정보가 올바르지 않습니다."),
+    PHOTO_INVALID_CURSOR(BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
 
     // 알림 관련 에러
     NOTIFICATION_SERVICE_UNAVAILABLE(HttpStatus.INTERNAL_SERVER_ERROR, "알림 서비스를 사용할 수 없습니다."),
@@ -151,6 +161,8 @@ public enum ErrorMessage {
     // GuideTag
     TAG_ALREADY_EXISTS(HttpStatus.CONFLICT, "해당 가이드에 이미 존재하는 태그입니다."),
     GUIDE_TAG_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 가이드-태그 관계를 찾을 수 없습니다."),
+    TAG_CREATE_FAILED(HttpStatus.CONFLICT, "태그를 생성할 수 없습니다."),
+    TAG_NAME_INVALID(HttpStatus.BAD_REQUEST, "태그 이름은 1자 이상 50자 이하여야 합니다."),
 
     // FCM
     FCM_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "FCM 메시지 전송에 실패했습니다."),
@@ -0,0 +1,22 @@
+package com.example.chalpu.common.http;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출 대상별 커넥션/타임아웃 설정
+ *
+ * @param name              메트릭/설정 키에 쓰이는 대상 이름 (photoroom, kakao, naver, default)
+ * @param host              대상 호스트 (default 대상은 null)
+ * @param connectTimeout    연결 타임아웃
+ * @param readTimeout       응답 헤더 수신까지의 타임아웃
+ * @param maxConcurrent     대상별 동시 요청 수 상한
+ * @param acquireTimeout    동시 요청 수가 가득 찼을 때 대기할 최대 시간
+ */
+public record OutboundHttpDestination(
+        String name,
+        String host,
+        Duration connectTimeout,
+        Duration readTimeout,
+        int maxConcurrent,
+        Duration acquireTimeout) {
+}
@@ -0,0 +1,14 @@
+package com.example.chalpu.common.http;
+
+import java.io.IOException;
+
+/**
+ * 외부 호출 대상의 동시 요청 수가 가득 차 대기 시간 안에 요청을 보내지 못한 경우
+ * RestTemplate에서는 ResourceAccessException의 원인으로 전달된다.
+ */
+public class OutboundHttpSaturatedException extends IOException {
+
+    public OutboundHttpSaturatedException(String host) {
+        super("Outbound HTTP pool saturated: " + host);
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.chalpu.common.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대상 호스트별 커넥션 풀을 가지는 RestTemplate용 요청 팩토리
+ * 호스트마다 별도의 JDK HttpClient(keep-alive 커넥션 풀)와 타임아웃, 동시 요청 수 상한을 둔다.
+ * 응답 본문을 닫을 때까지를 한 요청으로 보고 지연 시간, 동시 요청 수, 에러를 호스트 태그로 기록한다.
+ * 요청 본문은 버퍼링하지 않도록 StreamingHttpOutputMessage를 그대로 전달한다.
+ */
+@Slf4j
+public class PooledClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final Map<String, OutboundHttpDestination> destinationsByHost;
+    private final OutboundHttpDestination defaultDestination;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public PooledClientHttpRequestFactory(List<OutboundHttpDestination> destinations,
+                                          OutboundHttpDestination defaultDestination,
+                                          MeterRegistry meterRegistry) {
+        this.destinationsByHost = destinations.stream()
+                .collect(Collectors.toUnmodifiableMap(OutboundHttpDestination::host, Function.identity()));
+        this.defaultDestination = defaultDestination;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        String poolKey = uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+        Pool pool = pools.computeIfAbsent(poolKey, key -> createPool(uri));
+        return new InstrumentedRequest(pool, pool.requestFactory.createRequest(uri, httpMethod));
+    }
+
+    /**
+     * 호스트의 현재 동시 요청 수 (테스트/모니터링용)
+     */
+    public int getInFlight(String host) {
+        return pools.values().stream()
+                .filter(pool -> pool.host.equals(host))
+                .mapToInt(pool -> pool.inFlight.get())
+                .sum();
+    }
+
+    private Pool createPool(URI uri) {
+        OutboundHttpDestination destination = destinationsByHost.getOrDefault(uri.getHost(), defaultDestination);
+        // 평문 http는 h2c 업그레이드를 시도하지 않도록 HTTP/1.1 고정
+        HttpClient.Version version = "https".equalsIgnoreCase(uri.getScheme()) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(destination.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .version(version)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(destination.readTimeout());
+
+        log.info("event=outbound_http_pool_created, destination={}, host={}, max_concurrent={}, connect_timeout_millis={}, read_timeout_millis={}",
+                destination.name(), uri.getHost(), destination.maxConcurrent(),
+                destination.connectTimeout().toMillis(), destination.readTimeout().toMillis());
+        return new Pool(uri.getHost(), destination, requestFactory, meterRegistry);
+    }
+
+    private static final class Pool {
+
+        private final String host;
+        private final OutboundHttpDestination destination;
+        private final JdkClientHttpRequestFactory requestFactory;
+        private final MeterRegistry meterRegistry;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Pool(String host, OutboundHttpDestination destination, JdkClientHttpRequestFactory requestFactory, MeterRegistry meterRegistry) {
+            this.host = host;
+            this.destination = destination;
+            this.requestFactory = requestFactory;
+            this.meterRegistry = meterRegistry;
+            this.permits = new Semaphore(destination.maxConcurrent());
+
+            Gauge.builder("http.client.outbound.in_flight", inFlight, AtomicInteger::get)
+                    .description("외부 호출 대상별 진행 중인 요청 수")
+                    .tag("host", host)
+                    .strongReference(true)
+                    .register(meterRegistry);
+            Gauge.builder("http.client.outbound.max_concurrent", destination, OutboundHttpDestination::maxConcurrent)
+                    .description("외부 호출 대상별 동시 요청 수 상한")
+                    .tag("host", host)
+                    .strongReference(true)
+                    .register(meterRegistry);
+            Gauge.builder("http.client.outbound.saturation", this, pool -> (double) pool.inFlight.get() / pool.destination.maxConcurrent())
+                    .description("외부 호출 대상별 동시 요청 사용률 (0~1)")
+                    .tag("host", host)
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+
+        void acquire() throws IOException {
+            try {
+                if (!permits.tryAcquire(destination.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    recordError("saturated");
+                    throw new OutboundHttpSaturatedException(host);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for outbound HTTP permit: " + host);
+            }
+            inFlight.incrementAndGet();
+        }
+
+        void release() {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+
+        void recordLatency(HttpMethod method, String status, String outcome, long startNanos) {
+            Timer.builder("http.client.outbound")
+                    .description("외부 호출 지연 시간 (응답 본문 수신 완료까지)")
+                    .tags("host", host, "method", method.name(), "status", status, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        void recordError(String type) {
+            Counter.builder("http.client.outbound.errors")
+                    .description("외부 호출 에러 수")
+                    .tags("host", host, "type", type)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private static final class InstrumentedRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+        private final Pool pool;
+        private final ClientHttpRequest delegate;
+
+        private InstrumentedRequest(Pool pool, ClientHttpRequest delegate) {
+            this.pool = pool;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void setBody(Body body) {
+            if (delegate instanceof StreamingHttpOutputMessage streamingDelegate) {
+                streamingDelegate.setBody(body);
+                return;
+            }
+            try {
+                body.writeTo(delegate.getBody());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            pool.acquire();
+            long startNanos = System.nanoTime();
+            try {
+                return new InstrumentedResponse(pool, getMethod(), delegate.execute(), startNanos);
+            } catch (IOException | RuntimeException e) {
+                pool.release();
+                pool.recordError(classify(e));
+                pool.recordLatency(getMethod(), "IO_ERROR", "UNKNOWN", startNanos);
+                log.warn("event=outbound_http_failed, host={}, method={}, error_message={}", pool.host, getMethod(), e.getMessage());
+                throw e;
+            }
+        }
+
+        private static String classify(Exception e) {
+            // 팩토리 구현에 따라 타임아웃이 IOException으로 감싸져 올라오므로 원인 체인을 따라가며 판별
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof HttpConnectTimeoutException) {
+                    return "connect_timeout";
+                }
+                if (cause instanceof HttpTimeoutException) {
+                    return "read_timeout";
+                }
+                if (cause instanceof ConnectException) {
+                    return "connect";
+                }
+            }
+            return "io";
+        }
+    }
+
+    private static final class InstrumentedResponse implements ClientHttpResponse {
+
+        private final Pool pool;
+        private final HttpMethod method;
+        private final ClientHttpResponse delegate;
+        private final long startNanos;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private InstrumentedResponse(Pool pool, HttpMethod method, ClientHttpResponse delegate, long startNanos) {
+            this.pool = pool;
+            this.method = method;
+            this.delegate = delegate;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            String status = "UNKNOWN";
+            String outcome = "UNKNOWN";
+            try {
+                HttpStatusCode statusCode = delegate.getStatusCode();
+                status = String.valueOf(statusCode.value());
+                outcome = statusCode.is2xxSuccessful() ? "SUCCESS"
+                        : statusCode.is4xxClientError() ? "CLIENT_ERROR"
+                        : statusCode.is5xxServerError() ? "SERVER_ERROR" : "UNKNOWN";
+                if (statusCode.is5xxServerError()) {
+                    pool.recordError("server_error");
+                }
+            } catch (IOException ignored) {
+                // 상태 코드를 읽을 수 없는 경우 UNKNOWN으로 기록
+            } finally {
+                delegate.close();
+                pool.release();
+                pool.recordLatency(method, status, outcome, startNanos);
+            }
+        }
+    }
+}
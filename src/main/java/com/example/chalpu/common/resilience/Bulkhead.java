@@ -0,0 +1,99 @@
+package com.example.chalpu.common.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 실행 수와 대기열 길이가 모두 제한된 격벽
+ * 동시 실행 수가 가득 차면 최대 maxWaiting개 요청만 maxWait 동안 대기하고, 나머지는 즉시 거절한다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public Bulkhead(String name, int maxConcurrent, int maxWaiting, Duration maxWait) {
+        if (maxConcurrent <= 0 || maxWaiting < 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive and maxWaiting must not be negative");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 실행 권한 획득
+     * 성공하면 반드시 release()를 호출해야 한다.
+     *
+     * @throws BulkheadFullException 대기열이 가득 찼거나 대기 시간 안에 권한을 얻지 못한 경우
+     */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                throw new BulkheadFullException(name, BulkheadFullException.Reason.QUEUE_FULL);
+            }
+            try {
+                if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new BulkheadFullException(name, BulkheadFullException.Reason.WAIT_TIMEOUT);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BulkheadFullException(name, BulkheadFullException.Reason.WAIT_TIMEOUT);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        active.incrementAndGet();
+    }
+
+    public void release() {
+        active.decrementAndGet();
+        permits.release();
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * resilience.bulkhead.active, waiting, max_concurrent, max_waiting 지표를 name 태그와 함께 노출
+     */
+    public Bulkhead bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("resilience.bulkhead.active", active, AtomicInteger::get)
+                .description("격벽 안에서 실행 중인 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.waiting", waiting, AtomicInteger::get)
+                .description("격벽 권한을 기다리는 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.max_concurrent", this, Bulkhead::getMaxConcurrent)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.max_waiting", this, bulkhead -> bulkhead.maxWaiting)
+                .tag("name", name)
+                .register(meterRegistry);
+        return this;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.chalpu.common.resilience;
+
+import lombok.Getter;
+
+/**
+ * 격벽의 동시 실행 수와 대기열이 모두 가득 차 호출이 거절된 경우
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    public enum Reason {
+        QUEUE_FULL, WAIT_TIMEOUT
+    }
+
+    private final Reason reason;
+
+    public BulkheadFullException(String name, Reason reason) {
+        super("Bulkhead '" + name + "' is full: " + reason);
+        this.reason = reason;
+    }
+}
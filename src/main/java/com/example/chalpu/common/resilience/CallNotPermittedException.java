@@ -0,0 +1,11 @@
+package com.example.chalpu.common.resilience;
+
+/**
+ * 서킷 브레이커가 열려 있어(또는 half-open 시험 호출이 모두 진행 중이어서) 호출이 거절된 경우
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String name) {
+        super("Circuit breaker '" + name + "' does not permit further calls");
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.chalpu.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N회 호출의 실패율/지연 호출 비율로 열리는 카운트 기반 서킷 브레이커
+ * CLOSED: 최근 windowSize회 중 minimumCalls회 이상 기록되었고 실패율 또는 지연 호출 비율이 임계치를 넘으면 OPEN
+ * OPEN: openDuration 동안 모든 호출을 거절한 뒤 HALF_OPEN
+ * HALF_OPEN: halfOpenPermittedCalls회의 시험 호출만 허용하고, 모두 성공하면 CLOSED, 하나라도 실패/지연이면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 링 버퍼 (0: 성공, 1: 실패, 2: 지연 성공, 3: 지연 실패)
+    private final byte[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    private MeterRegistry meterRegistry;
+
+    public CircuitBreaker(String name, Settings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Settings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.window = new byte[settings.windowSize()];
+    }
+
+    /**
+     * 호출 허용 여부 확인
+     * 허용된 경우 반드시 onSuccess/onError 중 하나로 결과를 기록해야 한다.
+     *
+     * @throws CallNotPermittedException OPEN 상태이거나 HALF_OPEN 시험 호출이 모두 진행 중인 경우
+     */
+    public synchronized void acquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= settings.openDuration().toNanos()) {
+            transitionTo(State.HALF_OPEN);
+        }
+        switch (state) {
+            case CLOSED -> {
+            }
+            case HALF_OPEN -> {
+                if (halfOpenIssued >= settings.halfOpenPermittedCalls()) {
+                    throw new CallNotPermittedException(name);
+                }
+                halfOpenIssued++;
+            }
+            case OPEN -> throw new CallNotPermittedException(name);
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(false, durationNanos);
+    }
+
+    public void onError(long durationNanos) {
+        record(true, durationNanos);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * resilience.circuit.state(0: CLOSED, 1: OPEN, 2: HALF_OPEN), resilience.circuit.failure_rate,
+     * resilience.circuit.slow_call_rate, resilience.circuit.transitions 지표를 name 태그와 함께 노출
+     */
+    public CircuitBreaker bindTo(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("resilience.circuit.state", this, breaker -> breaker.getState().code)
+                .description("서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.circuit.failure_rate", this, CircuitBreaker::failureRate)
+                .description("최근 호출 중 실패 비율 (%)")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("resilience.circuit.slow_call_rate", this, CircuitBreaker::slowCallRate)
+                .description("최근 호출 중 지연 호출 비율 (%)")
+                .tag("name", name)
+                .register(meterRegistry);
+        return this;
+    }
+
+    synchronized double failureRate() {
+        return recordedCalls == 0 ? 0 : failedCalls * 100.0 / recordedCalls;
+    }
+
+    synchronized double slowCallRate() {
+        return recordedCalls == 0 ? 0 : slowCalls * 100.0 / recordedCalls;
+    }
+
+    private synchronized void record(boolean failed, long durationNanos) {
+        boolean slow = durationNanos >= settings.slowCallDuration().toNanos();
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failed || slow) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= settings.halfOpenPermittedCalls()) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                append(failed, slow);
+                if (recordedCalls >= settings.minimumCalls()
+                        && (failureRate() >= settings.failureRateThreshold() || slowCallRate() >= settings.slowCallRateThreshold())) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case OPEN -> {
+                // OPEN 전환 전에 시작된 호출의 결과는 무시
+            }
+        }
+    }
+
+    private void append(boolean failed, boolean slow) {
+        if (recordedCalls == window.length) {
+            byte evicted = window[windowIndex];
+            failedCalls -= evicted & 1;
+            slowCalls -= (evicted >> 1) & 1;
+        } else {
+            recordedCalls++;
+        }
+        byte outcome = (byte) ((failed ? 1 : 0) | (slow ? 2 : 0));
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        failedCalls += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        halfOpenIssued = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+            slowCalls = 0;
+        }
+        log.warn("event=circuit_breaker_transition, name={}, from={}, to={}", name, previous, next);
+        if (meterRegistry != null) {
+            Counter.builder("resilience.circuit.transitions")
+                    .description("서킷 브레이커 상태 전환 수")
+                    .tags("name", name, "to", next.name())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * @param windowSize             실패율 계산에 쓰는 최근 호출 수
+     * @param minimumCalls           실패율을 평가하기 위한 최소 기록 호출 수
+     * @param failureRateThreshold   OPEN으로 전환할 실패율 (%)
+     * @param slowCallRateThreshold  OPEN으로 전환할 지연 호출 비율 (%)
+     * @param slowCallDuration       지연 호출로 간주할 최소 소요 시간
+     * @param openDuration           OPEN 상태 유지 시간
+     * @param halfOpenPermittedCalls HALF_OPEN 상태에서 허용할 시험 호출 수
+     */
+    public record Settings(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            double slowCallRateThreshold,
+            Duration slowCallDuration,
+            Duration openDuration,
+            int halfOpenPermittedCalls) {
+
+        public Settings {
+            if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenPermittedCalls <= 0) {
+                throw new IllegalArgumentException("invalid circuit breaker settings");
+            }
+        }
+    }
+}
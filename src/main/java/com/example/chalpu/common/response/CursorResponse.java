@@ -0,0 +1,34 @@
+package com.example.chalpu.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "커서 기반 페이지네이션 응답 (전체 개수는 제공하지 않음)")
+public class CursorResponse<T> {
+
+    @Schema(description = "데이터 목록")
+    private List<T> content;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "다음 페이지 조회 시 그대로 전달할 커서. 마지막 페이지면 null", example = "MjAyNC0wMS0xNVQwOTozMDowMHwxMjM")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.chalpu.common.response;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기준 키셋 페이지네이션 커서
+ * 클라이언트에는 내용을 해석할 필요가 없는 불투명 문자열로 전달한다.
+ */
+public record SeekCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static SeekCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new SeekCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.valueOf(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.chalpu.common.storage;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * S3 객체 삭제 대기열
+ * 도메인 서비스는 소프트 삭제와 같은 트랜잭션에서 삭제할 키를 적재만 하고, S3 호출은 S3DeletionWorker가 트랜잭션 밖에서 처리한다.
+ * 적재, 워커 점유, 삭제 결과 반영(재시도 스케줄링)을 각각 짧은 트랜잭션으로 처리
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class S3DeletionQueue {
+
+    // DeleteObjects 한 번에 지정할 수 있는 최대 키 수
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private static final List<S3DeletionStatus> CLAIMABLE_STATUSES =
+            List.of(S3DeletionStatus.PENDING, S3DeletionStatus.PROCESSING);
+
+    private final S3DeletionTaskRepository taskRepository;
+    private final S3DeletionTaskJdbcRepository taskJdbcRepository;
+    @Getter
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public S3DeletionQueue(
+            S3DeletionTaskRepository taskRepository,
+            S3DeletionTaskJdbcRepository taskJdbcRepository,
+            @Value("${s3.deletion.batch-size:1000}") int batchSize,
+            @Value("${s3.deletion.max-attempts:8}") int maxAttempts,
+            @Value("${s3.deletion.backoff-initial-seconds:30}") long initialBackoffSeconds,
+            @Value("${s3.deletion.backoff-max-seconds:3600}") long maxBackoffSeconds,
+            @Value("${s3.deletion.lease-seconds:300}") long leaseSeconds) {
+        this.taskRepository = taskRepository;
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_KEYS_PER_REQUEST);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 삭제할 S3 키 적재 (호출 측 트랜잭션에 참여, null/빈 키는 무시)
+     */
+    @Transactional
+    public void enqueue(Collection<String> s3Keys) {
+        List<String> keys = s3Keys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !key.isBlank())
+                .distinct()
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        taskJdbcRepository.insertAll(keys);
+        log.info("event=s3_deletion_enqueued, key_count={}", keys.size());
+    }
+
+    /**
+     * 삭제 시점이 도래한 항목을 배치 크기만큼 점유
+     */
+    @Transactional
+    public List<S3DeletionTask> claimDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionTask> batch = taskRepository.findDueForUpdate(CLAIMABLE_STATUSES, now, PageRequest.of(0, batchSize));
+        batch.forEach(task -> task.claim(now.plus(lease)));
+        return batch;
+    }
+
+    /**
+     * 삭제 결과 반영
+     * 삭제된 항목은 대기열에서 제거하고, 실패한 항목은 지수 백오프로 재시도 예약, 시도 한도를 넘으면 실패 처리
+     * @param deletedIds 삭제된 항목 ID
+     * @param errorsById 실패한 항목 ID -> 에러 메시지
+     */
+    @Transactional
+    public void recordResult(Collection<Long> deletedIds, Map<Long, String> errorsById) {
+        if (!deletedIds.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(deletedIds);
+        }
+        if (errorsById.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (S3DeletionTask task : taskRepository.findAllById(errorsById.keySet())) {
+            String error = errorsById.get(task.getId());
+            if (task.getAttemptCount() >= maxAttempts) {
+                task.markFailed(error);
+                log.error("event=s3_deletion_failed, deletion_id={}, s3_key={}, attempt_count={}, error_message={}",
+                        task.getId(), task.getS3Key(), task.getAttemptCount(), error);
+            } else {
+                task.scheduleRetry(now.plus(backoff(task.getAttemptCount())), error);
+            }
+        }
+        log.warn("event=s3_deletion_retry_scheduled, failed_count={}", errorsById.size());
+    }
+
+    /**
+     * 삭제되지 않고 남아 있는 항목 수 (FAILED 제외)
+     */
+    public long countOutstanding() {
+        return taskRepository.countByStatusIn(CLAIMABLE_STATUSES);
+    }
+
+    /**
+     * 삭제되지 않고 남아 있는 항목 중 가장 오래된 적재 시간, 없으면 null
+     */
+    public LocalDateTime findOldestOutstandingCreatedAt() {
+        return taskRepository.findOldestCreatedAt(CLAIMABLE_STATUSES);
+    }
+
+    /**
+     * 지수 백오프 (초기값 * 2^(시도횟수-1), 최대값 제한)
+     */
+    Duration backoff(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.chalpu.common.storage;
+
+/**
+ * S3 삭제 대기열 처리 상태 (삭제에 성공한 항목은 대기열에서 제거된다)
+ */
+public enum S3DeletionStatus {
+    PENDING,     // 삭제 대기 (재시도 대기 포함)
+    PROCESSING,  // 워커가 점유하여 삭제 중
+    FAILED       // 재시도 한도 초과
+}
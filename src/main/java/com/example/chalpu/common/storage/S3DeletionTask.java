@@ -0,0 +1,75 @@
+package com.example.chalpu.common.storage;
+
+import com.example.chalpu.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 객체 삭제 대기열 엔티티
+ * 소프트 삭제와 같은 트랜잭션에서 적재되고, S3DeletionWorker가 DeleteObjects 배치로 삭제한다.
+ * 적재는 S3DeletionTaskJdbcRepository의 배치 INSERT로만 이루어진다.
+ */
+@Entity
+@Table(
+    name = "s3_deletion_queue",
+    indexes = @Index(name = "idx_s3_deletion_queue_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class S3DeletionTask extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_id")
+    private Long id;
+
+    @Column(name = "s3_key", length = 500, nullable = false)
+    private String s3Key;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private S3DeletionStatus status;
+
+    /**
+     * 삭제 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    /**
+     * 다음 삭제 가능 시간 (PROCESSING 상태에서는 점유 만료 시간)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 워커 점유
+     * 점유 만료 시간까지 결과가 기록되지 않으면 다른 워커가 다시 가져갈 수 있다.
+     */
+    public void claim(LocalDateTime leaseExpiresAt) {
+        this.status = S3DeletionStatus.PROCESSING;
+        this.attemptCount++;
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String lastError) {
+        this.status = S3DeletionStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(lastError);
+    }
+
+    public void markFailed(String lastError) {
+        this.status = S3DeletionStatus.FAILED;
+        this.lastError = truncate(lastError);
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 500 ? value.substring(0, 500) : value;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.chalpu.common.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * S3 삭제 대기열 일괄 적재 Repository
+ * IDENTITY 전략에서는 JPA 배치 INSERT가 동작하지 않으므로 JDBC 배치로 한 번에 전송한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class S3DeletionTaskJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO s3_deletion_queue "
+            + "(s3_key, status, attempt_count, next_attempt_at, created_at, updated_at) "
+            + "VALUES (?, 'PENDING', 0, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, s3Keys, s3Keys.size(), (ps, s3Key) -> {
+            ps.setString(1, s3Key);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+}
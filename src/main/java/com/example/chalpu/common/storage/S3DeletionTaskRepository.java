@@ -0,0 +1,44 @@
+package com.example.chalpu.common.storage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 삭제 대기열 Repository
+ */
+@Repository
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    /**
+     * 삭제 시점이 도래한 항목 조회 (행 잠금, 다른 워커가 잠근 행은 건너뜀)
+     * @param statuses 조회 대상 상태 (PENDING, 점유 만료된 PROCESSING)
+     * @param now 기준 시간
+     * @param pageable 배치 크기
+     * @return 삭제 대상 항목 리스트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM S3DeletionTask t WHERE t.status IN :statuses AND t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt")
+    List<S3DeletionTask> findDueForUpdate(@Param("statuses") Collection<S3DeletionStatus> statuses,
+                                          @Param("now") LocalDateTime now,
+                                          Pageable pageable);
+
+    long countByStatusIn(Collection<S3DeletionStatus> statuses);
+
+    /**
+     * 아직 삭제되지 않은 항목 중 가장 오래된 적재 시간 (대기열 지연 측정용)
+     */
+    @Query("SELECT MIN(t.createdAt) FROM S3DeletionTask t WHERE t.status IN :statuses")
+    LocalDateTime findOldestCreatedAt(@Param("statuses") Collection<S3DeletionStatus> statuses);
+}
@@ -0,0 +1,168 @@
+package com.example.chalpu.common.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 삭제 대기열 워커
+ * 삭제 시점이 도래한 항목을 점유해 DeleteObjects(최대 1000개 키) 한 번으로 삭제한다.
+ * 키별 에러나 호출 자체의 실패는 해당 항목만 재시도 대상으로 남긴다. (at-least-once, 이미 없는 키 삭제는 성공으로 처리됨)
+ */
+@Slf4j
+@Component
+public class S3DeletionWorker {
+
+    private final S3DeletionQueue deletionQueue;
+    private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
+    private final String bucket;
+    private final int maxBatchesPerPoll;
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+    public S3DeletionWorker(
+            S3DeletionQueue deletionQueue,
+            S3Client s3Client,
+            MeterRegistry meterRegistry,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${s3.deletion.max-batches-per-poll:10}") int maxBatchesPerPoll) {
+        this.deletionQueue = deletionQueue;
+        this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
+        this.bucket = bucket;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+
+        Gauge.builder("s3.deletion.queue.depth", outstanding, AtomicLong::get)
+                .description("삭제되지 않고 남아 있는 S3 삭제 대기열 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.queue.oldest_age", oldestAgeSeconds, AtomicLong::get)
+                .description("가장 오래 기다린 S3 삭제 대기열 항목의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${s3.deletion.poll-interval-millis:5000}")
+    public void drain() {
+        try {
+            for (int round = 0; round < maxBatchesPerPoll; round++) {
+                List<S3DeletionTask> batch = deletionQueue.claimDueBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                deleteBatch(batch);
+                if (batch.size() < deletionQueue.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            // 결과를 기록하지 못한 항목은 점유 만료 후 다시 처리된다.
+            log.error("event=s3_deletion_drain_failed, error_message={}", e.getMessage(), e);
+        } finally {
+            refreshQueueMetrics();
+        }
+    }
+
+    void deleteBatch(List<S3DeletionTask> batch) {
+        // 같은 키가 여러 번 적재되어 있을 수 있으므로 키 단위로 묶어 한 번만 요청
+        Map<String, List<S3DeletionTask>> tasksByKey = new LinkedHashMap<>();
+        batch.forEach(task -> tasksByKey.computeIfAbsent(task.getS3Key(), key -> new ArrayList<>()).add(task));
+
+        Map<String, String> errorsByKey = new HashMap<>();
+        long startNanos = System.nanoTime();
+        String outcome = "success";
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder()
+                            .objects(tasksByKey.keySet().stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build());
+            for (S3Error error : response.errors()) {
+                errorsByKey.put(error.key(), error.code() + ": " + error.message());
+            }
+            if (!errorsByKey.isEmpty()) {
+                outcome = "partial";
+            }
+        } catch (Exception e) {
+            outcome = "error";
+            tasksByKey.keySet().forEach(key -> errorsByKey.put(key, e.getMessage()));
+            log.warn("event=s3_delete_objects_failed, bucket={}, key_count={}, error_message={}",
+                    bucket, tasksByKey.size(), e.getMessage());
+        }
+        Timer.builder("s3.deletion.batch")
+                .description("DeleteObjects 호출 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        List<Long> deletedIds = new ArrayList<>();
+        Map<Long, String> errorsById = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        Timer lag = Timer.builder("s3.deletion.lag")
+                .description("S3 삭제 대기열 적재부터 실제 삭제까지 걸린 시간")
+                .register(meterRegistry);
+        tasksByKey.forEach((key, tasks) -> {
+            String error = errorsByKey.get(key);
+            for (S3DeletionTask task : tasks) {
+                if (error == null) {
+                    deletedIds.add(task.getId());
+                    if (task.getCreatedAt() != null) {
+                        lag.record(Duration.between(task.getCreatedAt(), now));
+                    }
+                } else {
+                    errorsById.put(task.getId(), error);
+                }
+            }
+        });
+        countObjects("deleted", deletedIds.size());
+        countObjects("error", errorsById.size());
+
+        deletionQueue.recordResult(deletedIds, errorsById);
+        log.info("event=s3_deletion_batch_processed, bucket={}, deleted_count={}, error_count={}",
+                bucket, deletedIds.size(), errorsById.size());
+    }
+
+    private void refreshQueueMetrics() {
+        try {
+            outstanding.set(deletionQueue.countOutstanding());
+            LocalDateTime oldest = deletionQueue.findOldestOutstandingCreatedAt();
+            oldestAgeSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()));
+        } catch (Exception e) {
+            log.warn("event=s3_deletion_metrics_refresh_failed, error_message={}", e.getMessage());
+        }
+    }
+
+    private void countObjects(String result, int count) {
+        if (count == 0) {
+            return;
+        }
+        Counter.builder("s3.deletion.objects")
+                .description("S3 삭제 대기열에서 처리된 항목 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.chalpu.fcm.domain;
+
+import com.example.chalpu.common.entity.BaseTimeEntity;
+import com.example.chalpu.fcm.dto.NotificationRequest;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 아웃박스 엔티티
+ * 호출 측 트랜잭션에서 저장되고, 스케줄 워커가 꺼내어 FCM으로 전송한다.
+ * 일시적 실패 시 실패한 사용자만 남겨 지수 백오프로 재시도한다.
+ */
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = @Index(name = "idx_notification_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    /**
+     * 전송 대상 사용자 ID (재시도 시 실패한 사용자로 축소)
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "target_user_ids", nullable = false)
+    private List<Long> targetUserIds;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "body", length = 1000)
+    private String body;
+
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "data")
+    private Map<String, String> data;
+
+    @Column(name = "priority", length = 10)
+    private String priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private NotificationOutboxStatus status;
+
+    /**
+     * 전송 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    /**
+     * 다음 전송 가능 시간 (PROCESSING 상태에서는 점유 만료 시간)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 누적 전송 성공 수
+     */
+    @Column(name = "success_count", nullable = false)
+    private Integer successCount;
+
+    /**
+     * 마지막 시도 기준 전송 실패 수
+     */
+    @Column(name = "failure_count", nullable = false)
+    private Integer failureCount;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static NotificationOutbox create(List<Long> userIds, NotificationRequest request) {
+        return NotificationOutbox.builder()
+                .targetUserIds(new ArrayList<>(userIds))
+                .title(request.getTitle())
+                .body(request.getBody())
+                .imageUrl(request.getImageUrl())
+                .data(request.getData() != null ? new HashMap<>(request.getData()) : new HashMap<>())
+                .priority(request.getPriority())
+                .status(NotificationOutboxStatus.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .successCount(0)
+                .failureCount(0)
+                .build();
+    }
+
+    public NotificationRequest toRequest() {
+        return NotificationRequest.builder()
+                .title(title)
+                .body(body)
+                .imageUrl(imageUrl)
+                .data(data != null ? new HashMap<>(data) : new HashMap<>())
+                .priority(priority)
+                .build();
+    }
+
+    /**
+     * 워커 점유
+     * 점유 만료 시간까지 결과가 기록되지 않으면 다른 워커가 다시 가져갈 수 있다.
+     */
+    public void claim(LocalDateTime leaseExpiresAt) {
+        this.status = NotificationOutboxStatus.PROCESSING;
+        this.attemptCount++;
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    public void markSent(int successCount, int failureCount) {
+        this.status = NotificationOutboxStatus.SENT;
+        this.successCount += successCount;
+        this.failureCount = failureCount;
+        this.sentAt = LocalDateTime.now();
+    }
+
+    public void scheduleRetry(List<Long> retryUserIds, LocalDateTime nextAttemptAt, int successCount, int failureCount, String lastError) {
+        this.status = NotificationOutboxStatus.PENDING;
+        this.targetUserIds = new ArrayList<>(retryUserIds);
+        this.nextAttemptAt = nextAttemptAt;
+        this.successCount += successCount;
+        this.failureCount = failureCount;
+        this.lastError = lastError;
+    }
+
+    public void markFailed(int successCount, int failureCount, String lastError) {
+        this.status = NotificationOutboxStatus.FAILED;
+        this.successCount += successCount;
+        this.failureCount = failureCount;
+        this.lastError = lastError;
+    }
+}
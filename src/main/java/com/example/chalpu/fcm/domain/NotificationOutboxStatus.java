@@ -0,0 +1,11 @@
+package com.example.chalpu.fcm.domain;
+
+/**
+ * 알림 아웃박스 처리 상태
+ */
+public enum NotificationOutboxStatus {
+    PENDING,     // 전송 대기 (재시도 대기 포함)
+    PROCESSING,  // 워커가 점유하여 전송 중
+    SENT,        // 전송 완료
+    FAILED       // 재시도 한도 초과 또는 전송 대상 없음
+}
@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(
-    name = "user_devices")
+    name = "user_devices",
+    // 만료 토큰 정리(WHERE is_active = true AND last_used_at < ? LIMIT ?)가 활성 행만 범위 탐색하도록 is_active를 선두 컬럼으로 둔다.
+    indexes = @Index(name = "idx_user_devices_active_last_used_at", columnList = "is_active, last_used_at"))
 @Getter
 @Builder
 @AllArgsConstructor
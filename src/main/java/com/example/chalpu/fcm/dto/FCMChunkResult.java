@@ -0,0 +1,15 @@
+package com.example.chalpu.fcm.dto;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 멀티캐스트 청크 단위 전송 결과
+ *
+ * @param successfulTokens 전송 성공한 토큰
+ * @param failedTokens     전송 실패한 토큰과 실패 코드 (코드를 알 수 없는 경우 null)
+ */
+public record FCMChunkResult(List<String> successfulTokens, Map<String, MessagingErrorCode> failedTokens) {
+}
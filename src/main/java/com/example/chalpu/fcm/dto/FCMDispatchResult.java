@@ -0,0 +1,50 @@
+package com.example.chalpu.fcm.dto;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * FCM 멀티캐스트 전체 전송 결과 (모든 청크 합산)
+ *
+ * @param successfulTokens 전송 성공한 토큰
+ * @param failedTokens     전송 실패한 토큰과 실패 코드 (코드를 알 수 없는 경우 null)
+ */
+public record FCMDispatchResult(List<String> successfulTokens, Map<String, MessagingErrorCode> failedTokens) {
+
+    public int successCount() {
+        return successfulTokens.size();
+    }
+
+    public int failureCount() {
+        return failedTokens.size();
+    }
+
+    /**
+     * 무효 토큰 (INVALID_ARGUMENT, UNREGISTERED)
+     */
+    public Set<String> invalidTokens() {
+        return failedTokens.entrySet().stream()
+                .filter(entry -> isInvalidTokenError(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    public static boolean isInvalidTokenError(MessagingErrorCode errorCode) {
+        return errorCode == MessagingErrorCode.INVALID_ARGUMENT ||
+               errorCode == MessagingErrorCode.UNREGISTERED;
+    }
+
+    /**
+     * 재시도 가능한 일시적 에러인지 확인 (코드를 알 수 없는 청크 실패·타임아웃 포함)
+     */
+    public static boolean isRetryableError(MessagingErrorCode errorCode) {
+        return errorCode == null ||
+               errorCode == MessagingErrorCode.UNAVAILABLE ||
+               errorCode == MessagingErrorCode.INTERNAL ||
+               errorCode == MessagingErrorCode.QUOTA_EXCEEDED;
+    }
+}
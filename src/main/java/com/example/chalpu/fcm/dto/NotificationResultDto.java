@@ -33,6 +33,11 @@ public class NotificationResultDto {
      */
     private int totalCount;
     
+    /**
+     * 아웃박스 ID (비동기 전송 요청인 경우)
+     */
+    private Long outboxId;
+    
     /**
      * 전송 결과 상세 메시지
      */
@@ -74,6 +79,17 @@ public class NotificationResultDto {
                 .build();
     }
     
+    /**
+     * 아웃박스 적재 결과 생성 (실제 전송은 비동기로 처리)
+     */
+    public static NotificationResultDto queued(Long outboxId, int targetCount) {
+        return NotificationResultDto.builder()
+                .totalCount(targetCount)
+                .outboxId(outboxId)
+                .details("알림 전송이 예약되었습니다.")
+                .build();
+    }
+    
     /**
      * 토픽 전송 결과 생성
      */
@@ -0,0 +1,53 @@
+package com.example.chalpu.fcm.repository;
+
+import com.example.chalpu.fcm.domain.NotificationOutbox;
+import com.example.chalpu.fcm.domain.NotificationOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 Repository
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 전송 시점이 도래한 아웃박스 조회 (행 잠금, 다른 워커가 잠근 행은 건너뜀)
+     * @param statuses 조회 대상 상태 (PENDING, 점유 만료된 PROCESSING)
+     * @param now 기준 시간
+     * @param pageable 배치 크기
+     * @return 전송 대상 아웃박스 리스트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.status IN :statuses AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<NotificationOutbox> findDueForUpdate(@Param("statuses") Collection<NotificationOutboxStatus> statuses,
+                                              @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+    /**
+     * 점유 연장 (점유가 만료되지 않았고, 그 사이 다른 워커가 다시 점유하지 않은 경우에만)
+     * @param attemptCount 점유 시점의 시도 횟수 (다시 점유되면 증가하므로 소유 확인에 사용)
+     * @return 연장된 행 수 (0이면 점유를 잃은 것)
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.nextAttemptAt = :leaseExpiresAt, o.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE o.id = :outboxId AND o.status = :status AND o.attemptCount = :attemptCount AND o.nextAttemptAt > :now")
+    int renewLease(@Param("outboxId") Long outboxId,
+                   @Param("status") NotificationOutboxStatus status,
+                   @Param("attemptCount") int attemptCount,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+}
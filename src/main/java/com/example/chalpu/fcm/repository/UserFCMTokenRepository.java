@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +64,16 @@ public interface UserFCMTokenRepository extends JpaRepository<UserFCMToken, Long
     @Query("SELECT t FROM UserFCMToken t WHERE t.lastUsedAt < :dateTime AND t.isActive = true")
     List<UserFCMToken> findTokensNotUsedSince(@Param("dateTime") LocalDateTime dateTime);
     
+    /**
+     * 마지막 사용 시간이 특정 기간 이전인 토큰들을 최대 limit개 삭제 (정리용)
+     * @param dateTime 기준 시간
+     * @param limit 한 번에 삭제할 최대 행 수
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_devices WHERE last_used_at < :dateTime AND is_active = true LIMIT :limit", nativeQuery = true)
+    int deleteTokensNotUsedSince(@Param("dateTime") LocalDateTime dateTime, @Param("limit") int limit);
+    
     /**
      * 특정 FCM 토큰 비활성화
      * @param fcmToken FCM 토큰
@@ -71,6 +82,26 @@ public interface UserFCMTokenRepository extends JpaRepository<UserFCMToken, Long
     @Query("UPDATE UserFCMToken t SET t.isActive = false WHERE t.fcmToken = :fcmToken")
     void deactivateByFcmToken(@Param("fcmToken") String fcmToken);
     
+    /**
+     * 여러 FCM 토큰 일괄 비활성화
+     * 호출 측에서 IN 절 파라미터 수가 과도하지 않도록 나누어 호출해야 한다.
+     * @param fcmTokens FCM 토큰 목록
+     * @return 비활성화된 행 수
+     */
+    @Modifying
+    @Query("UPDATE UserFCMToken t SET t.isActive = false WHERE t.fcmToken IN :fcmTokens AND t.isActive = true")
+    int deactivateByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
+    
+    /**
+     * 여러 토큰의 마지막 사용 시간 일괄 업데이트
+     * @param ids 토큰 ID 목록
+     * @param lastUsedAt 마지막 사용 시간
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE UserFCMToken t SET t.lastUsedAt = :lastUsedAt WHERE t.id IN :ids")
+    int updateLastUsedAtByIdIn(@Param("ids") Collection<Long> ids, @Param("lastUsedAt") LocalDateTime lastUsedAt);
+    
     /**
      * 사용자의 모든 토큰 비활성화
      * @param userId 사용자 ID
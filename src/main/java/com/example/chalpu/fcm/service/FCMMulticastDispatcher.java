@@ -0,0 +1,126 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.NotificationException;
+import com.example.chalpu.fcm.dto.FCMChunkResult;
+import com.example.chalpu.fcm.dto.FCMDispatchResult;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * FCM 멀티캐스트 병렬 전송기
+ * 토큰을 500개 단위 청크로 나누어 비동기로 전송하며, 동시에 처리 중인 청크 수를 제한한다.
+ * 제한 시간 안에 전송을 시작하지 못한 청크는 오류 코드 없이 실패로 집계되어 아웃박스 재시도 대상이 된다.
+ * DB 트랜잭션과 무관하게 동작하므로 호출 측은 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class FCMMulticastDispatcher {
+
+    // FCM 멀티캐스트 1회 최대 토큰 수
+    public static final int MAX_TOKENS_PER_MULTICAST = 500;
+
+    private final FCMSender fcmSender;
+    private final int maxInFlightChunks;
+    private final long timeoutSeconds;
+
+    public FCMMulticastDispatcher(
+            FCMSender fcmSender,
+            @Value("${fcm.dispatch.max-in-flight-chunks:4}") int maxInFlightChunks,
+            @Value("${fcm.dispatch.timeout-seconds:60}") long timeoutSeconds) {
+        this.fcmSender = fcmSender;
+        this.maxInFlightChunks = Math.max(1, maxInFlightChunks);
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * 토큰 목록으로 멀티캐스트 전송
+     * @param tokens         전송 대상 토큰
+     * @param messageFactory 청크별 메시지 생성 함수
+     * @return 모든 청크의 합산 결과
+     */
+    public FCMDispatchResult dispatch(List<String> tokens, Function<List<String>, MulticastMessage> messageFactory) {
+        List<List<String>> chunks = chunkList(tokens, MAX_TOKENS_PER_MULTICAST);
+        Semaphore inFlight = new Semaphore(maxInFlightChunks);
+        List<CompletableFuture<FCMChunkResult>> futures = new ArrayList<>(chunks.size());
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        try {
+            for (List<String> chunk : chunks) {
+                if (!inFlight.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    log.warn("event=fcm_dispatch_acquire_timeout, chunk_count={}, started_chunks={}",
+                            chunks.size(), futures.size());
+                    break;
+                }
+                futures.add(sendChunk(chunk, messageFactory).whenComplete((result, ex) -> inFlight.release()));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(ErrorMessage.NOTIFICATION_MULTIPLE_SEND_FAILED);
+        } catch (Exception e) {
+            // 개별 청크 실패는 아래에서 집계하고, 타임아웃 시 완료된 청크만 반영
+            log.error("event=fcm_dispatch_incomplete, chunk_count={}, error_message={}", chunks.size(), e.getMessage());
+        }
+
+        return aggregate(chunks, futures);
+    }
+
+    private CompletableFuture<FCMChunkResult> sendChunk(List<String> chunk, Function<List<String>, MulticastMessage> messageFactory) {
+        try {
+            return fcmSender.sendMulticastAsync(messageFactory.apply(chunk), chunk);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private FCMDispatchResult aggregate(List<List<String>> chunks, List<CompletableFuture<FCMChunkResult>> futures) {
+        List<String> successfulTokens = new ArrayList<>();
+        Map<String, MessagingErrorCode> failedTokens = new LinkedHashMap<>();
+        int failedChunks = 0;
+
+        for (int i = 0; i < chunks.size(); i++) {
+            // 전송을 시작하지 못한 청크는 future가 없다
+            CompletableFuture<FCMChunkResult> future = i < futures.size() ? futures.get(i) : null;
+            if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+                FCMChunkResult result = future.join();
+                successfulTokens.addAll(result.successfulTokens());
+                failedTokens.putAll(result.failedTokens());
+            } else {
+                failedChunks++;
+                chunks.get(i).forEach(token -> failedTokens.put(token, null));
+            }
+        }
+
+        if (!chunks.isEmpty() && failedChunks == chunks.size()) {
+            log.error("event=fcm_dispatch_failed, chunk_count={}", chunks.size());
+            throw new NotificationException(ErrorMessage.NOTIFICATION_MULTIPLE_SEND_FAILED);
+        }
+
+        return new FCMDispatchResult(successfulTokens, failedTokens);
+    }
+
+    /**
+     * 리스트를 지정된 크기로 분할
+     */
+    private <T> List<List<T>> chunkList(List<T> list, int chunkSize) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += chunkSize) {
+            chunks.add(list.subList(i, Math.min(i + chunkSize, list.size())));
+        }
+        return chunks;
+    }
+}
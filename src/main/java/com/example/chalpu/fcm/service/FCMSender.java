@@ -0,0 +1,27 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.dto.FCMChunkResult;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * FCM 전송 추상화
+ * 실제 Firebase 전송과 오프라인 벤치마크용 스텁을 교체할 수 있도록 분리
+ */
+public interface FCMSender {
+
+    /**
+     * 멀티캐스트 메시지 비동기 전송
+     * @param message 전송할 메시지
+     * @param tokens  메시지에 포함된 토큰 (응답 순서와 동일)
+     */
+    CompletableFuture<FCMChunkResult> sendMulticastAsync(MulticastMessage message, List<String> tokens);
+
+    /**
+     * 단일 메시지 전송 (토큰/토픽)
+     */
+    String send(Message message) throws Exception;
+}
@@ -0,0 +1,86 @@
+package com.example.chalpu.fcm.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 FCM 토큰 정리 작업
+ * 전체를 메모리에 올려 한 트랜잭션으로 지우지 않고, LIMIT이 걸린 DELETE를 배치마다 짧은 트랜잭션으로 반복한다.
+ * 배치 사이에 대기 시간을 두어 DB 부하와 잠금 점유를 분산한다.
+ */
+@Slf4j
+@Component
+public class FCMTokenCleanupJob {
+
+    private final FCMTokenService fcmTokenService;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Counter deletedCounter;
+    private final DistributionSummary batchSummary;
+
+    public FCMTokenCleanupJob(
+            FCMTokenService fcmTokenService,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.token-cleanup.retention-days:90}") int retentionDays,
+            @Value("${fcm.token-cleanup.batch-size:1000}") int batchSize,
+            @Value("${fcm.token-cleanup.pause-millis:200}") long pauseMillis) {
+        this.fcmTokenService = fcmTokenService;
+        this.retentionDays = retentionDays;
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMillis = pauseMillis;
+        this.deletedCounter = Counter.builder("fcm.token.cleanup.deleted")
+                .description("정리 작업으로 삭제된 FCM 토큰 수")
+                .register(meterRegistry);
+        this.batchSummary = DistributionSummary.builder("fcm.token.cleanup.batch.rows")
+                .description("정리 배치당 삭제된 FCM 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오래된 토큰 정리 (스케줄링)
+     * 보존 기간 이상 사용되지 않은 토큰들을 배치 단위로 삭제
+     */
+    @Scheduled(cron = "0 0 2 * * ?", zone = "Asia/Seoul")
+    public void cleanupOldTokens() {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
+        long totalDeleted = 0;
+        int batchCount = 0;
+
+        while (true) {
+            int deleted = fcmTokenService.purgeTokensNotUsedSince(cutoffDate, batchSize);
+            batchCount++;
+            totalDeleted += deleted;
+            deletedCounter.increment(deleted);
+            batchSummary.record(deleted);
+            log.debug("event=fcm_token_cleanup_batch, batch={}, deleted_count={}", batchCount, deleted);
+
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        log.info("event=fcm_token_cleanup_completed, batch_count={}, deleted_count={}, cutoff={}", batchCount, totalDeleted, cutoffDate);
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("event=fcm_token_cleanup_interrupted");
+            return false;
+        }
+    }
+}
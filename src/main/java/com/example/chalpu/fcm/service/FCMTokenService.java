@@ -8,13 +8,14 @@ import com.example.chalpu.fcm.dto.FCMTokenRequest;
 import com.example.chalpu.fcm.repository.UserFCMTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * FCM 토큰 관리 서비스
@@ -25,6 +26,9 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class FCMTokenService {
     
+    // IN 절 한 번에 바인딩할 최대 파라미터 수
+    private static final int BULK_PARAMETER_CHUNK_SIZE = 1000;
+    
     private final UserFCMTokenRepository tokenRepository;
     
     /**
@@ -77,21 +81,56 @@ public class FCMTokenService {
     }
     
     /**
-     * 오래된 토큰 정리 (스케줄링)
-     * 90일 이상 사용되지 않은 토큰들을 비활성화
+     * 오래된 토큰 한 배치 삭제
+     * FCMTokenCleanupJob에서 배치마다 호출되어 짧은 트랜잭션으로 처리
+     * @return 삭제된 토큰 수
      */
-    @Scheduled(cron = "0 0 2 * * ?",zone = "Asia/Seoul")
     @Transactional
-    public void cleanupOldTokens() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(90);
-        List<UserFCMToken> oldTokens = tokenRepository.findTokensNotUsedSince(cutoffDate);
-
-        if (!oldTokens.isEmpty()) {
-            tokenRepository.deleteAll(oldTokens);  // 진짜 삭제
-            log.info("오래된 FCM 토큰 삭제 완료 - 삭제된 토큰 수: {}", oldTokens.size());
+    public int purgeTokensNotUsedSince(LocalDateTime cutoffDate, int batchSize) {
+        return tokenRepository.deleteTokensNotUsedSince(cutoffDate, batchSize);
+    }
+    
+    /**
+     * 멀티캐스트 전송 결과 반영
+     * 무효 토큰을 제외한 토큰의 마지막 사용 시간을 갱신하고 무효 토큰은 비활성화
+     * 수신자 수와 관계없이 청크당 UPDATE 1회로 처리
+     */
+    @Transactional
+    public void applyDispatchResult(List<UserFCMToken> tokenEntities, Set<String> invalidTokens) {
+        List<Long> usedTokenIds = tokenEntities.stream()
+                .filter(token -> !invalidTokens.contains(token.getFcmToken()))
+                .map(UserFCMToken::getId)
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : partition(usedTokenIds)) {
+            tokenRepository.updateLastUsedAtByIdIn(chunk, now);
+        }
+        deactivateTokens(invalidTokens);
+    }
+    
+    /**
+     * 토큰 일괄 비활성화
+     */
+    @Transactional
+    public void deactivateTokens(Set<String> fcmTokens) {
+        int deactivatedCount = 0;
+        for (List<String> chunk : partition(List.copyOf(fcmTokens))) {
+            deactivatedCount += tokenRepository.deactivateByFcmTokenIn(chunk);
+        }
+        if (deactivatedCount > 0) {
+            log.info("event=fcm_tokens_deactivated, requested_count={}, deactivated_count={}", fcmTokens.size(), deactivatedCount);
         }
     }
     
+    /**
+     * 토큰 마지막 사용 시간 업데이트
+     */
+    @Transactional
+    public void updateTokenLastUsed(String fcmToken) {
+        tokenRepository.findByFcmTokenAndIsActiveTrue(fcmToken)
+                .ifPresent(UserFCMToken::updateLastUsed);
+    }
+    
     /**
      * 토큰 요청 유효성 검사
      */
@@ -101,4 +140,15 @@ public class FCMTokenService {
                request.getFcmToken() != null && !request.getFcmToken().trim().isEmpty() &&
                request.getDeviceType() != null && !request.getDeviceType().trim().isEmpty();
     }
+    
+    /**
+     * IN 절 파라미터 수 제한을 위한 분할
+     */
+    private static <T> List<List<T>> partition(List<T> list) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += BULK_PARAMETER_CHUNK_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + BULK_PARAMETER_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
 }
@@ -0,0 +1,80 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.dto.FCMChunkResult;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Firebase Admin SDK 기반 FCM 전송
+ */
+@Component
+@ConditionalOnProperty(name = "fcm.dispatch.stub-enabled", havingValue = "false", matchIfMissing = true)
+public class FirebaseFCMSender implements FCMSender {
+
+    @Override
+    public CompletableFuture<FCMChunkResult> sendMulticastAsync(MulticastMessage message, List<String> tokens) {
+        CompletableFuture<FCMChunkResult> result = new CompletableFuture<>();
+        ApiFuture<BatchResponse> future = FirebaseMessaging.getInstance().sendEachForMulticastAsync(message);
+
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(BatchResponse batchResponse) {
+                result.complete(toChunkResult(batchResponse, tokens));
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // 청크 전체 실패: 에러 코드를 알 수 있으면 토큰별 실패로 변환
+                if (t instanceof FirebaseMessagingException e) {
+                    Map<String, MessagingErrorCode> failedTokens = new LinkedHashMap<>();
+                    tokens.forEach(token -> failedTokens.put(token, e.getMessagingErrorCode()));
+                    result.complete(new FCMChunkResult(List.of(), failedTokens));
+                } else {
+                    result.completeExceptionally(t);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+
+        return result;
+    }
+
+    @Override
+    public String send(Message message) throws FirebaseMessagingException {
+        return FirebaseMessaging.getInstance().send(message);
+    }
+
+    private FCMChunkResult toChunkResult(BatchResponse batchResponse, List<String> tokens) {
+        List<String> successfulTokens = new ArrayList<>();
+        Map<String, MessagingErrorCode> failedTokens = new LinkedHashMap<>();
+
+        List<SendResponse> responses = batchResponse.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse response = responses.get(i);
+            String token = tokens.get(i);
+            if (response.isSuccessful()) {
+                successfulTokens.add(token);
+            } else {
+                FirebaseMessagingException exception = response.getException();
+                failedTokens.put(token, exception != null ? exception.getMessagingErrorCode() : null);
+            }
+        }
+        return new FCMChunkResult(successfulTokens, failedTokens);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.domain.NotificationOutbox;
+import com.example.chalpu.fcm.domain.NotificationOutboxStatus;
+import com.example.chalpu.fcm.dto.NotificationRequest;
+import com.example.chalpu.fcm.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 관리 서비스
+ * 아웃박스 적재, 워커 점유, 전송 결과 반영(재시도 스케줄링)을 각각 짧은 트랜잭션으로 처리
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class NotificationOutboxService {
+
+    private static final List<NotificationOutboxStatus> CLAIMABLE_STATUSES =
+            List.of(NotificationOutboxStatus.PENDING, NotificationOutboxStatus.PROCESSING);
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public NotificationOutboxService(
+            NotificationOutboxRepository outboxRepository,
+            @Value("${fcm.outbox.batch-size:50}") int batchSize,
+            @Value("${fcm.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${fcm.outbox.backoff-initial-seconds:5}") long initialBackoffSeconds,
+            @Value("${fcm.outbox.backoff-max-seconds:600}") long maxBackoffSeconds,
+            @Value("${fcm.outbox.lease-seconds:300}") long leaseSeconds,
+            @Value("${fcm.dispatch.timeout-seconds:60}") long dispatchTimeoutSeconds) {
+        // 점유는 아웃박스마다 전송 직전에 연장되므로, 한 건의 전송 제한 시간보다 길기만 하면 된다.
+        if (leaseSeconds <= dispatchTimeoutSeconds) {
+            throw new IllegalStateException("fcm.outbox.lease-seconds(" + leaseSeconds
+                    + ") must be greater than fcm.dispatch.timeout-seconds(" + dispatchTimeoutSeconds + ")");
+        }
+        this.outboxRepository = outboxRepository;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 아웃박스 적재 (호출 측 트랜잭션에 참여)
+     * @return 아웃박스 ID
+     */
+    @Transactional
+    public Long enqueue(List<Long> userIds, NotificationRequest request) {
+        NotificationOutbox outbox = outboxRepository.save(NotificationOutbox.create(userIds, request));
+        log.info("event=notification_outbox_enqueued, outbox_id={}, target_count={}", outbox.getId(), userIds.size());
+        return outbox.getId();
+    }
+
+    /**
+     * 전송 시점이 도래한 아웃박스를 배치 크기만큼 점유
+     */
+    @Transactional
+    public List<NotificationOutbox> claimDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> batch = outboxRepository.findDueForUpdate(CLAIMABLE_STATUSES, now, PageRequest.of(0, batchSize));
+        batch.forEach(outbox -> outbox.claim(now.plus(lease)));
+        return batch;
+    }
+
+    /**
+     * 전송 직전 점유 연장
+     * 배치의 앞선 아웃박스 전송이 길어져 점유가 만료됐거나 다른 워커가 다시 점유했다면 false (중복 전송 방지)
+     */
+    @Transactional
+    public boolean renewLease(NotificationOutbox outbox) {
+        LocalDateTime now = LocalDateTime.now();
+        int renewed = outboxRepository.renewLease(outbox.getId(), NotificationOutboxStatus.PROCESSING,
+                outbox.getAttemptCount(), now, now.plus(lease));
+        return renewed > 0;
+    }
+
+    /**
+     * 전송 결과 반영
+     * 재시도 대상 사용자가 없으면 완료, 있으면 지수 백오프로 재시도 예약, 시도 한도를 넘으면 실패 처리
+     */
+    @Transactional
+    public void recordResult(Long outboxId, int successCount, int failureCount, Collection<Long> retryUserIds, String lastError) {
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null) {
+            log.warn("event=notification_outbox_missing, outbox_id={}", outboxId);
+            return;
+        }
+
+        if (retryUserIds.isEmpty()) {
+            outbox.markSent(successCount, failureCount);
+            log.info("event=notification_outbox_sent, outbox_id={}, success_count={}, failure_count={}",
+                    outboxId, successCount, failureCount);
+        } else if (outbox.getAttemptCount() >= maxAttempts) {
+            outbox.markFailed(successCount, failureCount, lastError);
+            log.error("event=notification_outbox_failed, outbox_id={}, attempt_count={}, error_message={}",
+                    outboxId, outbox.getAttemptCount(), lastError);
+        } else {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(outbox.getAttemptCount()));
+            outbox.scheduleRetry(List.copyOf(retryUserIds), nextAttemptAt, successCount, failureCount, lastError);
+            log.warn("event=notification_outbox_retry_scheduled, outbox_id={}, attempt_count={}, retry_user_count={}, next_attempt_at={}",
+                    outboxId, outbox.getAttemptCount(), retryUserIds.size(), nextAttemptAt);
+        }
+    }
+
+    /**
+     * 재시도 없이 실패 처리 (전송 대상 토큰 없음 등)
+     */
+    @Transactional
+    public void markFailed(Long outboxId, String reason) {
+        outboxRepository.findById(outboxId).ifPresent(outbox -> {
+            outbox.markFailed(0, 0, reason);
+            log.warn("event=notification_outbox_failed, outbox_id={}, error_message={}", outboxId, reason);
+        });
+    }
+
+    /**
+     * 지수 백오프 (초기값 * 2^(시도횟수-1), 최대값 제한)
+     */
+    Duration backoff(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
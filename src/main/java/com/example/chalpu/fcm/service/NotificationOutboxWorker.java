@@ -0,0 +1,103 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.common.exception.NotificationException;
+import com.example.chalpu.fcm.domain.NotificationOutbox;
+import com.example.chalpu.fcm.domain.UserFCMToken;
+import com.example.chalpu.fcm.dto.FCMDispatchResult;
+import com.example.chalpu.fcm.repository.UserFCMTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 전송 워커
+ * 전송 시점이 도래한 아웃박스를 배치로 점유하고, 대상 사용자의 토큰을 한 번에 조회해 멀티캐스트로 전송한다.
+ * 일시적 에러(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED)로 실패한 사용자만 재시도 대상으로 남긴다. (at-least-once)
+ * 배치 전체가 하나의 점유 시간 안에 끝난다는 보장이 없으므로, 아웃박스마다 전송 직전에 점유를 연장하고
+ * 점유를 잃은 아웃박스는 다른 워커에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWorker {
+
+    // IN 절 한 번에 바인딩할 최대 사용자 수
+    private static final int USER_ID_CHUNK_SIZE = 1000;
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationService notificationService;
+    private final UserFCMTokenRepository tokenRepository;
+
+    @Scheduled(fixedDelayString = "${fcm.outbox.poll-interval-millis:1000}")
+    public void drain() {
+        List<NotificationOutbox> batch = outboxService.claimDueBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<UserFCMToken>> tokensByUserId = findActiveTokensByUserIds(batch);
+        for (NotificationOutbox outbox : batch) {
+            try {
+                if (!outboxService.renewLease(outbox)) {
+                    log.warn("event=notification_outbox_lease_lost, outbox_id={}, attempt_count={}",
+                            outbox.getId(), outbox.getAttemptCount());
+                    continue;
+                }
+                deliver(outbox, tokensByUserId);
+            } catch (Exception e) {
+                // 결과를 기록하지 못한 아웃박스는 점유 만료 후 다시 처리된다.
+                log.error("event=notification_outbox_deliver_failed, outbox_id={}, error_message={}", outbox.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void deliver(NotificationOutbox outbox, Map<Long, List<UserFCMToken>> tokensByUserId) {
+        List<UserFCMToken> tokens = outbox.getTargetUserIds().stream()
+                .flatMap(userId -> tokensByUserId.getOrDefault(userId, List.of()).stream())
+                .toList();
+        if (tokens.isEmpty()) {
+            outboxService.markFailed(outbox.getId(), "활성화된 FCM 토큰이 없습니다.");
+            return;
+        }
+
+        try {
+            FCMDispatchResult result = notificationService.dispatchToTokens(tokens, outbox.toRequest());
+            Map<String, Long> userIdByToken = tokens.stream()
+                    .collect(Collectors.toMap(UserFCMToken::getFcmToken, UserFCMToken::getUserId, (first, second) -> first));
+            Set<Long> retryUserIds = result.failedTokens().entrySet().stream()
+                    .filter(entry -> FCMDispatchResult.isRetryableError(entry.getValue()))
+                    .map(entry -> userIdByToken.get(entry.getKey()))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            outboxService.recordResult(outbox.getId(), result.successCount(), result.failureCount(), retryUserIds,
+                    retryUserIds.isEmpty() ? null : "일시적 FCM 전송 실패");
+        } catch (NotificationException e) {
+            // 모든 청크 전송 실패
+            outboxService.recordResult(outbox.getId(), 0, tokens.size(), outbox.getTargetUserIds(), e.getMessage());
+        }
+    }
+
+    private Map<Long, List<UserFCMToken>> findActiveTokensByUserIds(List<NotificationOutbox> batch) {
+        List<Long> userIds = new ArrayList<>(batch.stream()
+                .flatMap(outbox -> outbox.getTargetUserIds().stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        Map<Long, List<UserFCMToken>> tokensByUserId = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i += USER_ID_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(i, Math.min(i + USER_ID_CHUNK_SIZE, userIds.size()));
+            tokenRepository.findActiveTokensByUserIds(chunk)
+                    .forEach(token -> tokensByUserId.computeIfAbsent(token.getUserId(), id -> new ArrayList<>()).add(token));
+        }
+        return tokensByUserId;
+    }
+}
@@ -2,12 +2,11 @@ package com.example.chalpu.fcm.service;
 
 import com.example.chalpu.common.exception.ErrorMessage;
 import com.example.chalpu.common.exception.NotificationException;
-import com.example.chalpu.fcm.domain.DeviceType;
+import com.example.chalpu.fcm.dto.FCMDispatchResult;
 import com.example.chalpu.fcm.dto.NotificationRequest;
 import com.example.chalpu.fcm.dto.NotificationResultDto;
 import com.example.chalpu.fcm.domain.UserFCMToken;
 import com.example.chalpu.fcm.repository.UserFCMTokenRepository;
-import com.google.firebase.FirebaseApp;
 import com.google.firebase.messaging.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,77 +14,56 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.ArrayList;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * 알림 전송 서비스
  * FCM을 통한 푸시 알림 전송을 담당하는 서비스
+ * 사용자 대상 알림은 아웃박스에 적재하고 NotificationOutboxWorker가 비동기로 전송한다.
+ * FCM 전송 중에는 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 전송하고,
+ * 토큰 상태 반영은 전송 완료 후 FCMTokenService의 짧은 트랜잭션에서 처리한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class NotificationService {
     
     private final UserFCMTokenRepository tokenRepository;
+    private final FCMTokenService fcmTokenService;
+    private final FCMMulticastDispatcher multicastDispatcher;
+    private final FCMSender fcmSender;
+    private final NotificationOutboxService outboxService;
     
     /**
      * 단일 사용자에게 알림 전송
+     * 호출 측 트랜잭션에서 아웃박스에 적재하고 즉시 반환하며, 실제 전송은 NotificationOutboxWorker가 수행
      */
+    @Transactional
     public NotificationResultDto sendNotificationToUser(Long userId, NotificationRequest request) {
-        if (!isFirebaseInitialized()) {
-            log.error("Firebase가 초기화되지 않았습니다. FCM 기능을 사용할 수 없습니다.");
-            throw new NotificationException(ErrorMessage.NOTIFICATION_SERVICE_UNAVAILABLE);
+        if (!tokenRepository.existsByUserIdAndIsActiveTrue(userId)) {
+            log.error("사용자 {}의 활성화된 FCM 토큰이 없습니다.", userId);
+            throw new NotificationException(ErrorMessage.NOTIFICATION_USER_NO_TOKENS);
         }
         
-        try {
-            List<UserFCMToken> tokens = tokenRepository.findActiveTokensByUserId(userId);
-            
-            if (tokens.isEmpty()) {
-                log.error("사용자 {}의 활성화된 FCM 토큰이 없습니다.", userId);
-                throw new NotificationException(ErrorMessage.NOTIFICATION_USER_NO_TOKENS);
-            }
-            
-            List<String> tokenStrings = tokens.stream()
-                    .map(UserFCMToken::getFcmToken)
-                    .collect(Collectors.toList());
-            
-            return sendMulticastNotification(tokenStrings, request, tokens);
-            
-        } catch (NotificationException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("사용자 {}에게 알림 전송 실패: {}", userId, e.getMessage());
-            throw new NotificationException(ErrorMessage.NOTIFICATION_SEND_FAILED);
-        }
+        Long outboxId = outboxService.enqueue(List.of(userId), request);
+        return NotificationResultDto.queued(outboxId, 1);
     }
     
     /**
      * 여러 사용자에게 알림 전송
+     * 호출 측 트랜잭션에서 아웃박스에 적재하고 즉시 반환
      */
+    @Transactional
     public NotificationResultDto sendNotificationToUsers(List<Long> userIds, NotificationRequest request) {
-        try {
-            List<UserFCMToken> tokens = tokenRepository.findActiveTokensByUserIds(userIds);
-            
-            if (tokens.isEmpty()) {
-                log.error("지정된 사용자들의 활성화된 FCM 토큰이 없습니다.");
-                throw new NotificationException(ErrorMessage.NOTIFICATION_USER_NO_TOKENS);
-            }
-            
-            List<String> tokenStrings = tokens.stream()
-                    .map(UserFCMToken::getFcmToken)
-                    .collect(Collectors.toList());
-            
-            return sendMulticastNotification(tokenStrings, request, tokens);
-            
-        } catch (NotificationException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("여러 사용자에게 알림 전송 실패: {}", e.getMessage());
-            throw new NotificationException(ErrorMessage.NOTIFICATION_MULTIPLE_SEND_FAILED);
+        if (userIds == null || userIds.isEmpty()) {
+            log.error("알림 전송 대상 사용자가 없습니다.");
+            throw new NotificationException(ErrorMessage.NOTIFICATION_USER_NO_TOKENS);
         }
+        
+        List<Long> distinctUserIds = userIds.stream().distinct().toList();
+        Long outboxId = outboxService.enqueue(distinctUserIds, request);
+        return NotificationResultDto.queued(outboxId, distinctUserIds.size());
     }
     
     /**
@@ -102,12 +80,12 @@ public class NotificationService {
                     .setApnsConfig(buildApnsConfig(request))
                     .build();
             
-            String response = FirebaseMessaging.getInstance().send(message);
+            String response = fcmSender.send(message);
             log.info("토픽 {} 알림 전송 성공: {}", topic, response);
             
             return NotificationResultDto.topicResult(topic);
             
-        } catch (FirebaseMessagingException e) {
+        } catch (Exception e) {
             log.error("토픽 {} 알림 전송 실패: {}", topic, e.getMessage());
             throw new NotificationException(ErrorMessage.NOTIFICATION_TOPIC_SEND_FAILED);
         }
@@ -126,13 +104,8 @@ public class NotificationService {
                     .setApnsConfig(buildApnsConfig(request))
                     .build();
             
-            String response = FirebaseMessaging.getInstance().send(message);
+            String response = fcmSender.send(message);
             log.info("FCM 토큰 알림 전송 성공: {}", response);
-            
-            updateTokenLastUsed(fcmToken);
-            
-            return NotificationResultDto.singleSuccess();
-            
         } catch (FirebaseMessagingException e) {
             log.error("FCM 토큰 알림 전송 실패: {}", e.getMessage());
             
@@ -140,49 +113,59 @@ public class NotificationService {
                 deactivateToken(fcmToken);
             }
             
+            throw new NotificationException(ErrorMessage.NOTIFICATION_TOKEN_SEND_FAILED);
+        } catch (Exception e) {
+            log.error("FCM 토큰 알림 전송 실패: {}", e.getMessage());
             throw new NotificationException(ErrorMessage.NOTIFICATION_TOKEN_SEND_FAILED);
         }
+
+        // 전송은 이미 성공했으므로 사용 시각 갱신 실패는 전송 실패로 보고하지 않는다
+        try {
+            updateTokenLastUsed(fcmToken);
+        } catch (Exception e) {
+            log.warn("event=fcm_token_last_used_update_failed, error_message={}", e.getMessage());
+        }
+        
+        return NotificationResultDto.singleSuccess();
     }
     
     /**
-     * 다중 토큰으로 알림 전송 (내부 메서드)
+     * 다중 토큰으로 알림 전송 (아웃박스 워커에서 호출)
+     * 청크 단위로 병렬 전송한 뒤, 토큰 상태는 한 번의 짧은 트랜잭션으로 반영
      */
-    private NotificationResultDto sendMulticastNotification(List<String> tokens, NotificationRequest request, List<UserFCMToken> tokenEntities) {
-        try {
-            List<List<String>> tokenChunks = chunkList(tokens, 500);
-            int totalSuccess = 0;
-            int totalFailure = 0;
-            List<String> invalidTokens = new ArrayList<>();
-            
-            for (List<String> chunk : tokenChunks) {
-                MulticastMessage message = MulticastMessage.builder()
-                        .setNotification(buildNotification(request))
-                        .putAllData(request.getData())
-                        .addAllTokens(chunk)
-                        .setAndroidConfig(buildAndroidConfig(request))
-                        .setApnsConfig(buildApnsConfig(request))
-                        .build();
-                
-                BatchResponse batchResponse = FirebaseMessaging.getInstance().sendEachForMulticast(message);
-                totalSuccess += batchResponse.getSuccessCount();
-                totalFailure += batchResponse.getFailureCount();
-                
-                processFailedTokens(batchResponse, chunk, invalidTokens);
+    public FCMDispatchResult dispatchToTokens(List<UserFCMToken> tokenEntities, NotificationRequest request) {
+        List<String> tokens = tokenEntities.stream()
+                .map(UserFCMToken::getFcmToken)
+                .collect(Collectors.toList());
+        FCMDispatchResult dispatchResult = multicastDispatcher.dispatch(tokens, chunk -> buildMulticastMessage(chunk, request));
+        dispatchResult.failedTokens().forEach((token, errorCode) -> {
+            if (FCMDispatchResult.isInvalidTokenError(errorCode)) {
+                log.error("무효한 토큰 발견: {}", token);
+            } else {
+                log.error("토큰 {} 전송 실패: {}", token, errorCode);
             }
-            
-            updateSuccessfulTokensLastUsed(tokenEntities, invalidTokens);
-            deactivateInvalidTokens(invalidTokens);
-            
-            log.info("알림 전송 완료 - 성공: {}, 실패: {}, 무효 토큰: {}", 
-                    totalSuccess, totalFailure, invalidTokens.size());
-            
-            return NotificationResultDto.multipleResult(totalSuccess, totalFailure, 
-                    String.format("성공: %d, 실패: %d", totalSuccess, totalFailure));
-            
-        } catch (FirebaseMessagingException e) {
-            log.error("다중 알림 전송 실패: {}", e.getMessage());
-            throw new NotificationException(ErrorMessage.NOTIFICATION_MULTIPLE_SEND_FAILED);
-        }
+        });
+
+        Set<String> invalidTokens = dispatchResult.invalidTokens();
+        fcmTokenService.applyDispatchResult(tokenEntities, invalidTokens);
+
+        log.info("알림 전송 완료 - 성공: {}, 실패: {}, 무효 토큰: {}", 
+                dispatchResult.successCount(), dispatchResult.failureCount(), invalidTokens.size());
+        
+        return dispatchResult;
+    }
+    
+    /**
+     * 멀티캐스트 메시지 생성
+     */
+    private MulticastMessage buildMulticastMessage(List<String> tokens, NotificationRequest request) {
+        return MulticastMessage.builder()
+                .setNotification(buildNotification(request))
+                .putAllData(request.getData())
+                .addAllTokens(tokens)
+                .setAndroidConfig(buildAndroidConfig(request))
+                .setApnsConfig(buildApnsConfig(request))
+                .build();
     }
     
     /**
@@ -231,84 +214,31 @@ public class NotificationService {
         return AndroidConfig.Priority.NORMAL;
     }
     
-    /**
-     * 실패한 토큰들 처리
-     */
-    private void processFailedTokens(BatchResponse batchResponse, List<String> tokens, List<String> invalidTokens) {
-        List<SendResponse> responses = batchResponse.getResponses();
-        for (int i = 0; i < responses.size(); i++) {
-            SendResponse response = responses.get(i);
-            if (!response.isSuccessful()) {
-                String token = tokens.get(i);
-                FirebaseMessagingException exception = response.getException();
-                
-                if (isInvalidTokenError(exception)) {
-                    invalidTokens.add(token);
-                    log.error("무효한 토큰 발견: {}", token);
-                } else {
-                    log.error("토큰 {} 전송 실패: {}", token, exception.getMessage());
-                }
-            }
-        }
-    }
-    
     /**
      * 무효한 토큰 에러인지 확인
      */
     private boolean isInvalidTokenError(FirebaseMessagingException e) {
-        return e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT ||
-               e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED;
-    }
-    
-    /**
-     * 성공한 토큰들의 마지막 사용 시간 업데이트
-     */
-    private void updateSuccessfulTokensLastUsed(List<UserFCMToken> tokenEntities, List<String> invalidTokens) {
-        tokenEntities.stream()
-                .filter(token -> !invalidTokens.contains(token.getFcmToken()))
-                .forEach(UserFCMToken::updateLastUsed);
+        return FCMDispatchResult.isInvalidTokenError(e.getMessagingErrorCode());
     }
     
     /**
      * 무효한 토큰들 비활성화
      */
     public void deactivateInvalidTokens(List<String> invalidTokens) {
-        for (String token : invalidTokens) {
-            deactivateToken(token);
-        }
+        fcmTokenService.deactivateTokens(Set.copyOf(invalidTokens));
     }
     
     /**
      * 특정 토큰 비활성화
      */
     public void deactivateToken(String fcmToken) {
-        tokenRepository.deactivateByFcmToken(fcmToken);
-        log.info("FCM 토큰 비활성화: {}", fcmToken.substring(0, Math.min(20, fcmToken.length())) + "...");
+        fcmTokenService.deactivateTokens(Set.of(fcmToken));
     }
     
     /**
      * 토큰 마지막 사용 시간 업데이트
      */
     public void updateTokenLastUsed(String fcmToken) {
-        tokenRepository.findByFcmTokenAndIsActiveTrue(fcmToken)
-                .ifPresent(UserFCMToken::updateLastUsed);
-    }
-    
-    /**
-     * 리스트를 지정된 크기로 분할
-     */
-    private <T> List<List<T>> chunkList(List<T> list, int chunkSize) {
-        List<List<T>> chunks = new ArrayList<>();
-        for (int i = 0; i < list.size(); i += chunkSize) {
-            chunks.add(list.subList(i, Math.min(i + chunkSize, list.size())));
-        }
-        return chunks;
-    }
-    
-    /**
-     * Firebase 초기화 상태 확인
-     */
-    private boolean isFirebaseInitialized() {
-        return !FirebaseApp.getApps().isEmpty();
+        fcmTokenService.updateTokenLastUsed(fcmToken);
     }
 }
@@ -0,0 +1,88 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.dto.FCMChunkResult;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오프라인 벤치마크용 FCM 스텁
+ * Firebase 호출 없이 지정된 지연 후 응답하며, "invalid-"로 시작하는 토큰은 UNREGISTERED로 실패 처리한다.
+ * fcm.dispatch.stub-enabled=true 일 때만 등록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.dispatch.stub-enabled", havingValue = "true")
+public class StubFCMSender implements FCMSender, DisposableBean {
+
+    public static final String INVALID_TOKEN_PREFIX = "invalid-";
+
+    private final long latencyMillis;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    public StubFCMSender(@Value("${fcm.dispatch.stub-latency-millis:50}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        log.warn("FCM 스텁 전송기가 활성화되었습니다. 실제 알림은 전송되지 않습니다.");
+    }
+
+    @Override
+    public CompletableFuture<FCMChunkResult> sendMulticastAsync(MulticastMessage message, List<String> tokens) {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+
+        CompletableFuture<FCMChunkResult> result = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            inFlight.decrementAndGet();
+            result.complete(toChunkResult(tokens));
+        }, latencyMillis, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    @Override
+    public String send(Message message) {
+        return "stub-" + UUID.randomUUID();
+    }
+
+    /**
+     * 동시에 처리 중이던 청크 수의 최대값
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private FCMChunkResult toChunkResult(List<String> tokens) {
+        List<String> successfulTokens = new ArrayList<>();
+        Map<String, MessagingErrorCode> failedTokens = new LinkedHashMap<>();
+        for (String token : tokens) {
+            if (token.startsWith(INVALID_TOKEN_PREFIX)) {
+                failedTokens.put(token, MessagingErrorCode.UNREGISTERED);
+            } else {
+                successfulTokens.add(token);
+            }
+        }
+        return new FCMChunkResult(successfulTokens, failedTokens);
+    }
+}
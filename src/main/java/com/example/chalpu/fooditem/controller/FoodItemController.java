@@ -93,7 +93,8 @@ public class FoodItemController {
     @GetMapping("/store/{storeId}/search")
     @Operation(
         summary = "음식 검색",
-        description = "매장 내에서 음식명으로 검색합니다."
+        description = "매장 내에서 음식명, 재료, 설명으로 검색합니다. 두 글자 이상 검색어는 띄어쓰기 차이와 한 글자 오타를 허용하며 "
+                + "음식명 일치를 우선한 관련도순으로 반환합니다. 정렬(sort)을 지정하거나 검색어가 한 글자면 음식명 포함 여부로만 검색합니다."
     )
     public ApiResponse<PageResponse<FoodItemResponse>> searchFoodItems(
             @PathVariable @Parameter(description = "매장 ID") Long storeId,
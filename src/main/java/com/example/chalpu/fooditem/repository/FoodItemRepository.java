@@ -2,13 +2,16 @@ package com.example.chalpu.fooditem.repository;
 
 import com.example.chalpu.fooditem.domain.FoodItem;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,6 +21,10 @@ public interface FoodItemRepository extends JpaRepository<FoodItem, Long> {
     @Query("SELECT fi FROM FoodItem fi WHERE fi.store.id = :storeId AND fi.isActive = true")
     Page<FoodItem> findByStoreIdAndIsActiveTrueWithoutJoin(@Param("storeId") Long storeId, Pageable pageable);
 
+    // 음식 검색 색인 구성용 매장의 전체 활성 음식 (Fetch Join 없음)
+    @Query("SELECT fi FROM FoodItem fi WHERE fi.store.id = :storeId AND fi.isActive = true")
+    List<FoodItem> findAllByStoreIdAndIsActiveTrueWithoutJoin(@Param("storeId") Long storeId);
+
     // Fetch Join 없이 검색하기 위한 새로운 메서드
     @Query("SELECT fi FROM FoodItem fi WHERE fi.store.id = :storeId AND fi.isActive = true AND fi.foodName LIKE %:foodName%")
     Page<FoodItem> findByStoreIdAndIsActiveTrueAndFoodNameContainingWithoutJoin(@Param("storeId") Long storeId, @Param("foodName") String foodName, Pageable pageable);
@@ -32,4 +39,22 @@ public interface FoodItemRepository extends JpaRepository<FoodItem, Long> {
     // 권한 검증용 - storeId만 조회
     @Query("SELECT fi.store.id FROM FoodItem fi WHERE fi.id = :id AND fi.isActive = true")
     Optional<Long> findStoreIdByFoodItemId(@Param("id") Long id);
-} 
\ No newline at end of file
+
+    /**
+     * Store 삭제 시 매장의 음식 소프트 딜리트 (UPDATE 1회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE FoodItem f SET f.isActive = false, f.updatedAt = CURRENT_TIMESTAMP WHERE f.store.id = :storeId AND f.isActive = true")
+    int softDeleteByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * Store 삭제 청크 처리 - 최대 limit 행만 소프트 딜리트 (호출마다 별도 트랜잭션)
+     * @return 변경된 행 수 (limit보다 작으면 남은 행 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE food_items SET is_active = false, updated_at = NOW() "
+            + "WHERE store_id = :storeId AND is_active = true LIMIT :limit", nativeQuery = true)
+    int softDeleteChunkByStoreId(@Param("storeId") Long storeId, @Param("limit") int limit);
+}
@@ -0,0 +1,355 @@
+package com.example.chalpu.fooditem.service;
+
+import com.example.chalpu.common.cache.LocalCache;
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.fooditem.domain.FoodItem;
+import com.example.chalpu.fooditem.dto.FoodItemResponse;
+import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매장별 음식 검색용 바이그램 색인 (storeId -> 색인)
+ * 음식 이름, 재료, 설명을 공백/문장부호를 제거한 뒤 두 글자 단위로 색인한다. (예: 김치찌개 -> 김치, 치찌, 찌개)
+ * 검색어 바이그램의 절반 이상이 일치하는 음식을 필드 가중치 합으로 순위를 매기므로, 띄어쓰기 차이나 한 글자 오타도 검색된다.
+ * 매장 색인은 처음 검색될 때 구성하고, 이 인스턴스의 음식 변경은 커밋 이후 음식 단위로 반영한다.
+ * 다른 인스턴스의 변경은 캐시 만료 후 다시 구성될 때 반영된다.
+ */
+@Slf4j
+@Component
+public class FoodItemSearchIndex {
+
+    static final float FOOD_NAME_WEIGHT = 3.0f;
+    static final float INGREDIENTS_WEIGHT = 1.5f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+    // 검색어가 음식 이름에 그대로 포함될 때 추가 점수
+    static final float EXACT_NAME_BONUS = 5.0f;
+    // 결과에 포함되기 위해 일치해야 하는 검색어 바이그램 비율
+    static final float MIN_MATCH_RATIO = 0.5f;
+
+    private static final Comparator<ScoredDocument> RANKING = Comparator
+            .comparingDouble(ScoredDocument::score)
+            .thenComparing(scored -> scored.foodItem().getFoodItemId());
+
+    private record ScoredDocument(FoodItemResponse foodItem, float score) {
+    }
+
+    private final FoodItemRepository foodItemRepository;
+    private final LocalCache<Long, StoreIndex> indexes;
+    private final Timer searchTimer;
+
+    public FoodItemSearchIndex(
+            FoodItemRepository foodItemRepository,
+            MeterRegistry meterRegistry,
+            @Value("${fooditem.search.max-stores:500}") int maximumStores,
+            @Value("${fooditem.search.ttl-seconds:1800}") long ttlSeconds) {
+        this.foodItemRepository = foodItemRepository;
+        this.indexes = new LocalCache<Long, StoreIndex>("fooditem.search", maximumStores, Duration.ofSeconds(ttlSeconds))
+                .bindTo(meterRegistry);
+        this.searchTimer = Timer.builder("fooditem.search.latency")
+                .description("음식 검색 색인 조회 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색어가 색인으로 검색 가능한지 (정규화 후 두 글자 이상)
+     */
+    public static boolean isSearchable(String keyword) {
+        return normalize(keyword).length() >= 2;
+    }
+
+    /**
+     * 매장의 활성 음식 검색 (점수 내림차순, 동점이면 최신 음식 우선)
+     */
+    public PageResponse<FoodItemResponse> search(Long storeId, String keyword, Pageable pageable) {
+        StoreIndex index = indexes.get(storeId, this::load);
+        return searchTimer.record(() -> index.search(keyword, pageable));
+    }
+
+    /**
+     * 음식 변경 반영 (트랜잭션 안에서 호출되면 트랜잭션이 끝난 뒤 반영)
+     * 롤백된 경우에도 확정된 행을 다시 읽어, 같은 트랜잭션의 검색이 미확정 데이터로 구성한 항목을 되돌린다.
+     */
+    public void refreshAfterCommit(Long storeId, Long foodItemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(storeId, foodItemId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                refresh(storeId, foodItemId);
+            }
+        });
+    }
+
+    /**
+     * 매장 색인 제거 (다음 검색 시 다시 구성)
+     * 트랜잭션 안에서 호출되면 확정 이전 데이터로 다시 구성된 색인을 지우도록 트랜잭션이 끝난 뒤(커밋, 롤백 모두) 한 번 더 제거한다.
+     */
+    public void evict(Long storeId) {
+        indexes.invalidate(storeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    indexes.invalidate(storeId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 음식 단위 색인 갱신
+     * 색인이 아직 없는 매장은 무효화만 해서, 커밋 이전 데이터로 구성 중인 색인이 캐시에 남지 않게 한다. (다음 검색 시 다시 구성)
+     */
+    void refresh(Long storeId, Long foodItemId) {
+        StoreIndex index = indexes.getIfPresent(storeId);
+        if (index == null) {
+            indexes.invalidate(storeId);
+            return;
+        }
+        Optional<FoodItem> foodItem = foodItemRepository.findByIdAndIsActiveTrueWithoutJoin(foodItemId);
+        if (foodItem.isPresent()) {
+            index.put(FoodItemResponse.from(foodItem.get()));
+        } else {
+            index.remove(foodItemId);
+        }
+    }
+
+    private StoreIndex load(Long storeId) {
+        List<FoodItem> foodItems = foodItemRepository.findAllByStoreIdAndIsActiveTrueWithoutJoin(storeId);
+        StoreIndex index = new StoreIndex();
+        foodItems.forEach(foodItem -> index.put(FoodItemResponse.from(foodItem)));
+        log.info("event=fooditem_search_index_built, store_id={}, food_item_count={}", storeId, foodItems.size());
+        return index;
+    }
+
+    /**
+     * 음식의 바이그램별 가중치 계산 (필드마다 한 번씩만 반영)
+     */
+    static Map<String, Float> analyze(FoodItemResponse foodItem) {
+        Map<String, Float> termWeights = new HashMap<>();
+        addAll(termWeights, bigrams(foodItem.getFoodName()), FOOD_NAME_WEIGHT);
+        addAll(termWeights, bigrams(foodItem.getIngredients()), INGREDIENTS_WEIGHT);
+        addAll(termWeights, bigrams(foodItem.getDescription()), DESCRIPTION_WEIGHT);
+        return termWeights;
+    }
+
+    private static void addAll(Map<String, Float> termWeights, Set<String> terms, float weight) {
+        terms.forEach(term -> termWeights.merge(term, weight, Float::sum));
+    }
+
+    /**
+     * 정규화한 문자열의 바이그램 (중복 제거, 순서 유지)
+     */
+    static Set<String> bigrams(String text) {
+        String normalized = normalize(text);
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            bigrams.add(normalized.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    /**
+     * 소문자 변환 후 문자/숫자만 남김 (띄어쓰기 차이 무시)
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = lowerCase.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 매장 하나의 색인
+     * 문서 번호는 추가 순서대로 증가하므로 색인 목록은 항상 정렬된 상태로 뒤에 덧붙이기만 한다.
+     * 수정/삭제된 음식은 문서를 비워 두고, 빈 문서가 많아지면 살아 있는 문서로 다시 구성한다.
+     */
+    static final class StoreIndex {
+
+        private static final int MIN_COMPACTION_SIZE = 64;
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        // 아래 필드는 lock으로 보호
+        private Map<String, PostingList> postings = new HashMap<>();
+        private List<FoodItemResponse> documents = new ArrayList<>();
+        private List<String> normalizedNames = new ArrayList<>();
+        private Map<Long, Integer> docIdByFoodItemId = new HashMap<>();
+        private int deletedCount;
+
+        void put(FoodItemResponse foodItem) {
+            Map<String, Float> termWeights = analyze(foodItem);
+            lock.writeLock().lock();
+            try {
+                markDeleted(foodItem.getFoodItemId());
+                int docId = documents.size();
+                documents.add(foodItem);
+                normalizedNames.add(normalize(foodItem.getFoodName()));
+                docIdByFoodItemId.put(foodItem.getFoodItemId(), docId);
+                termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new PostingList()).add(docId, weight));
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long foodItemId) {
+            lock.writeLock().lock();
+            try {
+                markDeleted(foodItemId);
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        PageResponse<FoodItemResponse> search(String keyword, Pageable pageable) {
+            String normalizedKeyword = normalize(keyword);
+            Set<String> terms = bigrams(normalizedKeyword);
+            lock.readLock().lock();
+            try {
+                return doSearch(normalizedKeyword, terms, pageable);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return docIdByFoodItemId.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private PageResponse<FoodItemResponse> doSearch(String normalizedKeyword, Set<String> terms, Pageable pageable) {
+            if (terms.isEmpty()) {
+                return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
+            }
+            int docCount = documents.size();
+            float[] scores = new float[docCount];
+            int[] matchedTerms = new int[docCount];
+            for (String term : terms) {
+                PostingList termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                for (int i = 0; i < termPostings.size; i++) {
+                    int docId = termPostings.docIds[i];
+                    scores[docId] += termPostings.weights[i];
+                    matchedTerms[docId]++;
+                }
+            }
+
+            int minMatchedTerms = Math.max(1, (int) Math.ceil(terms.size() * MIN_MATCH_RATIO));
+            int limit = pageable.isUnpaged() ? Integer.MAX_VALUE : (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+            PriorityQueue<ScoredDocument> topDocuments = new PriorityQueue<>(RANKING);
+            int totalMatches = 0;
+            for (int docId = 0; docId < docCount; docId++) {
+                FoodItemResponse foodItem = documents.get(docId);
+                if (matchedTerms[docId] < minMatchedTerms || foodItem == null) {
+                    continue;
+                }
+                float score = scores[docId] * matchedTerms[docId] / terms.size();
+                if (normalizedNames.get(docId).contains(normalizedKeyword)) {
+                    score += EXACT_NAME_BONUS;
+                }
+                totalMatches++;
+                ScoredDocument scored = new ScoredDocument(foodItem, score);
+                if (topDocuments.size() < limit) {
+                    topDocuments.add(scored);
+                } else if (RANKING.compare(scored, topDocuments.peek()) > 0) {
+                    topDocuments.poll();
+                    topDocuments.add(scored);
+                }
+            }
+
+            List<FoodItemResponse> ranked = topDocuments.stream()
+                    .sorted(RANKING.reversed())
+                    .map(ScoredDocument::foodItem)
+                    .toList();
+            int from = pageable.isUnpaged() ? 0 : (int) Math.min(pageable.getOffset(), ranked.size());
+            return PageResponse.from(new PageImpl<>(ranked.subList(from, ranked.size()), pageable, totalMatches));
+        }
+
+        private void markDeleted(Long foodItemId) {
+            Integer docId = docIdByFoodItemId.remove(foodItemId);
+            if (docId != null) {
+                documents.set(docId, null);
+                normalizedNames.set(docId, "");
+                deletedCount++;
+            }
+        }
+
+        /**
+         * 비워 둔 문서가 살아 있는 문서보다 많아지면 다시 구성
+         */
+        private void compactIfNeeded() {
+            if (deletedCount < MIN_COMPACTION_SIZE || deletedCount < docIdByFoodItemId.size()) {
+                return;
+            }
+            List<FoodItemResponse> live = documents.stream().filter(document -> document != null).toList();
+            postings = new HashMap<>();
+            documents = new ArrayList<>(live.size());
+            normalizedNames = new ArrayList<>(live.size());
+            docIdByFoodItemId = new HashMap<>();
+            deletedCount = 0;
+            for (FoodItemResponse foodItem : live) {
+                int docId = documents.size();
+                documents.add(foodItem);
+                normalizedNames.add(normalize(foodItem.getFoodName()));
+                docIdByFoodItemId.put(foodItem.getFoodItemId(), docId);
+                analyze(foodItem).forEach((term, weight) -> postings.computeIfAbsent(term, key -> new PostingList()).add(docId, weight));
+            }
+        }
+    }
+
+    private static final class PostingList {
+        private int[] docIds = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int docId, float weight) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docIds[size] = docId;
+            weights[size] = weight;
+            size++;
+        }
+    }
+}
@@ -7,8 +7,8 @@ import com.example.chalpu.fooditem.domain.FoodItem;
 import com.example.chalpu.fooditem.dto.FoodItemRequest;
 import com.example.chalpu.fooditem.dto.FoodItemResponse;
 import com.example.chalpu.fooditem.repository.FoodItemRepository;
-import com.example.chalpu.menu.domain.MenuItem;
 import com.example.chalpu.menu.repository.MenuItemRepository;
+import com.example.chalpu.menu.service.StorefrontMenuCache;
 import com.example.chalpu.photo.repository.PhotoRepository;
 import com.example.chalpu.store.domain.Store;
 import com.example.chalpu.store.repository.StoreRepository;
@@ -20,8 +20,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -33,6 +31,8 @@ public class FoodItemService {
     private final UserStoreRoleService userStoreRoleService;
     private final MenuItemRepository menuItemRepository;
     private final PhotoRepository photoRepository;
+    private final StorefrontMenuCache storefrontMenuCache;
+    private final FoodItemSearchIndex foodItemSearchIndex;
 
     /**
      * 매장별 음식 아이템 목록 조회 (활성 음식만)
@@ -72,6 +72,7 @@ public class FoodItemService {
             
             FoodItem foodItem = FoodItem.createFoodItem(store, foodItemRequest);
             FoodItem savedFoodItem = foodItemRepository.save(foodItem);
+            foodItemSearchIndex.refreshAfterCommit(storeId, savedFoodItem.getId());
             
             log.info("event=food_item_created, food_item_id={}, store_id={}, user_id={}", 
                     savedFoodItem.getId(), storeId, userId);
@@ -103,6 +104,8 @@ public class FoodItemService {
 
         foodItem.updateFoodItem(request);
         FoodItem savedFoodItem = foodItemRepository.save(foodItem);
+        storefrontMenuCache.evict(storeId);
+        foodItemSearchIndex.refreshAfterCommit(storeId, foodItemId);
 
         log.info("event=food_item_updated, food_item_id={}, store_id={}", foodItemId, storeId);
         return FoodItemResponse.from(savedFoodItem);
@@ -124,9 +127,8 @@ public class FoodItemService {
         // 1. 연관된 Photo들 소프트 딜리트
         photoRepository.softDeleteByFoodItemId(foodItemId);
 
-        // 2. 연관된 MenuItem들 소프트 딜리트
-        List<MenuItem> menuItems = menuItemRepository.findByFoodItemIdAndIsActiveTrue(foodItemId);
-        menuItems.forEach(MenuItem::softDelete);
+        // 2. 연관된 MenuItem들 소프트 딜리트 (참조하는 메뉴판 수와 무관하게 UPDATE 1회)
+        int menuItemCount = menuItemRepository.softDeleteByFoodItemId(foodItemId);
 
         // 3. FoodItem 자체 소프트 딜리트
         FoodItem foodItem = foodItemRepository.findByIdAndIsActiveTrueWithoutJoin(foodItemId)
@@ -134,15 +136,23 @@ public class FoodItemService {
         foodItem.softDelete();
 
         foodItemRepository.save(foodItem);
+        storefrontMenuCache.evict(storeId);
+        foodItemSearchIndex.refreshAfterCommit(storeId, foodItemId);
 
-        log.info("event=food_item_deleted, food_item_id={}, store_id={}", foodItemId, storeId);
+        log.info("event=food_item_deleted, food_item_id={}, store_id={}, menu_item_count={}",
+                foodItemId, storeId, menuItemCount);
     }
 
     /**
      * 음식 아이템 검색 (활성 음식만)
+     * 두 글자 이상 검색어는 매장별 바이그램 색인에서 순위순으로 조회하고,
+     * 한 글자 이하이거나 정렬이 지정된 요청은 기존 음식명 LIKE 조회를 사용 (색인 결과는 순위순으로만 정렬)
      */
     public PageResponse<FoodItemResponse> searchFoodItems(Long storeId, String keyword, Pageable pageable) {
         try {
+            if (pageable.getSort().isUnsorted() && FoodItemSearchIndex.isSearchable(keyword)) {
+                return foodItemSearchIndex.search(storeId, keyword, pageable);
+            }
             Page<FoodItem> foodItemPage = foodItemRepository.findByStoreIdAndIsActiveTrueAndFoodNameContainingWithoutJoin(
                     storeId, keyword, pageable);
             Page<FoodItemResponse> foodResponsePage = foodItemPage.map(FoodItemResponse::from);
@@ -13,8 +13,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "가이드 API", description = "가이드 관련 API")
 @RestController
@@ -38,11 +40,15 @@ public class GuideController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "가이드 단건 조회", description = "특정 가이드의 상세 정보를 조회합니다.")
+    @Operation(summary = "가이드 단건 조회", description = "특정 가이드의 상세 정보를 조회합니다. 카탈로그 버전이 If-None-Match와 같으면 304를 반환합니다.")
     @GetMapping("/{guideId}")
-    public ResponseEntity<ApiResponse<GuideResponse>> getGuide(@PathVariable Long guideId) {
+    public ResponseEntity<ApiResponse<GuideResponse>> getGuide(@PathVariable Long guideId, WebRequest webRequest) {
+        String catalogVersion = guideService.getCatalogVersion();
+        if (webRequest.checkNotModified(catalogVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalogVersion).build();
+        }
         GuideResponse response = guideService.findById(guideId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok().eTag(catalogVersion).body(ApiResponse.success(response));
     }
 
     @Operation(summary = "가이드 정보 수정", description = "특정 가이드의 내용, 파일 이름, 카테고리를 수정합니다.")
@@ -52,10 +58,21 @@ public class GuideController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "가이드 목록 조회", description = "모든 가이드 목록을 페이지네이션하여 조회합니다.")
+    @Operation(summary = "가이드 목록 조회", description = "모든 가이드 목록을 페이지네이션하여 조회합니다. 카탈로그 버전이 If-None-Match와 같으면 304를 반환합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<PageResponse<GuideResponse>>> getGuides(Pageable pageable) {
+    public ResponseEntity<ApiResponse<PageResponse<GuideResponse>>> getGuides(Pageable pageable, WebRequest webRequest) {
+        String catalogVersion = guideService.getCatalogVersion();
+        if (webRequest.checkNotModified(catalogVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(catalogVersion).build();
+        }
         PageResponse<GuideResponse> response = guideService.findAll(pageable);
+        return ResponseEntity.ok().eTag(catalogVersion).body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "가이드 검색", description = "본문, 파일 이름, 태그, 카테고리 이름으로 가이드를 검색합니다. 검색어의 모든 단어를 포함하는 가이드를 관련도 순으로 반환합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<GuideResponse>>> searchGuides(@RequestParam("query") String query, Pageable pageable) {
+        PageResponse<GuideResponse> response = guideService.search(query, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -39,4 +39,19 @@ public class GuideResponse {
                         .collect(Collectors.toList()))
                 .build();
     }
-} 
\ No newline at end of file
+
+    public static GuideResponse from(GuideSummary summary, List<String> tags) {
+        return GuideResponse.builder()
+                .guideId(summary.getGuideId())
+                .content(summary.getContent())
+                .guideS3Key(summary.getGuideS3Key())
+                .fileName(summary.getFileName())
+                .imageS3Key(summary.getImageS3Key())
+                .svgS3Key(summary.getSvgS3Key())
+                .categoryName(summary.getCategoryName())
+                .subCategoryName(summary.getSubCategoryName())
+                .updatedAt(summary.getUpdatedAt().toString())
+                .tags(tags)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.chalpu.guide.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가이드 목록 조회용 프로젝션
+ * Guide/SubCategory/Category 엔티티를 로딩하지 않고 응답에 필요한 컬럼만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class GuideSummary {
+
+    private final Long guideId;
+    private final String content;
+    private final String guideS3Key;
+    private final String fileName;
+    private final String imageS3Key;
+    private final String svgS3Key;
+    private final Long subCategoryId;
+    private final String categoryName;
+    private final String subCategoryName;
+    private final LocalDateTime updatedAt;
+}
@@ -1,6 +1,7 @@
 package com.example.chalpu.guide.repository;
 
 import com.example.chalpu.guide.domain.Guide;
+import com.example.chalpu.guide.dto.GuideSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GuideRepository extends JpaRepository<Guide, Long> {
@@ -23,4 +25,23 @@ public interface GuideRepository extends JpaRepository<Guide, Long> {
     // 경량화된 조회 메서드 (연관 엔티티 조회 없음)
     @Query("SELECT g FROM Guide g WHERE g.id = :guideId AND g.isActive = true")
     Optional<Guide> findByIdAndIsActiveTrueWithoutJoin(@Param("guideId") Long guideId);
-} 
\ No newline at end of file
+
+    // 프로젝션 조회 메서드 (엔티티 그래프 로딩 없이 응답 컬럼만 조회)
+    @Query("SELECT new com.example.chalpu.guide.dto.GuideSummary(g.id, g.content, g.guideS3Key, g.fileName, g.imageS3Key, g.svgS3Key, sc.id, c.name, sc.name, g.updatedAt) " +
+           "FROM Guide g JOIN g.subCategory sc JOIN sc.category c WHERE g.id = :guideId AND g.isActive = true")
+    Optional<GuideSummary> findSummaryById(@Param("guideId") Long guideId);
+
+    @Query(value = "SELECT new com.example.chalpu.guide.dto.GuideSummary(g.id, g.content, g.guideS3Key, g.fileName, g.imageS3Key, g.svgS3Key, sc.id, c.name, sc.name, g.updatedAt) " +
+                   "FROM Guide g JOIN g.subCategory sc JOIN sc.category c WHERE g.isActive = true",
+           countQuery = "SELECT COUNT(g) FROM Guide g WHERE g.isActive = true")
+    Page<GuideSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.example.chalpu.guide.dto.GuideSummary(g.id, g.content, g.guideS3Key, g.fileName, g.imageS3Key, g.svgS3Key, sc.id, c.name, sc.name, g.updatedAt) " +
+                   "FROM Guide g JOIN g.subCategory sc JOIN sc.category c WHERE sc.id = :subCategoryId AND g.isActive = true",
+           countQuery = "SELECT COUNT(g) FROM Guide g WHERE g.subCategory.id = :subCategoryId AND g.isActive = true")
+    Page<GuideSummary> findSummariesBySubCategoryId(@Param("subCategoryId") Long subCategoryId, Pageable pageable);
+
+    @Query("SELECT new com.example.chalpu.guide.dto.GuideSummary(g.id, g.content, g.guideS3Key, g.fileName, g.imageS3Key, g.svgS3Key, sc.id, c.name, sc.name, g.updatedAt) " +
+           "FROM Guide g JOIN g.subCategory sc JOIN sc.category c WHERE g.isActive = true ORDER BY g.id")
+    List<GuideSummary> findAllSummaries();
+}
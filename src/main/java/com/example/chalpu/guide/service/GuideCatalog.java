@@ -0,0 +1,128 @@
+package com.example.chalpu.guide.service;
+
+import com.example.chalpu.guide.dto.GuideSummary;
+import com.example.chalpu.guide.repository.GuideRepository;
+import com.example.chalpu.tag.dto.GuideTagName;
+import com.example.chalpu.tag.repository.GuideTagRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 가이드 카탈로그 (프로세스 내 스냅샷 보관)
+ * 가이드/카테고리는 관리자가 관리하며 거의 바뀌지 않으므로 전체를 스냅샷으로 만들어 조회를 메모리에서 처리한다.
+ * 가이드 변경 시 커밋 이후 스냅샷을 무효화하고, 다른 인스턴스의 변경은 TTL 경과 후 재구성으로 반영한다.
+ * 재구성 중에는 이전 스냅샷을 그대로 제공한다.
+ */
+@Slf4j
+@Component
+public class GuideCatalog {
+
+    private final GuideRepository guideRepository;
+    private final GuideTagRepository guideTagRepository;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Timer rebuildTimer;
+    private final AtomicLong writeGeneration = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile GuideCatalogSnapshot current;
+
+    public GuideCatalog(
+            GuideRepository guideRepository,
+            GuideTagRepository guideTagRepository,
+            MeterRegistry meterRegistry,
+            @Value("${guide.catalog.ttl-seconds:300}") long ttlSeconds) {
+        this(guideRepository, guideTagRepository, meterRegistry, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    GuideCatalog(GuideRepository guideRepository, GuideTagRepository guideTagRepository,
+                 MeterRegistry meterRegistry, Duration ttl, Clock clock) {
+        this.guideRepository = guideRepository;
+        this.guideTagRepository = guideTagRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.rebuildTimer = Timer.builder("guide.catalog.rebuild")
+                .description("가이드 카탈로그 스냅샷 재구성 시간")
+                .register(meterRegistry);
+        Gauge.builder("guide.catalog.size", this, catalog -> catalog.current == null ? 0 : catalog.current.size())
+                .description("가이드 카탈로그 스냅샷의 가이드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷 조회 (없거나 만료/무효화된 경우 재구성)
+     */
+    GuideCatalogSnapshot snapshot() {
+        GuideCatalogSnapshot snapshot = current;
+        if (snapshot != null && isFresh(snapshot)) {
+            return snapshot;
+        }
+        // 다른 스레드가 재구성 중이면 이전 스냅샷 제공
+        if (snapshot != null && !rebuildLock.tryLock()) {
+            return snapshot;
+        }
+        if (snapshot == null) {
+            rebuildLock.lock();
+        }
+        try {
+            snapshot = current;
+            if (snapshot == null || !isFresh(snapshot)) {
+                snapshot = rebuild();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 무효화
+     * 트랜잭션 안에서 호출되면 트랜잭션이 끝난 뒤(커밋, 롤백 모두) 무효화하여,
+     * 커밋 전 데이터로 재구성되거나 롤백된 데이터로 구성된 스냅샷이 남지 않도록 한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    writeGeneration.incrementAndGet();
+                }
+            });
+            return;
+        }
+        writeGeneration.incrementAndGet();
+    }
+
+    private boolean isFresh(GuideCatalogSnapshot snapshot) {
+        return snapshot.getGeneration() == writeGeneration.get()
+                && clock.instant().isBefore(snapshot.getBuiltAt().plus(ttl));
+    }
+
+    private GuideCatalogSnapshot rebuild() {
+        long generation = writeGeneration.get();
+        GuideCatalogSnapshot snapshot = rebuildTimer.record(() -> {
+            List<GuideSummary> summaries = guideRepository.findAllSummaries();
+            Map<Long, List<String>> tagNamesByGuideId = guideTagRepository.findAllActiveTagNames().stream()
+                    .collect(Collectors.groupingBy(GuideTagName::getGuideId,
+                            Collectors.mapping(GuideTagName::getTagName, Collectors.toList())));
+            return GuideCatalogSnapshot.build(generation, Instant.now(clock), summaries, tagNamesByGuideId);
+        });
+        current = snapshot;
+        log.info("event=guide_catalog_rebuilt, guide_count={}, version={}", snapshot.size(), snapshot.getVersion());
+        return snapshot;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.chalpu.guide.service;
+
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.guide.dto.GuideResponse;
+import com.example.chalpu.guide.dto.GuideSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 가이드 카탈로그 스냅샷 (불변)
+ * 활성 가이드와 태그, 카테고리 경로를 메모리에 보관하며 페이지/서브카테고리/단건 조회를 DB 없이 처리한다.
+ * version은 스냅샷 내용으로부터 계산되므로 인스턴스가 달라도 내용이 같으면 같은 값을 가진다.
+ * updated_at을 갱신하지 않는 쓰기(벌크/JDBC UPDATE)도 반영되도록 본문과 S3 키까지 응답 필드 전체를 해시한다.
+ */
+final class GuideCatalogSnapshot {
+
+    // 메모리에서 정렬 가능한 속성 (그 외 정렬은 DB 조회로 처리)
+    private static final Map<String, Comparator<Entry>> SORTABLE_PROPERTIES = Map.of(
+            "id", Comparator.comparing(entry -> entry.response().getGuideId()),
+            "guideId", Comparator.comparing(entry -> entry.response().getGuideId()),
+            "fileName", Comparator.comparing(entry -> entry.response().getFileName(), Comparator.nullsFirst(Comparator.naturalOrder())),
+            "updatedAt", Comparator.comparing(entry -> entry.response().getUpdatedAt(), Comparator.nullsFirst(Comparator.naturalOrder())));
+
+    record Entry(Long subCategoryId, GuideResponse response) {
+    }
+
+    private final long generation;
+    private final Instant builtAt;
+    private final String version;
+    private final List<Entry> entries;
+    private final Map<Long, Entry> entriesById;
+    private final Map<Long, List<Entry>> entriesBySubCategoryId;
+
+    private GuideCatalogSnapshot(long generation, Instant builtAt, List<Entry> entries) {
+        this.generation = generation;
+        this.builtAt = builtAt;
+        this.entries = entries;
+        this.entriesById = entries.stream()
+                .collect(Collectors.toUnmodifiableMap(entry -> entry.response().getGuideId(), Function.identity()));
+        this.entriesBySubCategoryId = entries.stream()
+                .collect(Collectors.groupingBy(Entry::subCategoryId, Collectors.toUnmodifiableList()));
+        this.version = computeVersion(entries);
+    }
+
+    static GuideCatalogSnapshot build(long generation, Instant builtAt, List<GuideSummary> summaries, Map<Long, List<String>> tagNamesByGuideId) {
+        List<Entry> entries = summaries.stream()
+                .sorted(Comparator.comparing(GuideSummary::getGuideId))
+                .map(summary -> new Entry(summary.getSubCategoryId(), GuideResponse.from(summary,
+                        List.copyOf(tagNamesByGuideId.getOrDefault(summary.getGuideId(), List.of())))))
+                .toList();
+        return new GuideCatalogSnapshot(generation, builtAt, entries);
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    List<GuideResponse> getGuides() {
+        return entries.stream().map(Entry::response).toList();
+    }
+
+    Optional<GuideResponse> findById(Long guideId) {
+        return Optional.ofNullable(entriesById.get(guideId)).map(Entry::response);
+    }
+
+    /**
+     * 요청한 정렬을 메모리에서 처리할 수 있는지 확인
+     */
+    boolean supports(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.containsKey(order.getProperty()));
+    }
+
+    PageResponse<GuideResponse> page(Pageable pageable) {
+        return toPage(entries, pageable);
+    }
+
+    PageResponse<GuideResponse> pageBySubCategory(Long subCategoryId, Pageable pageable) {
+        return toPage(entriesBySubCategoryId.getOrDefault(subCategoryId, List.of()), pageable);
+    }
+
+    private PageResponse<GuideResponse> toPage(List<Entry> source, Pageable pageable) {
+        List<Entry> sorted = sort(source, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return PageResponse.from(new PageImpl<>(sorted.stream().map(Entry::response).toList(), pageable, sorted.size()));
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        List<GuideResponse> content = sorted.subList(from, to).stream().map(Entry::response).toList();
+        return PageResponse.from(new PageImpl<>(content, pageable, sorted.size()));
+    }
+
+    private List<Entry> sort(List<Entry> source, Sort sort) {
+        if (sort.isUnsorted()) {
+            return source;
+        }
+        Comparator<Entry> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Entry> next = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return source.stream().sorted(comparator).toList();
+    }
+
+    private static String computeVersion(List<Entry> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Entry entry : entries) {
+                GuideResponse guide = entry.response();
+                String line = String.join("\u001F",
+                        String.valueOf(guide.getGuideId()), String.valueOf(entry.subCategoryId()),
+                        String.valueOf(guide.getUpdatedAt()), String.valueOf(guide.getFileName()),
+                        String.valueOf(guide.getContent()), String.valueOf(guide.getGuideS3Key()),
+                        String.valueOf(guide.getImageS3Key()), String.valueOf(guide.getSvgS3Key()),
+                        String.valueOf(guide.getCategoryName()), String.valueOf(guide.getSubCategoryName()),
+                        String.join(",", guide.getTags()));
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.example.chalpu.guide.service;
+
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.guide.dto.GuideResponse;
+import com.example.chalpu.guide.dto.GuideSummary;
+import com.example.chalpu.guide.repository.GuideRepository;
+import com.example.chalpu.tag.dto.GuideTagName;
+import com.example.chalpu.tag.repository.GuideTagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 가이드 검색용 역색인
+ * 본문, 파일 이름, 태그, 카테고리/서브카테고리 이름을 어절마다 두 글자 단위로 색인하고, 필드 가중치 합으로 순위를 매긴다.
+ * (예: 김치찌개를 -> 김치, 치찌, 찌개, 개를) 조사가 붙은 어절도 검색어의 부분 문자열로 일치한다.
+ * 검색어의 모든 바이그램을 포함하는 가이드만 결과에 포함된다. (AND 검색, 한 글자 어절은 그대로 색인)
+ * 전체 색인은 가이드 카탈로그 스냅샷에서 구성하고, 이 인스턴스의 가이드 변경은 트랜잭션이 끝난 뒤 가이드 단위로 반영한다.
+ */
+@Slf4j
+@Component
+public class GuideSearchIndex {
+
+    static final float TAG_WEIGHT = 3.0f;
+    static final float CATEGORY_WEIGHT = 2.0f;
+    static final float FILE_NAME_WEIGHT = 2.0f;
+    static final float CONTENT_WEIGHT = 1.0f;
+    // 본문에서 같은 토큰이 반복될 때 가중치에 반영할 최대 횟수
+    private static final int MAX_CONTENT_TERM_FREQUENCY = 3;
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private static final Comparator<ScoredDocument> RANKING = Comparator
+            .comparingDouble(ScoredDocument::score)
+            .thenComparing(scored -> scored.guide().getGuideId());
+
+    private record Postings(int[] docIds, float[] weights) {
+        static final Postings EMPTY = new Postings(new int[0], new float[0]);
+    }
+
+    private record ScoredDocument(GuideResponse guide, float score) {
+    }
+
+    private static final class PostingsBuilder {
+        private int[] docIds = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int docId, float weight) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docIds[size] = docId;
+            weights[size] = weight;
+            size++;
+        }
+
+        Postings build() {
+            return new Postings(Arrays.copyOf(docIds, size), Arrays.copyOf(weights, size));
+        }
+    }
+
+    private final GuideCatalog guideCatalog;
+    private final GuideRepository guideRepository;
+    private final GuideTagRepository guideTagRepository;
+    private final Timer searchTimer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 lock으로 보호
+    private Map<String, Postings> postings = new HashMap<>();
+    private List<GuideResponse> documents = new ArrayList<>();
+    private List<Set<String>> termsByDocId = new ArrayList<>();
+    private Map<Long, Integer> docIdByGuideId = new HashMap<>();
+    private volatile boolean built;
+    private final AtomicLong modifications = new AtomicLong();
+
+    public GuideSearchIndex(GuideCatalog guideCatalog, GuideRepository guideRepository,
+                            GuideTagRepository guideTagRepository, MeterRegistry meterRegistry) {
+        this.guideCatalog = guideCatalog;
+        this.guideRepository = guideRepository;
+        this.guideTagRepository = guideTagRepository;
+        this.searchTimer = Timer.builder("guide.search.latency")
+                .description("가이드 검색 색인 조회 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가이드 검색 (점수 내림차순, 동점이면 최신 가이드 우선)
+     */
+    public PageResponse<GuideResponse> search(String query, Pageable pageable) {
+        ensureBuilt();
+        return searchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return doSearch(terms(query), pageable);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 카탈로그 스냅샷으로 전체 색인 재구성
+     * 다른 인스턴스의 변경을 반영하기 위해 주기적으로도 실행된다.
+     */
+    @Scheduled(fixedDelayString = "${guide.search.rebuild-interval-millis:600000}",
+               initialDelayString = "${guide.search.rebuild-interval-millis:600000}")
+    public void rebuild() {
+        // 구성 중에 가이드 단위 갱신이 끼어들면 그 갱신이 유실되지 않도록 다시 구성
+        for (int attempt = 0; attempt < MAX_REBUILD_ATTEMPTS; attempt++) {
+            long modificationsBefore = modifications.get();
+            List<GuideResponse> guides = guideCatalog.snapshot().getGuides();
+
+            Map<String, PostingsBuilder> builders = new HashMap<>();
+            List<Set<String>> newTermsByDocId = new ArrayList<>(guides.size());
+            Map<Long, Integer> newDocIdByGuideId = new HashMap<>();
+            for (int docId = 0; docId < guides.size(); docId++) {
+                GuideResponse guide = guides.get(docId);
+                Map<String, Float> termWeights = analyze(guide);
+                for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+                    builders.computeIfAbsent(entry.getKey(), term -> new PostingsBuilder()).add(docId, entry.getValue());
+                }
+                newTermsByDocId.add(termWeights.keySet());
+                newDocIdByGuideId.put(guide.getGuideId(), docId);
+            }
+            Map<String, Postings> newPostings = new HashMap<>(builders.size());
+            builders.forEach((term, builder) -> newPostings.put(term, builder.build()));
+
+            lock.writeLock().lock();
+            try {
+                if (modifications.get() != modificationsBefore && attempt < MAX_REBUILD_ATTEMPTS - 1) {
+                    continue;
+                }
+                postings = newPostings;
+                documents = new ArrayList<>(guides);
+                termsByDocId = newTermsByDocId;
+                docIdByGuideId = newDocIdByGuideId;
+                built = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("event=guide_search_index_rebuilt, guide_count={}, term_count={}", guides.size(), newPostings.size());
+            return;
+        }
+    }
+
+    /**
+     * 가이드 변경 반영 (트랜잭션 안에서 호출되면 트랜잭션이 끝난 뒤 반영)
+     * 롤백되어도 확정된 행을 다시 읽으므로, 트랜잭션 도중 미확정 데이터로 구성된 색인 항목이 남지 않는다.
+     */
+    public void refreshAfterCommit(Collection<Long> guideIds) {
+        List<Long> ids = List.copyOf(guideIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                refresh(ids);
+            }
+        });
+    }
+
+    /**
+     * 가이드 단위 색인 갱신 (삭제/비활성 가이드는 색인에서 제거)
+     */
+    void refresh(List<Long> guideIds) {
+        if (!built || guideIds.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> tagNamesByGuideId = guideTagRepository.findTagNamesByGuideIds(guideIds).stream()
+                .collect(Collectors.groupingBy(GuideTagName::getGuideId,
+                        Collectors.mapping(GuideTagName::getTagName, Collectors.toList())));
+        for (Long guideId : guideIds) {
+            Optional<GuideSummary> summary = guideRepository.findSummaryById(guideId);
+            if (summary.isPresent()) {
+                put(GuideResponse.from(summary.get(), List.copyOf(tagNamesByGuideId.getOrDefault(guideId, List.of()))));
+            } else {
+                remove(guideId);
+            }
+        }
+    }
+
+    void put(GuideResponse guide) {
+        Map<String, Float> termWeights = analyze(guide);
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdByGuideId.get(guide.getGuideId());
+            if (docId == null) {
+                docId = documents.size();
+                documents.add(guide);
+                termsByDocId.add(Set.of());
+                docIdByGuideId.put(guide.getGuideId(), docId);
+            } else {
+                removePostings(docId);
+                documents.set(docId, guide);
+            }
+            for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+                postings.put(entry.getKey(), insert(postings.getOrDefault(entry.getKey(), Postings.EMPTY), docId, entry.getValue()));
+            }
+            termsByDocId.set(docId, termWeights.keySet());
+            modifications.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long guideId) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdByGuideId.remove(guideId);
+            if (docId != null) {
+                removePostings(docId);
+                documents.set(docId, null);
+                termsByDocId.set(docId, Set.of());
+            }
+            modifications.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (!built) {
+                rebuild();
+            }
+        }
+    }
+
+    private PageResponse<GuideResponse> doSearch(List<String> terms, Pageable pageable) {
+        List<Postings> termPostings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings termPosting = postings.get(term);
+            if (termPosting == null) {
+                return emptyPage(pageable);
+            }
+            termPostings.add(termPosting);
+        }
+        if (termPostings.isEmpty()) {
+            return emptyPage(pageable);
+        }
+        // 가장 짧은 색인 목록을 기준으로 나머지는 이진 탐색
+        termPostings.sort(Comparator.comparingInt(termPosting -> termPosting.docIds().length));
+
+        int limit = pageable.isUnpaged() ? Integer.MAX_VALUE : (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        PriorityQueue<ScoredDocument> topDocuments = new PriorityQueue<>(RANKING);
+        int totalMatches = 0;
+
+        Postings smallest = termPostings.get(0);
+        for (int i = 0; i < smallest.docIds().length; i++) {
+            int docId = smallest.docIds()[i];
+            float score = smallest.weights()[i];
+            boolean matchesAll = true;
+            for (int j = 1; j < termPostings.size() && matchesAll; j++) {
+                Postings other = termPostings.get(j);
+                int index = Arrays.binarySearch(other.docIds(), docId);
+                if (index < 0) {
+                    matchesAll = false;
+                } else {
+                    score += other.weights()[index];
+                }
+            }
+            if (!matchesAll) {
+                continue;
+            }
+            totalMatches++;
+            ScoredDocument scored = new ScoredDocument(documents.get(docId), score);
+            if (topDocuments.size() < limit) {
+                topDocuments.add(scored);
+            } else if (RANKING.compare(scored, topDocuments.peek()) > 0) {
+                topDocuments.poll();
+                topDocuments.add(scored);
+            }
+        }
+
+        List<GuideResponse> ranked = topDocuments.stream()
+                .sorted(RANKING.reversed())
+                .map(ScoredDocument::guide)
+                .toList();
+        int from = pageable.isUnpaged() ? 0 : (int) Math.min(pageable.getOffset(), ranked.size());
+        return PageResponse.from(new PageImpl<>(ranked.subList(from, ranked.size()), pageable, totalMatches));
+    }
+
+    private PageResponse<GuideResponse> emptyPage(Pageable pageable) {
+        return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
+    }
+
+    private void removePostings(int docId) {
+        for (String term : termsByDocId.get(docId)) {
+            Postings updated = delete(postings.get(term), docId);
+            if (updated.docIds().length == 0) {
+                postings.remove(term);
+            } else {
+                postings.put(term, updated);
+            }
+        }
+    }
+
+    private static Postings insert(Postings source, int docId, float weight) {
+        int index = Arrays.binarySearch(source.docIds(), docId);
+        if (index >= 0) {
+            float[] weights = source.weights().clone();
+            weights[index] = weight;
+            return new Postings(source.docIds(), weights);
+        }
+        int position = -index - 1;
+        int length = source.docIds().length;
+        int[] docIds = new int[length + 1];
+        float[] weights = new float[length + 1];
+        System.arraycopy(source.docIds(), 0, docIds, 0, position);
+        System.arraycopy(source.weights(), 0, weights, 0, position);
+        docIds[position] = docId;
+        weights[position] = weight;
+        System.arraycopy(source.docIds(), position, docIds, position + 1, length - position);
+        System.arraycopy(source.weights(), position, weights, position + 1, length - position);
+        return new Postings(docIds, weights);
+    }
+
+    private static Postings delete(Postings source, int docId) {
+        int index = Arrays.binarySearch(source.docIds(), docId);
+        if (index < 0) {
+            return source;
+        }
+        int length = source.docIds().length;
+        int[] docIds = new int[length - 1];
+        float[] weights = new float[length - 1];
+        System.arraycopy(source.docIds(), 0, docIds, 0, index);
+        System.arraycopy(source.weights(), 0, weights, 0, index);
+        System.arraycopy(source.docIds(), index + 1, docIds, index, length - index - 1);
+        System.arraycopy(source.weights(), index + 1, weights, index, length - index - 1);
+        return new Postings(docIds, weights);
+    }
+
+    /**
+     * 가이드의 토큰별 가중치 계산
+     */
+    static Map<String, Float> analyze(GuideResponse guide) {
+        Map<String, Float> termWeights = new HashMap<>();
+        if (guide.getTags() != null) {
+            addAll(termWeights, terms(String.join(" ", guide.getTags())), TAG_WEIGHT);
+        }
+        addAll(termWeights, terms(Objects.toString(guide.getCategoryName(), "") + " "
+                + Objects.toString(guide.getSubCategoryName(), "")), CATEGORY_WEIGHT);
+        addAll(termWeights, terms(guide.getFileName()), FILE_NAME_WEIGHT);
+
+        Map<String, Integer> contentFrequencies = new HashMap<>();
+        termsAll(guide.getContent()).forEach(term -> contentFrequencies.merge(term, 1, Integer::sum));
+        contentFrequencies.forEach((term, frequency) ->
+                termWeights.merge(term, CONTENT_WEIGHT * Math.min(frequency, MAX_CONTENT_TERM_FREQUENCY), Float::sum));
+        return termWeights;
+    }
+
+    private static void addAll(Map<String, Float> termWeights, List<String> terms, float weight) {
+        terms.forEach(term -> termWeights.merge(term, weight, Float::sum));
+    }
+
+    /**
+     * 색인/검색 단위 (어절별 바이그램, 중복 제거)
+     */
+    static List<String> terms(String text) {
+        return new ArrayList<>(new LinkedHashSet<>(termsAll(text)));
+    }
+
+    private static List<String> termsAll(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokenizeAll(text)) {
+            if (token.length() < 2) {
+                terms.add(token);
+                continue;
+            }
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                terms.add(token.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 소문자 변환 후 문자/숫자가 아닌 문자를 기준으로 어절 분리
+     */
+    private static List<String> tokenizeAll(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean tokenChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -2,21 +2,23 @@ package com.example.chalpu.guide.service;
 
 import com.example.chalpu.common.exception.ErrorMessage;
 import com.example.chalpu.common.exception.NoticeException;
-import com.example.chalpu.common.exception.S3Exception;
 import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.common.storage.S3DeletionQueue;
 import com.example.chalpu.guide.domain.Guide;
 import com.example.chalpu.guide.domain.SubCategory;
 import com.example.chalpu.guide.dto.GuidePresignedUrlRequest;
 import com.example.chalpu.guide.dto.GuidePresignedUrlsResponse;
 import com.example.chalpu.guide.dto.GuideRegisterRequest;
 import com.example.chalpu.guide.dto.GuideResponse;
+import com.example.chalpu.guide.dto.GuideSummary;
 import com.example.chalpu.guide.dto.GuideUpdateRequest;
 import com.example.chalpu.guide.repository.GuideRepository;
 import com.example.chalpu.guide.repository.SubCategoryRepository;
 import com.example.chalpu.tag.domain.GuideTag;
 import com.example.chalpu.tag.domain.Tag;
+import com.example.chalpu.tag.dto.GuideTagName;
 import com.example.chalpu.tag.repository.GuideTagRepository;
-import com.example.chalpu.tag.repository.TagRepository;
+import com.example.chalpu.tag.service.TagResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
@@ -24,16 +26,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.Delete;
-import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
-import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -48,10 +45,12 @@ public class GuideService {
 
     private final GuideRepository guideRepository;
     private final SubCategoryRepository subCategoryRepository;
-    private final TagRepository tagRepository;
+    private final TagResolver tagResolver;
+    private final GuideCatalog guideCatalog;
+    private final GuideSearchIndex guideSearchIndex;
     private final GuideTagRepository guideTagRepository;
     private final S3Presigner s3Presigner;
-    private final S3Client s3Client;
+    private final S3DeletionQueue s3DeletionQueue;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -96,6 +95,8 @@ public class GuideService {
                 .map(tag -> GuideTag.builder().guide(savedGuide).tag(tag).build())
                 .collect(Collectors.toList());
         guideTagRepository.saveAll(guideTags);
+        guideCatalog.invalidate();
+        guideSearchIndex.refreshAfterCommit(List.of(savedGuide.getId()));
         log.info("event=guide_registered, guide_id={}, sub_category_id={}", savedGuide.getId(), request.getSubCategoryId());
         return GuideResponse.from(savedGuide, guideTags);
     }
@@ -114,31 +115,73 @@ public class GuideService {
         guide.update(request.getContent(), request.getFileName(), subCategory);
 
         List<GuideTag> guideTags = guideTagRepository.findByGuideAndIsActiveTrue(guide);
+        guideCatalog.invalidate();
+        guideSearchIndex.refreshAfterCommit(List.of(guideId));
         log.info("event=guide_updated, guide_id={}", guideId);
         return GuideResponse.from(guide, guideTags);
     }
 
     public GuideResponse findById(Long guideId) {
-        Guide guide = guideRepository.findByIdAndIsActiveTrue(guideId)
-            .orElseThrow(() -> new NoticeException(ErrorMessage.GUIDE_NOT_FOUND));
-        List<GuideTag> guideTags = guideTagRepository.findByGuideAndIsActiveTrue(guide);
-        return GuideResponse.from(guide, guideTags);
+        return guideCatalog.snapshot().findById(guideId)
+            .orElseGet(() -> findByIdFromDatabase(guideId));
     }
 
     public PageResponse<GuideResponse> findAll(Pageable pageable) {
-        Page<Guide> guidesPage = guideRepository.findAllByIsActiveTrue(pageable);
-        List<GuideResponse> guideResponses = guidesPage.getContent().stream()
-                .map(guide -> GuideResponse.from(guide, guideTagRepository.findByGuideAndIsActiveTrue(guide)))
-                .collect(Collectors.toList());
-        return PageResponse.from(new PageImpl<>(guideResponses, pageable, guidesPage.getTotalElements()));
+        GuideCatalogSnapshot snapshot = guideCatalog.snapshot();
+        if (snapshot.supports(pageable.getSort())) {
+            return snapshot.page(pageable);
+        }
+        return toPageResponse(guideRepository.findAllSummaries(pageable), pageable);
     }
 
     public PageResponse<GuideResponse> findAllBySubCategory(Long subCategoryId, Pageable pageable) {
-        Page<Guide> guidesPage = guideRepository.findBySubCategoryIdAndIsActiveTrue(subCategoryId, pageable);
-        List<GuideResponse> guideResponses = guidesPage.getContent().stream()
-                .map(guide -> GuideResponse.from(guide, guideTagRepository.findByGuideAndIsActiveTrue(guide)))
+        GuideCatalogSnapshot snapshot = guideCatalog.snapshot();
+        if (snapshot.supports(pageable.getSort())) {
+            return snapshot.pageBySubCategory(subCategoryId, pageable);
+        }
+        return toPageResponse(guideRepository.findSummariesBySubCategoryId(subCategoryId, pageable), pageable);
+    }
+
+    /**
+     * 가이드 검색 (본문, 파일 이름, 태그, 카테고리 대상)
+     */
+    public PageResponse<GuideResponse> search(String query, Pageable pageable) {
+        return guideSearchIndex.search(query, pageable);
+    }
+
+    /**
+     * 가이드 카탈로그 버전 (ETag 용)
+     */
+    public String getCatalogVersion() {
+        return guideCatalog.snapshot().getVersion();
+    }
+
+    // 다른 인스턴스에서 방금 등록되어 스냅샷에 아직 없는 가이드는 DB에서 조회
+    private GuideResponse findByIdFromDatabase(Long guideId) {
+        GuideSummary summary = guideRepository.findSummaryById(guideId)
+            .orElseThrow(() -> new NoticeException(ErrorMessage.GUIDE_NOT_FOUND));
+        return GuideResponse.from(summary, findTagNamesByGuideIds(List.of(guideId)).getOrDefault(guideId, List.of()));
+    }
+
+    // 페이지의 태그를 한 번에 조회하여 가이드별로 묶음 (가이드 수와 관계없이 쿼리 1회)
+    private PageResponse<GuideResponse> toPageResponse(Page<GuideSummary> summaryPage, Pageable pageable) {
+        List<Long> guideIds = summaryPage.getContent().stream()
+                .map(GuideSummary::getGuideId)
                 .collect(Collectors.toList());
-        return PageResponse.from(new PageImpl<>(guideResponses, pageable, guidesPage.getTotalElements()));
+        Map<Long, List<String>> tagNamesByGuideId = findTagNamesByGuideIds(guideIds);
+        List<GuideResponse> guideResponses = summaryPage.getContent().stream()
+                .map(summary -> GuideResponse.from(summary, tagNamesByGuideId.getOrDefault(summary.getGuideId(), List.of())))
+                .collect(Collectors.toList());
+        return PageResponse.from(new PageImpl<>(guideResponses, pageable, summaryPage.getTotalElements()));
+    }
+
+    private Map<Long, List<String>> findTagNamesByGuideIds(List<Long> guideIds) {
+        if (guideIds.isEmpty()) {
+            return Map.of();
+        }
+        return guideTagRepository.findTagNamesByGuideIds(guideIds).stream()
+                .collect(Collectors.groupingBy(GuideTagName::getGuideId,
+                        Collectors.mapping(GuideTagName::getTagName, Collectors.toList())));
     }
 
     @Transactional
@@ -148,13 +191,14 @@ public class GuideService {
             throw new NoticeException(ErrorMessage.GUIDE_NOT_FOUND);
         }
 
-        List<String> s3KeysToDelete = guides.stream()
-                .flatMap(guide -> java.util.stream.Stream.of(guide.getGuideS3Key(), guide.getImageS3Key(), guide.getSvgS3Key()))
-                .collect(Collectors.toList());
-        deleteS3Objects(s3KeysToDelete);
-
         guides.forEach(Guide::softDelete);
+        // S3 삭제는 같은 트랜잭션에서 대기열에 적재하고 워커가 1000개 단위 DeleteObjects로 처리
+        s3DeletionQueue.enqueue(guides.stream()
+                .flatMap(guide -> java.util.stream.Stream.of(guide.getGuideS3Key(), guide.getImageS3Key(), guide.getSvgS3Key()))
+                .toList());
         guideRepository.saveAll(guides);
+        guideCatalog.invalidate();
+        guideSearchIndex.refreshAfterCommit(guideIds);
         log.info("event=guides_deleted, guide_ids={}", guideIds);
     }
 
@@ -172,35 +216,7 @@ public class GuideService {
         return s3Presigner.presignPutObject(presignRequest).url().toString();
     }
 
-    private void deleteS3Objects(List<String> s3Keys) {
-        if (s3Keys == null || s3Keys.isEmpty()) {
-            return;
-        }
-        try {
-            List<ObjectIdentifier> toDelete = s3Keys.stream()
-                    .map(key -> ObjectIdentifier.builder().key(key).build())
-                    .collect(Collectors.toList());
-
-            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
-                    .bucket(bucketName)
-                    .delete(Delete.builder().objects(toDelete).build())
-                    .build();
-
-            s3Client.deleteObjects(deleteObjectsRequest);
-        } catch (Exception e) {
-            log.error("event=s3_delete_failed, bucket={}, keys={}, error_message={}", bucketName, s3Keys, e.getMessage(), e);
-            throw new S3Exception(ErrorMessage.S3_DELETE_FAILED);
-        }
-    }
-
     private List<Tag> findOrCreateTags(List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        return tagNames.stream().map(tagName ->
-                tagRepository.findByNameAndIsActiveTrue(tagName)
-                        .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()))
-        ).collect(Collectors.toList());
+        return tagResolver.resolveAll(tagNames);
     }
 } 
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.example.chalpu.common.response.ApiResponse;
 import com.example.chalpu.common.response.PageResponse;
 import com.example.chalpu.menu.dto.MenuRequest;
 import com.example.chalpu.menu.dto.MenuResponse;
+import com.example.chalpu.menu.dto.StorefrontMenuResponse;
 import com.example.chalpu.menu.service.MenuService;
 import com.example.chalpu.oauth.security.jwt.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,6 +55,24 @@ public class MenuController {
         return ResponseEntity.ok(ApiResponse.success("메뉴판 목록 조회가 완료되었습니다.", menus));
     }
 
+    @GetMapping("/storefront")
+    @Operation(
+        summary = "매장 메뉴 전체 조회",
+        description = """
+                매장의 모든 메뉴판과 메뉴 아이템을 한 번에 조회합니다.
+                
+                메뉴판별로 표시 순서대로 정렬된 메뉴 아이템과 음식 이름, 가격, 대표 사진을 포함합니다.
+                메뉴판, 메뉴 아이템, 음식, 대표 사진이 변경되면 다음 조회부터 반영됩니다.
+                """,
+        security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    public ResponseEntity<ApiResponse<StorefrontMenuResponse>> getStorefrontMenu(
+            @PathVariable Long storeId,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+        StorefrontMenuResponse menu = menuService.getStorefrontMenu(storeId, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("매장 메뉴 조회가 완료되었습니다.", menu));
+    }
+
     @PostMapping
     @Operation(
         summary = "메뉴판 생성",
@@ -3,6 +3,7 @@ package com.example.chalpu.menu.controller;
 import com.example.chalpu.common.response.ApiResponse;
 import com.example.chalpu.common.response.PageResponse;
 import com.example.chalpu.menu.dto.MenuItemOrderUpdateRequest;
+import com.example.chalpu.menu.dto.MenuItemReorderRequest;
 import com.example.chalpu.menu.dto.MenuItemRequest;
 import com.example.chalpu.menu.dto.MenuItemResponse;
 import com.example.chalpu.menu.service.MenuItemService;
@@ -43,6 +44,17 @@ public class MenuItemController {
         return ResponseEntity.ok(ApiResponse.success("메뉴 아이템 순서 수정이 완료되었습니다.", response));
     }
 
+    @PutMapping("/order")
+    @Operation(summary = "메뉴 아이템 일괄 순서 변경",
+            description = "메뉴판의 모든 활성 메뉴 아이템 ID를 표시할 순서대로 받아 한 번에 반영합니다. 목록이 현재 메뉴판과 다르면 409를 반환합니다.")
+    public ResponseEntity<ApiResponse<Void>> reorderMenuItems(
+            @PathVariable Long menuId,
+            @RequestBody MenuItemReorderRequest request,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        menuItemService.reorderMenuItems(menuId, request, userDetails.getId());
+        return ResponseEntity.ok(ApiResponse.success("메뉴 아이템 순서 변경이 완료되었습니다.", null));
+    }
+
     @DeleteMapping("/{menuItemId}")
     @Operation(summary = "메뉴 아이템 삭제", description = "특정 메뉴에서 음식 아이템을 제거합니다.")
     public ResponseEntity<ApiResponse<Void>> removeMenuItem(
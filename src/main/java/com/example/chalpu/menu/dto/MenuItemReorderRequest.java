@@ -0,0 +1,19 @@
+package com.example.chalpu.menu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "메뉴 아이템 일괄 순서 변경 요청")
+public class MenuItemReorderRequest {
+    @Schema(description = "메뉴판의 모든 활성 메뉴 아이템 ID (표시할 순서대로)", example = "[3, 1, 2]", required = true)
+    private List<Long> menuItemIds;
+}
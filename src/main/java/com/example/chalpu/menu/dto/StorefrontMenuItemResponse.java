@@ -0,0 +1,42 @@
+package com.example.chalpu.menu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@Schema(description = "매장 메뉴 조회 - 메뉴 아이템")
+public class StorefrontMenuItemResponse {
+
+    @Schema(description = "메뉴 아이템 ID", example = "1")
+    private final Long menuItemId;
+
+    @Schema(description = "표시 순서", example = "1")
+    private final Integer displayOrder;
+
+    @Schema(description = "음식 ID", example = "1")
+    private final Long foodItemId;
+
+    @Schema(description = "음식 이름", example = "김치찌개")
+    private final String foodName;
+
+    @Schema(description = "가격", example = "9000")
+    private final BigDecimal price;
+
+    @Schema(description = "대표 사진", example = "foodPhoto/abc.jpg")
+    private final String thumbnailUrl;
+
+    public static StorefrontMenuItemResponse from(StorefrontMenuRow row) {
+        return StorefrontMenuItemResponse.builder()
+                .menuItemId(row.getMenuItemId())
+                .displayOrder(row.getDisplayOrder())
+                .foodItemId(row.getFoodItemId())
+                .foodName(row.getFoodName())
+                .price(row.getPrice())
+                .thumbnailUrl(row.getThumbnailUrl())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.chalpu.menu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 메뉴 전체 조회 응답 (메뉴판 -> 정렬된 메뉴 아이템 -> 음식 이름/가격/대표 사진)
+ * 매장 단위로 캐시되므로 생성 이후 변경되지 않는다.
+ */
+@Getter
+@Schema(description = "매장 메뉴 전체 조회 응답")
+public class StorefrontMenuResponse {
+
+    @Schema(description = "매장 ID", example = "1")
+    private final Long storeId;
+
+    @Schema(description = "메뉴판 목록")
+    private final List<StorefrontMenuSectionResponse> menus;
+
+    private StorefrontMenuResponse(Long storeId, List<StorefrontMenuSectionResponse> menus) {
+        this.storeId = storeId;
+        this.menus = List.copyOf(menus);
+    }
+
+    /**
+     * 메뉴판 순, 메뉴판 안에서는 표시 순서로 정렬된 프로젝션 행을 묶어 응답 생성
+     */
+    public static StorefrontMenuResponse of(Long storeId, List<StorefrontMenuRow> rows) {
+        Map<Long, StorefrontMenuRow> menuHeaders = new LinkedHashMap<>();
+        Map<Long, List<StorefrontMenuItemResponse>> itemsByMenu = new LinkedHashMap<>();
+        for (StorefrontMenuRow row : rows) {
+            menuHeaders.putIfAbsent(row.getMenuId(), row);
+            List<StorefrontMenuItemResponse> items = itemsByMenu.computeIfAbsent(row.getMenuId(), id -> new ArrayList<>());
+            // 아이템이 없는 메뉴판이거나 비활성 음식을 참조하는 아이템
+            if (row.getMenuItemId() != null && row.getFoodItemId() != null) {
+                items.add(StorefrontMenuItemResponse.from(row));
+            }
+        }
+
+        List<StorefrontMenuSectionResponse> menus = new ArrayList<>(menuHeaders.size());
+        menuHeaders.forEach((menuId, header) -> menus.add(StorefrontMenuSectionResponse.builder()
+                .menuId(menuId)
+                .menuName(header.getMenuName())
+                .description(header.getMenuDescription())
+                .items(List.copyOf(itemsByMenu.get(menuId)))
+                .build()));
+        return new StorefrontMenuResponse(storeId, menus);
+    }
+}
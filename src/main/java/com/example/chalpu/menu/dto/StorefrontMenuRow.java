@@ -0,0 +1,24 @@
+package com.example.chalpu.menu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 매장 메뉴 조회용 프로젝션 (메뉴판 x 메뉴 아이템 x 음식 한 행)
+ * 메뉴 아이템이 없는 메뉴판은 menuItemId 이하 값이 null
+ */
+@Getter
+@AllArgsConstructor
+public class StorefrontMenuRow {
+    private Long menuId;
+    private String menuName;
+    private String menuDescription;
+    private Long menuItemId;
+    private Integer displayOrder;
+    private Long foodItemId;
+    private String foodName;
+    private BigDecimal price;
+    private String thumbnailUrl;
+}
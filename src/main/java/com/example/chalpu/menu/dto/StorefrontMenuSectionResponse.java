@@ -0,0 +1,25 @@
+package com.example.chalpu.menu.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "매장 메뉴 조회 - 메뉴판")
+public class StorefrontMenuSectionResponse {
+
+    @Schema(description = "메뉴판 ID", example = "1")
+    private final Long menuId;
+
+    @Schema(description = "메뉴판 이름", example = "런치 메뉴")
+    private final String menuName;
+
+    @Schema(description = "메뉴판 설명", example = "점심시간 특별 메뉴")
+    private final String description;
+
+    @Schema(description = "표시 순서대로 정렬된 메뉴 아이템")
+    private final List<StorefrontMenuItemResponse> items;
+}
@@ -0,0 +1,48 @@
+package com.example.chalpu.menu.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 메뉴 아이템 일괄 순서 변경 Repository
+ * 순서 변경 대상을 JDBC 배치 한 번으로 전송한다.
+ * (MySQL 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 한 번의 왕복으로 전송된다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MenuItemJdbcRepository {
+
+    private static final String UPDATE_ORDER_SQL = "UPDATE menu_items SET display_order = ? "
+            + "WHERE id = ? AND menu_id = ? AND is_active = true";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 목록 순서대로 표시 순서를 1부터 부여
+     * @return 메뉴 아이템별 반영 행 수 (0이면 다른 메뉴판이거나 이미 삭제된 아이템, Statement.SUCCESS_NO_INFO면 드라이버가 건별 결과를 주지 않은 경우)
+     */
+    public int[] updateDisplayOrders(Long menuId, List<Long> orderedMenuItemIds) {
+        if (orderedMenuItemIds.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_ORDER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, i + 1);
+                ps.setLong(2, orderedMenuItemIds.get(i));
+                ps.setLong(3, menuId);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return orderedMenuItemIds.size();
+            }
+        });
+    }
+}
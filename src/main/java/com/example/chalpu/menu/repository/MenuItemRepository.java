@@ -1,25 +1,76 @@
 package com.example.chalpu.menu.repository;
 
-import com.example.chalpu.menu.domain.Menu;
 import com.example.chalpu.menu.domain.MenuItem;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
-    List<MenuItem> findByMenuAndIsActiveTrue(Menu menu);
-
     @EntityGraph(value = "MenuItem.withMenuAndFoodItem")
     Optional<MenuItem> findByIdAndIsActiveTrue(Long menuItemId);
 
     @EntityGraph(value = "MenuItem.withMenuAndFoodItem")
     Page<MenuItem> findByMenuIdAndIsActiveTrue(Long menuId, Pageable pageable);
 
-    List<MenuItem> findByFoodItemIdAndIsActiveTrue(Long foodItemId);
-} 
\ No newline at end of file
+    // 메뉴판 잠금 대상 확인용 (엔티티 로딩 없음)
+    @Query("SELECT mi.menu.id FROM MenuItem mi WHERE mi.id = :menuItemId AND mi.isActive = true")
+    Optional<Long> findActiveMenuIdById(@Param("menuItemId") Long menuItemId);
+
+    /**
+     * 메뉴판 행 잠금 이후 메뉴 아이템 단건 수정/삭제를 위한 행 잠금 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT mi FROM MenuItem mi WHERE mi.id = :menuItemId AND mi.isActive = true")
+    Optional<MenuItem> findByIdAndIsActiveTrueForUpdate(@Param("menuItemId") Long menuItemId);
+
+    // 일괄 순서 변경 검증용 메뉴판의 활성 메뉴 아이템 ID 목록 (엔티티 로딩 없음)
+    @Query("SELECT mi.id FROM MenuItem mi WHERE mi.menu.id = :menuId AND mi.isActive = true")
+    List<Long> findActiveIdsByMenuId(@Param("menuId") Long menuId);
+
+    /**
+     * FoodItem 삭제 시 해당 음식을 참조하는 모든 메뉴 아이템 소프트 딜리트 (UPDATE 1회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE MenuItem mi SET mi.isActive = false WHERE mi.foodItem.id = :foodItemId AND mi.isActive = true")
+    int softDeleteByFoodItemId(@Param("foodItemId") Long foodItemId);
+
+    /**
+     * Menu 삭제 시 메뉴판에 속한 모든 메뉴 아이템 소프트 딜리트 (UPDATE 1회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE MenuItem mi SET mi.isActive = false WHERE mi.menu.id = :menuId AND mi.isActive = true")
+    int softDeleteByMenuId(@Param("menuId") Long menuId);
+
+    /**
+     * Store 삭제 시 매장 메뉴판에 속한 메뉴 아이템 소프트 딜리트 (UPDATE 1회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE MenuItem mi SET mi.isActive = false WHERE mi.isActive = true "
+            + "AND mi.menu.id IN (SELECT m.id FROM Menu m WHERE m.store.id = :storeId)")
+    int softDeleteByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * Store 삭제 청크 처리 - 최대 limit 행만 소프트 딜리트 (호출마다 별도 트랜잭션)
+     * @return 변경된 행 수 (limit보다 작으면 남은 행 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE menu_items SET is_active = false WHERE is_active = true "
+            + "AND menu_id IN (SELECT menu_id FROM menus WHERE store_id = :storeId) LIMIT :limit", nativeQuery = true)
+    int softDeleteChunkByStoreId(@Param("storeId") Long storeId, @Param("limit") int limit);
+}
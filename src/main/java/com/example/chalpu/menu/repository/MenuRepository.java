@@ -1,13 +1,18 @@
 package com.example.chalpu.menu.repository;
 
 import com.example.chalpu.menu.domain.Menu;
+import com.example.chalpu.menu.dto.StorefrontMenuRow;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,4 +39,42 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     // 경량화된 조회 메서드 (연관 엔티티 조회 없음)
     @Query("SELECT m FROM Menu m WHERE m.id = :menuId AND m.isActive = true")
     Optional<Menu> findByIdAndIsActiveTrueWithoutJoin(@Param("menuId") Long menuId);
-} 
\ No newline at end of file
+
+    /**
+     * 매장 메뉴 전체 조회 (메뉴판, 활성 메뉴 아이템, 음식을 한 번에 조회하는 프로젝션)
+     * 메뉴판 ID 순, 메뉴판 안에서는 표시 순서 순으로 정렬
+     */
+    @Query("SELECT new com.example.chalpu.menu.dto.StorefrontMenuRow("
+            + "m.id, m.menuName, m.description, mi.id, mi.displayOrder, f.id, f.foodName, f.price, f.thumbnailUrl) "
+            + "FROM Menu m "
+            + "LEFT JOIN MenuItem mi ON mi.menu = m AND mi.isActive = true "
+            + "LEFT JOIN mi.foodItem f ON f.isActive = true "
+            + "WHERE m.store.id = :storeId AND m.isActive = true "
+            + "ORDER BY m.id, mi.displayOrder, mi.id")
+    List<StorefrontMenuRow> findStorefrontRowsByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 메뉴 아이템 일괄 순서 변경 시 메뉴판 단위 직렬화를 위한 행 잠금 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Menu m WHERE m.id = :menuId AND m.isActive = true")
+    Optional<Menu> findByIdAndIsActiveTrueForUpdate(@Param("menuId") Long menuId);
+
+    /**
+     * Store 삭제 시 매장의 메뉴판 소프트 딜리트 (UPDATE 1회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Menu m SET m.isActive = false, m.updatedAt = CURRENT_TIMESTAMP WHERE m.store.id = :storeId AND m.isActive = true")
+    int softDeleteByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * Store 삭제 청크 처리 - 최대 limit 행만 소프트 딜리트 (호출마다 별도 트랜잭션)
+     * @return 변경된 행 수 (limit보다 작으면 남은 행 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE menus SET is_active = false, updated_at = NOW() "
+            + "WHERE store_id = :storeId AND is_active = true LIMIT :limit", nativeQuery = true)
+    int softDeleteChunkByStoreId(@Param("storeId") Long storeId, @Param("limit") int limit);
+}
@@ -9,8 +9,10 @@ import com.example.chalpu.fooditem.repository.FoodItemRepository;
 import com.example.chalpu.menu.domain.Menu;
 import com.example.chalpu.menu.domain.MenuItem;
 import com.example.chalpu.menu.dto.MenuItemOrderUpdateRequest;
+import com.example.chalpu.menu.dto.MenuItemReorderRequest;
 import com.example.chalpu.menu.dto.MenuItemRequest;
 import com.example.chalpu.menu.dto.MenuItemResponse;
+import com.example.chalpu.menu.repository.MenuItemJdbcRepository;
 import com.example.chalpu.menu.repository.MenuItemRepository;
 import com.example.chalpu.menu.repository.MenuRepository;
 import com.example.chalpu.store.service.UserStoreRoleService;
@@ -21,7 +23,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -30,23 +34,27 @@ import java.util.List;
 public class MenuItemService {
 
     private final MenuItemRepository menuItemRepository;
+    private final MenuItemJdbcRepository menuItemJdbcRepository;
     private final MenuRepository menuRepository;
     private final FoodItemRepository foodItemRepository;
     private final UserStoreRoleService userStoreRoleService;
+    private final StorefrontMenuCache storefrontMenuCache;
 
     /**
      * 메뉴 아이템 추가
+     * 일괄 순서 변경과 같은 메뉴판 행 잠금을 잡아, 순서 변경 검증과 반영 사이에 아이템이 끼어들지 않게 한다.
      */
     @Transactional
     public MenuItemResponse addMenuItem(Long menuId, MenuItemRequest menuItemRequest, Long userId) {
         try {
-            Menu menu = findActiveMenuById(menuId);
+            Menu menu = findActiveMenuByIdForUpdate(menuId);
             validateUserStoreManagement(userId, menu.getStore().getId());
 
             FoodItem foodItem = findActiveFoodItemById(menuItemRequest.getFoodId());
 
             MenuItem menuItem = MenuItem.createMenuItem(menu, foodItem, menuItemRequest);
             MenuItem savedMenuItem = menuItemRepository.save(menuItem);
+            storefrontMenuCache.evict(menu.getStore().getId());
 
             log.info("event=menu_item_added, menu_item_id={}, menu_id={}, food_id={}, user_id={}",
                     savedMenuItem.getId(), menuId, foodItem.getId(), userId);
@@ -61,14 +69,19 @@ public class MenuItemService {
 
     /**
      * 메뉴 아이템 표시 순서 수정
+     * 메뉴판 행을 먼저 잠근 뒤 아이템을 잠금 조회해, 일괄 순서 변경이나 삭제와 겹쳐도 최신 상태에만 반영한다.
      */
     @Transactional
     public MenuItemResponse updateMenuItemOrder(Long menuItemId, MenuItemOrderUpdateRequest request, Long userId) {
         try {
-            MenuItem menuItem = findActiveMenuItemById(menuItemId);
+            Long menuId = menuItemRepository.findActiveMenuIdById(menuItemId)
+                    .orElseThrow(() -> new MenuException(ErrorMessage.MENU_ITEM_NOT_FOUND));
+            findActiveMenuByIdForUpdate(menuId);
+            MenuItem menuItem = findActiveMenuItemByIdForUpdate(menuItemId);
             validateUserStoreManagement(userId, menuItem.getMenu().getStore().getId());
 
             menuItem.updateDisplayOrder(request.getDisplayOrder());
+            storefrontMenuCache.evict(menuItem.getMenu().getStore().getId());
 
             log.info("event=menu_item_order_updated, menu_item_id={}, new_order={}, user_id={}",
                     menuItemId, request.getDisplayOrder(), userId);
@@ -81,6 +94,48 @@ public class MenuItemService {
         }
     }
 
+    /**
+     * 메뉴 아이템 일괄 순서 변경
+     * 메뉴판 행을 잠가 같은 메뉴판의 순서 변경을 직렬화하고, 요청 목록이 현재 활성 아이템 전체와 일치할 때만 반영한다.
+     * 권한 검증은 한 번, 순서 반영은 JDBC 배치 한 번으로 처리한다.
+     */
+    @Transactional
+    public void reorderMenuItems(Long menuId, MenuItemReorderRequest request, Long userId) {
+        List<Long> orderedIds = request.getMenuItemIds();
+        try {
+            validateReorderRequest(orderedIds);
+
+            Menu menu = findActiveMenuByIdForUpdate(menuId);
+            validateUserStoreManagement(userId, menu.getStore().getId());
+
+            Set<Long> activeIds = new HashSet<>(menuItemRepository.findActiveIdsByMenuId(menuId));
+            if (activeIds.size() != orderedIds.size() || !activeIds.containsAll(orderedIds)) {
+                throw new MenuException(ErrorMessage.MENU_ITEM_REORDER_CONFLICT);
+            }
+
+            int[] updated = menuItemJdbcRepository.updateDisplayOrders(menuId, orderedIds);
+            for (int count : updated) {
+                if (count == 0) {
+                    // 검증 이후 다른 요청이 아이템을 삭제한 경우, 롤백하고 다시 조회하도록 응답
+                    throw new MenuException(ErrorMessage.MENU_ITEM_REORDER_CONFLICT);
+                }
+            }
+
+            storefrontMenuCache.evict(menu.getStore().getId());
+
+            log.info("event=menu_items_reordered, menu_id={}, count={}, user_id={}",
+                    menuId, orderedIds.size(), userId);
+        } catch (MenuException e) {
+            log.warn("event=menu_items_reorder_rejected, menu_id={}, user_id={}, error_code={}",
+                    menuId, userId, e.getErrorMessage().name());
+            throw e;
+        } catch (Exception e) {
+            log.error("event=menu_items_reorder_failed, menu_id={}, user_id={}, error_message={}",
+                    menuId, userId, e.getMessage(), e);
+            throw new MenuException(ErrorMessage.MENU_ITEM_UPDATE_FAILED);
+        }
+    }
+
     /**
      * 메뉴 아이템 목록 조회
      */
@@ -101,18 +156,22 @@ public class MenuItemService {
 
     /**
      * 메뉴 아이템 삭제 (소프트 딜리트)
+     * 메뉴판 행을 먼저 잠가 같은 메뉴판의 일괄 순서 변경, 추가와 직렬화한다.
      */
     @Transactional
     public void removeMenuItem(Long menuId, Long menuItemId, Long userId) {
         try {
-            MenuItem menuItem = findActiveMenuItemById(menuItemId);
-            validateUserStoreManagement(userId, menuItem.getMenu().getStore().getId());
+            Menu menu = findActiveMenuByIdForUpdate(menuId);
+            validateUserStoreManagement(userId, menu.getStore().getId());
+
+            MenuItem menuItem = findActiveMenuItemByIdForUpdate(menuItemId);
 
             if (!menuItem.getMenu().getId().equals(menuId)) {
                 throw new MenuException(ErrorMessage.MENU_ITEM_NOT_IN_MENU);
             }
 
             menuItem.softDelete();
+            storefrontMenuCache.evict(menuItem.getMenu().getStore().getId());
 
             log.info("event=menu_item_removed, menu_item_id={}, menu_id={}, user_id={}", 
                     menuItemId, menuId, userId);
@@ -124,14 +183,22 @@ public class MenuItemService {
     }
 
     /**
-     * 메뉴에 속한 모든 메뉴 아이템 비활성화 (소프트 딜리트)
+     * 메뉴에 속한 모든 메뉴 아이템 비활성화 (소프트 딜리트, UPDATE 1회)
      */
     @Transactional
     public void softDeleteMenuItemsByMenu(Menu menu) {
-        List<MenuItem> menuItems = menuItemRepository.findByMenuAndIsActiveTrue(menu);
-        menuItems.forEach(MenuItem::softDelete);
-        log.info("event=menu_items_deleted_by_menu, menu_id={}, count={}", 
-                menu.getId(), menuItems.size());
+        int count = menuItemRepository.softDeleteByMenuId(menu.getId());
+        log.info("event=menu_items_deleted_by_menu, menu_id={}, count={}",
+                menu.getId(), count);
+    }
+
+    private void validateReorderRequest(List<Long> orderedIds) {
+        if (orderedIds == null || orderedIds.isEmpty() || orderedIds.contains(null)) {
+            throw new MenuException(ErrorMessage.MENU_ITEM_REORDER_INVALID);
+        }
+        if (new HashSet<>(orderedIds).size() != orderedIds.size()) {
+            throw new MenuException(ErrorMessage.MENU_ITEM_REORDER_INVALID);
+        }
     }
 
     private Menu findActiveMenuById(Long menuId) {
@@ -139,13 +206,20 @@ public class MenuItemService {
                 .orElseThrow(() -> new MenuException(ErrorMessage.MENU_NOT_FOUND));
     }
 
+    // 메뉴판 단위 쓰기 직렬화용 행 잠금 (잠금 순서: 메뉴판 -> 메뉴 아이템)
+    private Menu findActiveMenuByIdForUpdate(Long menuId) {
+        return menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)
+                .orElseThrow(() -> new MenuException(ErrorMessage.MENU_NOT_FOUND));
+    }
+
     private FoodItem findActiveFoodItemById(Long foodId) {
         return foodItemRepository.findByIdAndIsActiveTrueWithoutJoin(foodId)
                 .orElseThrow(() -> new FoodException(ErrorMessage.FOOD_NOT_FOUND));
     }
 
-    private MenuItem findActiveMenuItemById(Long menuItemId) {
-        return menuItemRepository.findByIdAndIsActiveTrue(menuItemId)
+    // 잠금 조회는 스냅샷이 아닌 최신 커밋 상태를 읽으므로, 메뉴판 잠금을 기다리는 동안 삭제된 아이템을 되살리지 않는다.
+    private MenuItem findActiveMenuItemByIdForUpdate(Long menuItemId) {
+        return menuItemRepository.findByIdAndIsActiveTrueForUpdate(menuItemId)
                 .orElseThrow(() -> new MenuException(ErrorMessage.MENU_ITEM_NOT_FOUND));
     }
 
@@ -7,6 +7,7 @@ import com.example.chalpu.common.response.PageResponse;
 import com.example.chalpu.menu.domain.Menu;
 import com.example.chalpu.menu.dto.MenuRequest;
 import com.example.chalpu.menu.dto.MenuResponse;
+import com.example.chalpu.menu.dto.StorefrontMenuResponse;
 import com.example.chalpu.menu.repository.MenuRepository;
 import com.example.chalpu.store.domain.Store;
 import com.example.chalpu.store.repository.StoreRepository;
@@ -30,6 +31,7 @@ public class MenuService {
     private final StoreRepository storeRepository;
     private final UserStoreRoleService userStoreRoleService;
     private final MenuItemService menuItemService;
+    private final StorefrontMenuCache storefrontMenuCache;
 
     /**
      * 매장별 메뉴 목록 조회 (활성 메뉴만)
@@ -45,6 +47,23 @@ public class MenuService {
         }
     }
 
+    /**
+     * 매장 메뉴 전체 조회 (메뉴판, 정렬된 메뉴 아이템, 음식 이름/가격/대표 사진)
+     * 권한 검증 한 번 후 매장 단위 캐시에서 조회하고, 없으면 프로젝션 쿼리 한 번으로 적재
+     */
+    public StorefrontMenuResponse getStorefrontMenu(Long storeId, Long userId) {
+        if (!userStoreRoleService.canUserAccessStore(userId, storeId)) {
+            throw new MenuException(ErrorMessage.STORE_ACCESS_DENIED);
+        }
+        try {
+            return storefrontMenuCache.get(storeId);
+        } catch (Exception e) {
+            log.error("event=storefront_menu_get_failed, store_id={}, user_id={}, error_message={}",
+                    storeId, userId, e.getMessage(), e);
+            throw new MenuException(ErrorMessage.MENU_NOT_FOUND);
+        }
+    }
+
     /**
      * 메뉴 생성
      */
@@ -54,6 +73,7 @@ public class MenuService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new StoreException(ErrorMessage.STORE_NOT_FOUND));
         Menu menu = menuRepository.save(Menu.createMenu(store, menuRequest));
+        storefrontMenuCache.evict(storeId);
         log.info("event=menu_created, menu_id={}, store_id={}, user_id={}", menu.getId(), storeId, userId);
             
         return MenuResponse.from(menu);
@@ -67,6 +87,7 @@ public class MenuService {
         Menu menu = findMenuByIdForValidation(menuId);
         validateUserStoreAccess(userId, menu.getStore().getId());
             menu.updateMenu(menuRequest);
+        storefrontMenuCache.evict(menu.getStore().getId());
         log.info("event=menu_updated, menu_id={}, user_id={}", menuId, userId);
             
             return MenuResponse.from(menu);
@@ -86,6 +107,7 @@ public class MenuService {
             
             // 메뉴 아이템 비활성화 (위임)
             menuItemService.softDeleteMenuItemsByMenu(menu);
+            storefrontMenuCache.evict(menu.getStore().getId());
             
             log.info("event=menu_deleted, menu_id={}, user_id={}", menuId, userId);
         } catch (Exception e) {
@@ -0,0 +1,70 @@
+package com.example.chalpu.menu.service;
+
+import com.example.chalpu.common.cache.LocalCache;
+import com.example.chalpu.menu.dto.StorefrontMenuResponse;
+import com.example.chalpu.menu.repository.MenuRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 매장별 메뉴 전체 조회 결과 캐시 (storeId -> StorefrontMenuResponse)
+ * 메뉴판, 메뉴 아이템, 음식, 대표 사진이 변경되는 쪽에서 evict를 호출해야 하며,
+ * 트랜잭션 안에서 호출되면 커밋 이전에 다른 요청이나 같은 트랜잭션이 적재한 값을 지우도록
+ * 트랜잭션이 끝난 뒤(커밋, 롤백 모두) 한 번 더 제거한다.
+ * evict 시점에 이미 진행 중이던 적재는 LocalCache의 세대 검사로 캐시에 남지 않는다. (결과는 해당 호출자에게만 반환)
+ */
+@Slf4j
+@Component
+public class StorefrontMenuCache {
+
+    private final MenuRepository menuRepository;
+    private final LocalCache<Long, StorefrontMenuResponse> cache;
+
+    public StorefrontMenuCache(
+            MenuRepository menuRepository,
+            MeterRegistry meterRegistry,
+            @Value("${menu.storefront-cache.max-size:1000}") int maximumSize,
+            @Value("${menu.storefront-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.menuRepository = menuRepository;
+        this.cache = new LocalCache<Long, StorefrontMenuResponse>("menu.storefront", maximumSize, Duration.ofSeconds(ttlSeconds))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * 매장 메뉴 전체 조회 (캐시에 없으면 프로젝션 쿼리 한 번으로 적재)
+     */
+    public StorefrontMenuResponse get(Long storeId) {
+        return cache.get(storeId, this::load);
+    }
+
+    /**
+     * 매장 메뉴 캐시 제거
+     */
+    public void evict(Long storeId) {
+        cache.invalidate(storeId);
+        runAfterCompletion(() -> cache.invalidate(storeId));
+        log.debug("event=storefront_menu_evicted, store_id={}", storeId);
+    }
+
+    private StorefrontMenuResponse load(Long storeId) {
+        return StorefrontMenuResponse.of(storeId, menuRepository.findStorefrontRowsByStoreId(storeId));
+    }
+
+    private void runAfterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
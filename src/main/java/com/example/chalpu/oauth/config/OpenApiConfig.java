@@ -9,9 +9,7 @@ import io.swagger.v3.oas.annotations.info.License;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.servers.Server;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 @OpenAPIDefinition(
@@ -48,11 +46,6 @@ import org.springframework.web.client.RestTemplate;
     in = SecuritySchemeIn.HEADER
 )
 public class OpenApiConfig {
-    
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
 
     // 필요한 경우 추가 설정을 여기에 구현
 }
\ No newline at end of file
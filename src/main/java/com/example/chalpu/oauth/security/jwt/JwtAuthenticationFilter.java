@@ -27,6 +27,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final JwtPrincipalCache principalCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
@@ -40,15 +41,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt)) {
-                // 토큰 유효성 검증
-                tokenProvider.validateToken(jwt);
+                // 토큰 유효성 검증 (한 번만 파싱, 동일 토큰은 캐시에서 조회)
+                JwtPrincipal principal = principalCache.resolve(jwt, tokenProvider::verify);
 
                 // Access Token인지 확인
-                if (tokenProvider.isAccessToken(jwt)) {
-                    Long userId = tokenProvider.getUserIdFromToken(jwt);
-                    String email = tokenProvider.getEmailFromToken(jwt);
+                if (principal.isAccessToken()) {
+                    Long userId = principal.userId();
+                    String email = principal.email();
+                    String role = principal.role();
 
-                    String role = tokenProvider.getRoleFromToken(jwt) != null ? tokenProvider.getRoleFromToken(jwt) : "ROLE_USER";
                     UserDetails userDetails = new UserDetailsImpl(
                         userId, 
                         email, 
@@ -0,0 +1,33 @@
+package com.example.chalpu.oauth.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT에서 한 번에 추출한 인증 정보
+ * 한 번 파싱한 결과를 불변 객체로 보관하여 필터/캐시에서 재사용한다.
+ */
+public record JwtPrincipal(Long userId, String email, String role, String tokenType, Instant expiresAt) {
+
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+
+    public static JwtPrincipal from(Claims claims) {
+        String role = claims.get("role", String.class);
+        return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                role != null ? role : DEFAULT_ROLE,
+                claims.get("type", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+}
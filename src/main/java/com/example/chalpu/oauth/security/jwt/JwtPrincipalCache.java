@@ -0,0 +1,72 @@
+package com.example.chalpu.oauth.security.jwt;
+
+import com.example.chalpu.common.cache.LocalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * 검증된 JWT 인증 정보 캐시
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 토큰의 exp 이후에는 캐시에서 제공하지 않는다.
+ * 같은 Access Token으로 반복 요청 시 서명 검증을 생략한다.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final LocalCache<String, JwtPrincipal> cache;
+
+    public JwtPrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.principal-cache.max-size:10000}") int maximumSize,
+            @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new LocalCache<String, JwtPrincipal>("jwt.principal", maximumSize, Duration.ofSeconds(ttlSeconds))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * 캐시된 인증 정보를 반환하고, 없으면 verifier로 검증 후 저장
+     * 검증 실패 시 verifier의 예외가 그대로 전파되며 캐시에 저장되지 않는다.
+     */
+    public JwtPrincipal resolve(String token, Function<String, JwtPrincipal> verifier) {
+        String key = digest(token);
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        JwtPrincipal principal = verifier.apply(token);
+        if (principal.expiresAt() != null) {
+            cache.put(key, principal, principal.expiresAt());
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자의 캐시된 인증 정보 제거 (로그아웃, 탈퇴 시)
+     * 이후 같은 토큰으로 요청하면 서명 검증부터 다시 수행한다.
+     */
+    public int evictUser(Long userId) {
+        return cache.invalidateValuesIf(principal -> userId.equals(principal.userId()));
+    }
+
+    private boolean isExpired(JwtPrincipal principal) {
+        return principal.expiresAt() != null && !principal.expiresAt().isAfter(Instant.now());
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
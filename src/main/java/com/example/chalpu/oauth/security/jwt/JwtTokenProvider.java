@@ -110,24 +110,14 @@ public class JwtTokenProvider {
 
     // 토큰 유효성 검증
     public void validateToken(String token) {
-        try {
-            getClaimsFromToken(token);
-        } catch (ExpiredJwtException e) {
-            log.error("event=jwt_token_expired, token={}", token.substring(0, Math.min(token.length(), 20)) + "...");
-            throw new AuthException(ErrorMessage.JWT_EXPIRED);
-        } catch (MalformedJwtException e) {
-            log.error("event=jwt_token_malformed, error_message={}", e.getMessage());
-            throw new AuthException(ErrorMessage.JWT_MALFORMED);
-        } catch (UnsupportedJwtException e) {
-            log.error("event=jwt_token_unsupported, error_message={}", e.getMessage());
-            throw new AuthException(ErrorMessage.JWT_UNSUPPORTED);
-        } catch (IllegalArgumentException e) {
-            log.error("event=jwt_token_claims_empty, error_message={}", e.getMessage());
-            throw new AuthException(ErrorMessage.JWT_CLAIMS_EMPTY);
-        } catch (JwtException e) {
-            log.error("event=jwt_token_invalid_signature, error_message={}", e.getMessage());
-            throw new AuthException(ErrorMessage.JWT_INVALID_SIGNATURE);
-        }
+        parseClaims(token);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 인증 정보를 반환
+     */
+    public JwtPrincipal verify(String token) {
+        return JwtPrincipal.from(parseClaims(token));
     }
 
     // Access Token인지 확인
@@ -148,4 +138,26 @@ public class JwtTokenProvider {
                 .parseSignedClaims(token)
                 .getPayload();
     }
+
+    // 토큰에서 Claims 추출 (검증 실패 시 AuthException으로 변환)
+    private Claims parseClaims(String token) {
+        try {
+            return getClaimsFromToken(token);
+        } catch (ExpiredJwtException e) {
+            log.error("event=jwt_token_expired, token={}", token.substring(0, Math.min(token.length(), 20)) + "...");
+            throw new AuthException(ErrorMessage.JWT_EXPIRED);
+        } catch (MalformedJwtException e) {
+            log.error("event=jwt_token_malformed, error_message={}", e.getMessage());
+            throw new AuthException(ErrorMessage.JWT_MALFORMED);
+        } catch (UnsupportedJwtException e) {
+            log.error("event=jwt_token_unsupported, error_message={}", e.getMessage());
+            throw new AuthException(ErrorMessage.JWT_UNSUPPORTED);
+        } catch (IllegalArgumentException e) {
+            log.error("event=jwt_token_claims_empty, error_message={}", e.getMessage());
+            throw new AuthException(ErrorMessage.JWT_CLAIMS_EMPTY);
+        } catch (JwtException e) {
+            log.error("event=jwt_token_invalid_signature, error_message={}", e.getMessage());
+            throw new AuthException(ErrorMessage.JWT_INVALID_SIGNATURE);
+        }
+    }
 }
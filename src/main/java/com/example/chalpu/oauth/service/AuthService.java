@@ -7,6 +7,7 @@ import com.example.chalpu.common.exception.UserException;
 import com.example.chalpu.oauth.dto.AccessTokenDTO;
 import com.example.chalpu.oauth.dto.RefreshTokenDTO;
 import com.example.chalpu.oauth.dto.TokenDTO;
+import com.example.chalpu.oauth.security.jwt.JwtPrincipalCache;
 import com.example.chalpu.oauth.security.jwt.JwtTokenProvider;
 import com.example.chalpu.oauth.security.jwt.UserDetailsImpl;
 import com.example.chalpu.user.domain.User;
@@ -24,6 +25,7 @@ public class AuthService {
 
     private final RefreshTokenService refreshTokenService;
     private final JwtTokenProvider tokenProvider;
+    private final JwtPrincipalCache principalCache;
 
     @Transactional
     public AccessTokenDTO refreshToken(RefreshTokenDTO refreshToken) {
@@ -46,7 +48,8 @@ public class AuthService {
     public void logout(Long userId) {
         try {
             refreshTokenService.deleteRefreshTokenByUserId(userId);
-            log.info("event=user_logged_out, user_id={}", userId);
+            int evicted = principalCache.evictUser(userId);
+            log.info("event=user_logged_out, user_id={}, cached_principals_evicted={}", userId, evicted);
         } catch (Exception e) {
             log.error("event=user_logout_failed, user_id={}, error_message={}", userId, e.getMessage(), e);
             throw e;
@@ -1,15 +1,18 @@
 package com.example.chalpu.photo.controller;
 
 import com.example.chalpu.common.response.ApiResponse;
+import com.example.chalpu.common.response.CursorResponse;
 import com.example.chalpu.common.response.PageResponse;
 import com.example.chalpu.oauth.security.jwt.UserDetailsImpl;
 import com.example.chalpu.photo.dto.*;
+import com.example.chalpu.photo.service.BackgroundRemovalJobService;
 import com.example.chalpu.photo.service.PhotoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -20,6 +23,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/photos")
 @RequiredArgsConstructor
@@ -27,6 +32,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class PhotoController {
 
     private final PhotoService photoService;
+    private final BackgroundRemovalJobService backgroundRemovalJobService;
 
     @Operation(summary = "Presigned URL 생성", description = """
             클라이언트가 AWS S3에 파일을 직접 업로드하기 위해 사용하는 Presigned URL을 생성합니다.
@@ -64,6 +70,28 @@ public class PhotoController {
         return ApiResponse.success(photoService.registerPhoto(userId, request));
     }
     
+    @Operation(summary = "Presigned URL 일괄 생성", description = """
+            여러 장을 한 번에 업로드할 때 파일 이름 목록을 받아 같은 순서로 Presigned URL 목록을 생성합니다.
+            업로드 방법은 단건 `/api/photos/presigned-url`과 같으며, 업로드가 끝나면 `/api/photos/register/batch`로 한 번에 등록합니다.
+            """)
+    @PostMapping("/presigned-url/batch")
+    public ApiResponse<PhotoBatchPresignedUrlResponse> generatePresignedUrls(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestBody PhotoBatchUploadRequest request) {
+        return ApiResponse.success(photoService.generatePresignedUrls(userDetails.getId(), request));
+    }
+
+    @Operation(summary = "사진 정보 일괄 등록", description = """
+            S3 업로드가 끝난 여러 사진의 메타데이터를 한 번에 등록합니다. 모든 사진은 같은 가게/음식에 속합니다.
+            사진별 결과(`results`)는 요청 순서와 같으며, 일부 사진이 실패해도 나머지는 등록됩니다.
+            """)
+    @PostMapping("/register/batch")
+    public ApiResponse<PhotoBatchRegisterResponse> registerPhotos(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestBody PhotoBatchRegisterRequest request) {
+        return ApiResponse.success(photoService.registerPhotos(userDetails.getId(), request));
+    }
+
     @Operation(summary = "가게별 사진 목록 조회", description = "특정 가게에 속한 사진 목록을 페이지네이션하여 조회합니다.")
     @GetMapping("/store/{storeId}")
     public ApiResponse<PageResponse<PhotoResponse>> getPhotosByStore(
@@ -80,6 +108,27 @@ public class PhotoController {
         return ApiResponse.success(photoService.getPhotosByFoodItem(foodItemId, pageable));
     }
 
+    @Operation(summary = "가게별 사진 목록 커서 조회", description = """
+            특정 가게의 사진을 최신순으로 커서 기반 조회합니다. 전체 개수는 제공하지 않습니다.
+            첫 페이지는 `cursor` 없이 호출하고, 이후에는 응답의 `nextCursor`를 그대로 전달합니다. `nextCursor`가 null이면 마지막 페이지입니다.
+            """)
+    @GetMapping("/store/{storeId}/cursor")
+    public ApiResponse<CursorResponse<PhotoResponse>> getPhotosByStoreWithCursor(
+            @PathVariable Long storeId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size) {
+        return ApiResponse.success(photoService.getPhotosByStoreWithCursor(storeId, cursor, size));
+    }
+
+    @Operation(summary = "음식별 사진 목록 커서 조회", description = "특정 음식의 사진을 최신순으로 커서 기반 조회합니다. 사용 방법은 가게별 커서 조회와 같습니다.")
+    @GetMapping("/food-item/{foodItemId}/cursor")
+    public ApiResponse<CursorResponse<PhotoResponse>> getPhotosByFoodItemWithCursor(
+            @PathVariable Long foodItemId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size) {
+        return ApiResponse.success(photoService.getPhotosByFoodItemWithCursor(foodItemId, cursor, size));
+    }
+
     @Operation(summary = "대표 사진 지정", description = "특정 음식에 대표 사진을 지정합니다.")
     @PatchMapping("/featured")
     public ApiResponse<Void> setFeaturedPhoto(
@@ -124,4 +173,53 @@ public class PhotoController {
                 .header("Content-Disposition", "inline; filename=\"" + request.getFileName() + "_nuggi.png\"")
                 .body(processedImage);
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "배경제거 사진 처리 (스트리밍)", description = """
+            `/background-removal`과 같은 결과를 반환하지만, 업로드 원본과 포토룸 응답을 서버 메모리에 모두 올리지 않고 그대로 전달합니다.
+            응답 전송이 시작된 뒤 발생한 오류는 JSON 에러 응답 대신 연결 종료로 나타납니다.
+            """)
+    @PostMapping(value = "/background-removal/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public void streamPhotoWithBackgroundRemoval(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("file") MultipartFile file,
+            @ModelAttribute PhotoBackgroundRemovalRequest request,
+            HttpServletResponse response) throws IOException {
+
+        if (request.getFileName() == null || request.getFileName().isEmpty()) {
+            request.setFileName(file.getOriginalFilename());
+        }
+
+        response.setContentType(MediaType.IMAGE_PNG_VALUE);
+        response.setHeader("Content-Disposition", "inline; filename=\"" + request.getFileName() + "_nuggi.png\"");
+        photoService.streamBackgroundRemoval(userDetails.getId(), file, request, response.getOutputStream());
+    }
+
+    @Operation(summary = "배경제거 작업 제출", description = """
+            배경 제거를 비동기 작업으로 제출하고 작업 ID를 바로 반환합니다.
+            결과는 `/background-removal/jobs/{jobId}`로 조회하거나, `notify=true`로 제출하면 완료 시 FCM 알림(data.type=background_removal)으로 받을 수 있습니다.
+            완료된 결과는 임시 경로(tmp/)에 저장되며 `resultS3Key`로 사진 등록 API를 호출할 수 있습니다.
+            """)
+    @PostMapping(value = "/background-removal/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<BackgroundRemovalJobResponse> submitBackgroundRemovalJob(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("file") MultipartFile file,
+            @ModelAttribute PhotoBackgroundRemovalRequest request,
+            @RequestParam(value = "notify", defaultValue = "false") boolean notify) {
+
+        if (request.getFileName() == null || request.getFileName().isEmpty()) {
+            request.setFileName(file.getOriginalFilename());
+        }
+        return ApiResponse.success(backgroundRemovalJobService.submit(userDetails.getId(), file, request, notify));
+    }
+
+    @Operation(summary = "배경제거 작업 상태 조회", description = """
+            제출한 배경 제거 작업의 상태와 결과 URL을 조회합니다. 어느 서버 인스턴스로 요청이 가도 같은 결과를 받습니다.
+            작업 정보는 제출 후 일정 시간(기본 60분) 동안만 보관되며, 처리하던 서버가 종료되어 끝나지 못한 작업은 일정 시간 뒤 FAILED로 바뀝니다.
+            """)
+    @GetMapping("/background-removal/jobs/{jobId}")
+    public ApiResponse<BackgroundRemovalJobResponse> getBackgroundRemovalJob(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable String jobId) {
+        return ApiResponse.success(backgroundRemovalJobService.getJob(userDetails.getId(), jobId));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.chalpu.photo.domain;
+
+import com.example.chalpu.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 배경 제거 작업 엔티티
+ * 업로드 원본은 제출받은 인스턴스의 임시 파일에 있으므로 처리는 그 인스턴스가 하고, 상태는 테이블에 남겨 어느 인스턴스에서든 조회할 수 있게 한다.
+ * 처리 인스턴스가 종료되어 QUEUED/PROCESSING에 머문 작업은 정리 작업이 FAILED로 바꾼다.
+ */
+@Entity
+@Table(
+    name = "background_removal_jobs",
+    indexes = @Index(name = "idx_background_removal_jobs_status_updated_at", columnList = "status, updated_at"))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackgroundRemovalJob extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private Long size;
+
+    @Column(name = "notify_on_completion", nullable = false)
+    private Boolean notifyOnCompletion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private BackgroundRemovalJobStatus status;
+
+    /**
+     * 배경 제거 결과 임시 S3 키 (SUCCEEDED일 때만)
+     */
+    @Column(name = "result_s3_key", length = 500)
+    private String resultS3Key;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static BackgroundRemovalJob create(Long userId, String fileName, String contentType, long size, boolean notifyOnCompletion) {
+        return BackgroundRemovalJob.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .fileName(fileName)
+                .contentType(contentType)
+                .size(size)
+                .notifyOnCompletion(notifyOnCompletion)
+                .status(BackgroundRemovalJobStatus.QUEUED)
+                .build();
+    }
+
+    public void markProcessing() {
+        this.status = BackgroundRemovalJobStatus.PROCESSING;
+    }
+
+    public void markSucceeded(String resultS3Key) {
+        this.status = BackgroundRemovalJobStatus.SUCCEEDED;
+        this.resultS3Key = resultS3Key;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = BackgroundRemovalJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+}
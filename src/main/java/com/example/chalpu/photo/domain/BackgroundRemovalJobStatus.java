@@ -0,0 +1,15 @@
+package com.example.chalpu.photo.domain;
+
+/**
+ * 비동기 배경 제거 작업 상태
+ */
+public enum BackgroundRemovalJobStatus {
+    QUEUED,
+    PROCESSING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
@@ -8,6 +8,9 @@ import com.example.chalpu.store.domain.Store;
 import jakarta.persistence.*;
 import lombok.*;
 import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @NamedEntityGraph(
     name = "Photo.withAll",
@@ -18,13 +21,20 @@ import java.sql.Timestamp;
     }
 )
 @Entity
-@Table(name = "photos")
+@Table(name = "photos", indexes = {
+    // 키셋 페이지네이션: 가게/음식별 활성 사진을 (created_at, photo_id) 순서로 탐색
+    @Index(name = "idx_photos_store_active_created", columnList = "store_id, is_active, created_at, photo_id"),
+    @Index(name = "idx_photos_food_active_created", columnList = "food_id, is_active, created_at, photo_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(callSuper = false)
 public class Photo extends BaseTimeEntity {
+    public static final int MAX_S3_KEY_LENGTH = 500;
+    public static final int MAX_FILE_NAME_LENGTH = 255;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "photo_id")
@@ -42,10 +52,10 @@ public class Photo extends BaseTimeEntity {
     @JoinColumn(name = "food_id")
     private FoodItem foodItem;
 
-    @Column(length = 500, nullable = false, unique = true)
+    @Column(length = MAX_S3_KEY_LENGTH, nullable = false, unique = true)
     private String s3Key;
 
-    @Column(length = 255, nullable = false)
+    @Column(length = MAX_FILE_NAME_LENGTH, nullable = false)
     private String fileName;
 
     private String filter;
@@ -56,8 +66,43 @@ public class Photo extends BaseTimeEntity {
     @Builder.Default
     private Boolean isActive = true;
 
+    // 생성이 끝난 리사이즈 변형 너비 목록 (예: "320,640"), 생성 전이면 null
+    @Column(length = 100)
+    private String variantWidths;
+
     public void softDelete() {
         this.isActive = false;
     }
 
+    /**
+     * 생성된 리사이즈 변형의 너비별 S3 키 (너비 오름차순)
+     */
+    public Map<Integer, String> getVariantS3Keys() {
+        Map<Integer, String> variantS3Keys = new LinkedHashMap<>();
+        if (variantWidths == null || variantWidths.isBlank() || s3Key == null) {
+            return variantS3Keys;
+        }
+        Arrays.stream(variantWidths.split(","))
+                .map(String::trim)
+                .filter(width -> !width.isEmpty())
+                .map(Integer::valueOf)
+                .sorted()
+                .forEach(width -> variantS3Keys.put(width, variantS3Key(s3Key, width)));
+        return variantS3Keys;
+    }
+
+    /**
+     * 원본 키에서 파생된 변형 키 (foodPhoto/abc.jpg -> foodPhoto/abc_w320.jpg)
+     * PNG 원본은 투명도를 유지하도록 PNG로, 나머지는 JPEG로 인코딩한다.
+     */
+    public static String variantS3Key(String s3Key, int width) {
+        int lastDotIndex = s3Key.lastIndexOf('.');
+        String base = lastDotIndex == -1 ? s3Key : s3Key.substring(0, lastDotIndex);
+        return base + "_w" + width + "." + variantFormat(s3Key);
+    }
+
+    public static String variantFormat(String s3Key) {
+        return s3Key.toLowerCase().endsWith(".png") ? "png" : "jpg";
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.example.chalpu.photo.dto;
+
+import com.example.chalpu.photo.domain.BackgroundRemovalJob;
+import com.example.chalpu.photo.domain.BackgroundRemovalJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "비동기 배경 제거 작업 응답")
+public class BackgroundRemovalJobResponse {
+
+    @Schema(description = "작업 ID. 상태 조회 API에 사용", example = "3f2b8c1e-6a0d-4d8e-9b7a-1c2d3e4f5a6b")
+    private String jobId;
+
+    @Schema(description = "작업 상태 (QUEUED, PROCESSING, SUCCEEDED, FAILED)", example = "SUCCEEDED")
+    private BackgroundRemovalJobStatus status;
+
+    @Schema(description = "배경 제거 결과가 저장된 임시 S3 키 (SUCCEEDED일 때만)", example = "tmp/a1b2c3d4-e5f6-7890-1234-567890abcdef.png")
+    private String resultS3Key;
+
+    @Schema(description = "배경 제거 결과 이미지 URL (SUCCEEDED일 때만)")
+    private String resultUrl;
+
+    @Schema(description = "실패 사유 (FAILED일 때만)")
+    private String errorMessage;
+
+    @Schema(description = "작업 생성 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "작업 완료 시각")
+    private LocalDateTime completedAt;
+
+    public static BackgroundRemovalJobResponse from(BackgroundRemovalJob job, String cloudfrontDomain) {
+        String resultS3Key = job.getResultS3Key();
+        return BackgroundRemovalJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .resultS3Key(resultS3Key)
+                .resultUrl(buildFullUrl(cloudfrontDomain, resultS3Key))
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private static String buildFullUrl(String cloudfrontDomain, String s3Key) {
+        if (cloudfrontDomain == null || s3Key == null) {
+            return null;
+        }
+        return cloudfrontDomain.endsWith("/") ? cloudfrontDomain + s3Key : cloudfrontDomain + "/" + s3Key;
+    }
+}
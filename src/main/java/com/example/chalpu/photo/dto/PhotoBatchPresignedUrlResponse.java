@@ -0,0 +1,20 @@
+package com.example.chalpu.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Presigned URL 일괄 발급 응답")
+public class PhotoBatchPresignedUrlResponse {
+
+    @Schema(description = "요청한 파일 이름 순서대로 발급된 Presigned URL 목록")
+    private List<PhotoPresignedUrlResponse> presignedUrls;
+}
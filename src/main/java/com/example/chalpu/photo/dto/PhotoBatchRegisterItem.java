@@ -0,0 +1,30 @@
+package com.example.chalpu.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일괄 등록할 사진 한 장의 정보")
+public class PhotoBatchRegisterItem {
+
+    @Schema(description = "Presigned URL 발급 시 받았던 S3 파일 키", example = "foodPhoto/a1b2c3d4-e5f6-7890-1234-567890abcdef.jpg")
+    private String s3Key;
+
+    @Schema(description = "업로드한 파일의 원본 이름", example = "kimchi-stew.jpg")
+    private String fileName;
+
+    @Schema(description = "파일 크기 (bytes)", example = "3145728")
+    private Integer fileSize;
+
+    @Schema(description = "이미지 가로 길이 (px)", example = "1920")
+    private Integer imageWidth;
+
+    @Schema(description = "이미지 세로 길이 (px)", example = "1080")
+    private Integer imageHeight;
+}
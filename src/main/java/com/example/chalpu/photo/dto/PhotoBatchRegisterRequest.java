@@ -0,0 +1,26 @@
+package com.example.chalpu.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "S3 업로드 완료 후 여러 사진 정보 일괄 등록 요청")
+public class PhotoBatchRegisterRequest {
+
+    @Schema(description = "사진들이 속한 가게의 ID", example = "1")
+    private Long storeId;
+
+    @Schema(description = "사진들이 속한 음식 아이템의 ID (선택)", example = "10")
+    private Long foodItemId;
+
+    @Schema(description = "등록할 사진 목록")
+    private List<PhotoBatchRegisterItem> photos;
+}
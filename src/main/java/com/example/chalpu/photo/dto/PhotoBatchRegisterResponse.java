@@ -0,0 +1,35 @@
+package com.example.chalpu.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사진 일괄 등록 응답")
+public class PhotoBatchRegisterResponse {
+
+    @Schema(description = "등록에 성공한 사진 수", example = "19")
+    private int successCount;
+
+    @Schema(description = "등록에 실패한 사진 수", example = "1")
+    private int failureCount;
+
+    @Schema(description = "요청 순서대로 정렬된 사진별 처리 결과")
+    private List<PhotoBatchRegisterResult> results;
+
+    public static PhotoBatchRegisterResponse of(List<PhotoBatchRegisterResult> results) {
+        int successCount = (int) results.stream().filter(PhotoBatchRegisterResult::isSuccess).count();
+        return PhotoBatchRegisterResponse.builder()
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
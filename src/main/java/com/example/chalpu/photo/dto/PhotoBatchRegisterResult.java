@@ -0,0 +1,48 @@
+package com.example.chalpu.photo.dto;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일괄 등록된 사진 한 장의 처리 결과")
+public class PhotoBatchRegisterResult {
+
+    @Schema(description = "요청한 S3 파일 키", example = "foodPhoto/a1b2c3d4-e5f6-7890-1234-567890abcdef.jpg")
+    private String s3Key;
+
+    @Schema(description = "등록 성공 여부", example = "true")
+    private boolean success;
+
+    @Schema(description = "등록된 사진 정보 (실패 시 null)")
+    private PhotoResponse photo;
+
+    @Schema(description = "실패 사유 코드 (성공 시 null)", example = "PHOTO_ALREADY_REGISTERED")
+    private String errorCode;
+
+    @Schema(description = "실패 사유 메시지 (성공 시 null)", example = "이미 등록된 사진입니다.")
+    private String errorMessage;
+
+    public static PhotoBatchRegisterResult success(String s3Key, PhotoResponse photo) {
+        return PhotoBatchRegisterResult.builder()
+                .s3Key(s3Key)
+                .success(true)
+                .photo(photo)
+                .build();
+    }
+
+    public static PhotoBatchRegisterResult failure(String s3Key, ErrorMessage errorMessage) {
+        return PhotoBatchRegisterResult.builder()
+                .s3Key(s3Key)
+                .success(false)
+                .errorCode(errorMessage.name())
+                .errorMessage(errorMessage.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.chalpu.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "여러 사진 업로드를 위한 Presigned URL 일괄 요청")
+public class PhotoBatchUploadRequest {
+
+    @Schema(description = "업로드할 파일들의 원본 이름", example = "[\"kimchi-stew.jpg\", \"bibimbap.png\"]")
+    private List<String> fileNames;
+}
@@ -8,6 +8,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Data
 @Builder
@@ -31,6 +33,13 @@ public class PhotoResponse {
     @Schema(description = "CloudFront를 통해 접근 가능한 이미지 전체 URL", example = "https://cdn.chalpu.com/photos/stores/1/image.jpg")
     private String imageUrl;
     
+    @Schema(description = "목록/그리드용 썸네일 URL. 변형이 아직 생성되지 않았으면 원본 URL", example = "https://cdn.chalpu.com/foodPhoto/image_w320.jpg")
+    private String thumbnailUrl;
+
+    @Schema(description = "너비별 리사이즈 이미지 URL (키: w{너비}). 생성 전이면 비어 있음",
+            example = "{\"w320\": \"https://cdn.chalpu.com/foodPhoto/image_w320.jpg\", \"w640\": \"https://cdn.chalpu.com/foodPhoto/image_w640.jpg\"}")
+    private Map<String, String> variantUrls;
+
     @Schema(description = "원본 파일명", example = "image.jpg")
     private String fileName;
     
@@ -47,11 +56,17 @@ public class PhotoResponse {
     private LocalDateTime createdAt;
     
     public static PhotoResponse from(Photo photo, String cloudfrontDomain) {
+        Map<String, String> variantUrls = new LinkedHashMap<>();
+        photo.getVariantS3Keys().forEach((width, variantS3Key) ->
+                variantUrls.put("w" + width, buildFullUrl(cloudfrontDomain, variantS3Key)));
+        String imageUrl = buildFullUrl(cloudfrontDomain, photo.getS3Key());
         return PhotoResponse.builder()
                 .photoId(photo.getId())
                 .storeId(photo.getStore() != null ? photo.getStore().getId() : null)
                 .foodItemId(photo.getFoodItem() != null ? photo.getFoodItem().getId() : null)
-                .imageUrl(buildFullUrl(cloudfrontDomain, photo.getS3Key()))
+                .imageUrl(imageUrl)
+                .thumbnailUrl(variantUrls.isEmpty() ? imageUrl : variantUrls.values().iterator().next())
+                .variantUrls(variantUrls)
                 .fileName(photo.getFileName())
                 .userId(photo.getUser() != null ? photo.getUser().getId() : null)
                 .fileSize(photo.getFileSize())
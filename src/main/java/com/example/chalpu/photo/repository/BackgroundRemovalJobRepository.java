@@ -0,0 +1,43 @@
+package com.example.chalpu.photo.repository;
+
+import com.example.chalpu.photo.domain.BackgroundRemovalJob;
+import com.example.chalpu.photo.domain.BackgroundRemovalJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 비동기 배경 제거 작업 Repository
+ */
+@Repository
+public interface BackgroundRemovalJobRepository extends JpaRepository<BackgroundRemovalJob, String> {
+
+    /**
+     * 처리 인스턴스가 사라져 끝나지 못한 작업을 실패로 종료
+     * @param statuses 종료되지 않은 상태 (QUEUED, PROCESSING)
+     * @param staleBefore 이 시각 이후로 상태 변경이 없는 작업만 대상
+     * @return 실패 처리된 작업 수
+     */
+    @Modifying
+    @Query("UPDATE BackgroundRemovalJob j SET j.status = :failed, j.errorMessage = :errorMessage, " +
+           "j.completedAt = :now, j.updatedAt = :now " +
+           "WHERE j.status IN :statuses AND j.updatedAt < :staleBefore")
+    int failStale(@Param("statuses") Collection<BackgroundRemovalJobStatus> statuses,
+                  @Param("failed") BackgroundRemovalJobStatus failed,
+                  @Param("errorMessage") String errorMessage,
+                  @Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 작업 삭제
+     * @return 삭제된 작업 수
+     */
+    @Modifying
+    @Query("DELETE FROM BackgroundRemovalJob j WHERE j.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -0,0 +1,69 @@
+package com.example.chalpu.photo.repository;
+
+import com.example.chalpu.photo.dto.PhotoBatchRegisterItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사진 일괄 등록 Repository
+ * IDENTITY 전략에서는 JPA 배치 INSERT가 동작하지 않으므로 JDBC 배치로 한 번에 전송한다.
+ * (MySQL 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 다중 VALUES INSERT로 재작성된다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PhotoJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO photos "
+            + "(user_id, store_id, food_id, s3_key, file_name, file_size, image_width, image_height, is_active, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사진 일괄 등록 (이미 등록된 s3Key는 무시)
+     * IGNORE는 길이 초과 값을 잘라서 저장하므로 s3Key/fileName 길이는 호출 측에서 검증해야 한다.
+     * @param createdAt 생성/수정 시각 (호출 측이 결과 행을 식별할 수 있도록 전달)
+     * @return 사진별 반영 행 수 (0이면 중복으로 무시됨, Statement.SUCCESS_NO_INFO면 드라이버가 건별 결과를 주지 않아 삽입 여부를 알 수 없음)
+     */
+    public int[] insertIgnoreAll(Long userId, Long storeId, Long foodItemId, List<PhotoBatchRegisterItem> items,
+                                 LocalDateTime createdAt) {
+        if (items.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(createdAt);
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PhotoBatchRegisterItem item = items.get(i);
+                ps.setLong(1, userId);
+                ps.setLong(2, storeId);
+                if (foodItemId != null) {
+                    ps.setLong(3, foodItemId);
+                } else {
+                    ps.setNull(3, Types.BIGINT);
+                }
+                ps.setString(4, item.getS3Key());
+                ps.setString(5, item.getFileName());
+                ps.setObject(6, item.getFileSize(), Types.INTEGER);
+                ps.setObject(7, item.getImageWidth(), Types.INTEGER);
+                ps.setObject(8, item.getImageHeight(), Types.INTEGER);
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return items.size();
+            }
+        });
+    }
+}
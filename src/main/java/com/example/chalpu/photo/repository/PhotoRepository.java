@@ -9,7 +9,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,8 +37,35 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     @Query("SELECT p FROM Photo p WHERE p.foodItem.id = :foodId AND p.isActive = true")
     Page<Photo> findByFoodItemIdAndIsActiveTrueWithoutJoin(@Param("foodId") Long foodId, Pageable pageable);
 
+    // 키셋 페이지네이션 (최신순). List 반환이라 COUNT 쿼리가 실행되지 않는다.
+    @Query("SELECT p FROM Photo p WHERE p.store.id = :storeId AND p.isActive = true "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findFirstPageByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+
+    @Query("SELECT p FROM Photo p WHERE p.store.id = :storeId AND p.isActive = true "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findPageByStoreIdAfter(@Param("storeId") Long storeId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Photo p WHERE p.foodItem.id = :foodId AND p.isActive = true "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findFirstPageByFoodItemId(@Param("foodId") Long foodId, Pageable pageable);
+
+    @Query("SELECT p FROM Photo p WHERE p.foodItem.id = :foodId AND p.isActive = true "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findPageByFoodItemIdAfter(@Param("foodId") Long foodId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable pageable);
+
     Optional<Photo> findByIdAndIsActiveTrue(Long id);
 
+    @Query("SELECT p FROM Photo p WHERE p.s3Key IN :s3Keys")
+    List<Photo> findByS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+
+    @Query("SELECT p.s3Key FROM Photo p WHERE p.s3Key IN :s3Keys")
+    List<String> findS3KeysByS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+
     // 경량화된 조회 메서드 (연관 엔티티 조회 없음)
     @Query("SELECT p FROM Photo p WHERE p.id = :id AND p.isActive = true")
     Optional<Photo> findByIdAndIsActiveTrueWithoutJoin(@Param("id") Long id);
@@ -59,4 +89,32 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     @Modifying
     @Query("UPDATE Photo p SET p.isActive = true WHERE p.user.id = :userId")
     void activateByUserId(@Param("userId") Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * 리사이즈 변형 생성 완료 기록 (변형 생성 작업 스레드에서 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.variantWidths = :variantWidths WHERE p.id = :photoId")
+    int updateVariantWidths(@Param("photoId") Long photoId, @Param("variantWidths") String variantWidths);
+
+    /**
+     * Store 삭제 시 매장의 사진 소프트 딜리트 (UPDATE 1회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Photo p SET p.isActive = false, p.updatedAt = CURRENT_TIMESTAMP WHERE p.store.id = :storeId AND p.isActive = true")
+    int softDeleteByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * Store 삭제 청크 처리 - 최대 limit 행만 소프트 딜리트 (호출마다 별도 트랜잭션)
+     * @return 변경된 행 수 (limit보다 작으면 남은 행 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE photos SET is_active = false, updated_at = NOW() "
+            + "WHERE store_id = :storeId AND is_active = true LIMIT :limit", nativeQuery = true)
+    int softDeleteChunkByStoreId(@Param("storeId") Long storeId, @Param("limit") int limit);
+
+    long countByStoreIdAndIsActiveTrue(Long storeId);
+}
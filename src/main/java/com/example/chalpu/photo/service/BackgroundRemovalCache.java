@@ -0,0 +1,453 @@
+package com.example.chalpu.photo.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 배경 제거 결과 캐시 (업로드 원본의 SHA-256 다이제스트 기준)
+ * 같은 사진으로 재시도할 때 포토룸을 다시 호출하지 않도록 결과 PNG를 보관한다.
+ * 메모리 계층(작은 용량, 빠름)과 디스크 계층(큰 용량)으로 나뉘며, 각 계층은 바이트 크기 기준 LRU로 제거되고
+ * 저장 후 TTL이 지난 항목은 조회 시점에 제거된다. 디스크에서 조회된 항목은 메모리 계층으로 올린다.
+ */
+@Slf4j
+@Component
+public class BackgroundRemovalCache {
+
+    private static final String FILE_SUFFIX = ".png";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final boolean enabled;
+    private final long memoryMaxBytes;
+    private final long diskMaxBytes;
+    private final Duration ttl;
+    private final Path directory;
+    private final Clock clock;
+
+    private final LinkedHashMap<String, MemoryEntry> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private final LinkedHashMap<String, DiskEntry> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskBytes;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder memoryEvictions = new LongAdder();
+    private final LongAdder diskEvictions = new LongAdder();
+
+    @Autowired
+    public BackgroundRemovalCache(
+            MeterRegistry meterRegistry,
+            @Value("${photoroom.cache.enabled:true}") boolean enabled,
+            @Value("${photoroom.cache.memory-max-bytes:67108864}") long memoryMaxBytes,
+            @Value("${photoroom.cache.disk-max-bytes:1073741824}") long diskMaxBytes,
+            @Value("${photoroom.cache.ttl-hours:24}") long ttlHours,
+            @Value("${photoroom.cache.disk-dir:${java.io.tmpdir}/chalpu-background-removal}") String directory) {
+        this(meterRegistry, enabled, memoryMaxBytes, diskMaxBytes, Duration.ofHours(ttlHours), Path.of(directory), Clock.systemUTC());
+    }
+
+    BackgroundRemovalCache(MeterRegistry meterRegistry, boolean enabled, long memoryMaxBytes, long diskMaxBytes,
+                           Duration ttl, Path directory, Clock clock) {
+        this.enabled = enabled;
+        this.memoryMaxBytes = memoryMaxBytes;
+        this.ttl = ttl;
+        this.directory = directory;
+        this.clock = clock;
+        this.diskMaxBytes = enabled && diskMaxBytes > 0 && prepareDirectory() ? diskMaxBytes : 0;
+        registerMetrics(meterRegistry);
+    }
+
+    /**
+     * 업로드 원본의 캐시 키 (SHA-256 hex)
+     */
+    public static String digest(byte[] content) {
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
+
+    /**
+     * 스트림을 나눠 읽으며 캐시 키를 계산할 때 사용하는 SHA-256 MessageDigest
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Optional<byte[]> get(String digest) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        byte[] fromMemory = getFromMemory(digest);
+        if (fromMemory != null) {
+            memoryHits.increment();
+            return Optional.of(fromMemory);
+        }
+        DiskEntry diskEntry = getDiskEntry(digest);
+        if (diskEntry != null) {
+            try {
+                byte[] fromDisk = Files.readAllBytes(fileOf(digest));
+                putInMemory(digest, fromDisk, diskEntry.storedAtMillis());
+                diskHits.increment();
+                return Optional.of(fromDisk);
+            } catch (NoSuchFileException e) {
+                // 조회 도중 다른 요청이 제거한 경우
+                removeDiskEntry(digest);
+            } catch (IOException e) {
+                log.warn("event=background_removal_cache_read_failed, digest={}, error_message={}", digest, e.getMessage());
+                removeDiskEntry(digest);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String digest, byte[] result) {
+        if (!enabled || result == null) {
+            return;
+        }
+        long now = clock.millis();
+        putInMemory(digest, result, now);
+        putOnDisk(digest, result, now);
+    }
+
+    /**
+     * 캐시된 결과를 힙에 한 번에 올리지 않고 출력 스트림으로 바로 복사 (스트리밍 모드용)
+     * 디스크 계층 항목은 메모리 계층으로 올리지 않는다.
+     *
+     * @return 캐시 적중 여부
+     */
+    public boolean writeTo(String digest, OutputStream out) throws IOException {
+        if (!enabled) {
+            return false;
+        }
+        byte[] fromMemory = getFromMemory(digest);
+        if (fromMemory != null) {
+            memoryHits.increment();
+            out.write(fromMemory);
+            return true;
+        }
+        if (getDiskEntry(digest) != null) {
+            try {
+                Files.copy(fileOf(digest), out);
+                diskHits.increment();
+                return true;
+            } catch (NoSuchFileException e) {
+                removeDiskEntry(digest);
+            }
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * 스트리밍으로 받은 결과를 디스크 계층에 기록하는 writer
+     * 디스크 계층이 비활성화되었거나 임시 파일을 만들 수 없으면 null을 반환한다.
+     */
+    public DiskWriter openDiskWriter(String digest) {
+        if (!enabled || diskMaxBytes == 0) {
+            return null;
+        }
+        Path temp = directory.resolve(digest + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            return new DiskWriter(digest, temp, Files.newOutputStream(temp));
+        } catch (IOException e) {
+            log.warn("event=background_removal_cache_write_failed, digest={}, error_message={}", digest, e.getMessage());
+            return null;
+        }
+    }
+
+    private synchronized byte[] getFromMemory(String digest) {
+        MemoryEntry entry = memoryEntries.get(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry.storedAtMillis())) {
+            memoryEntries.remove(digest);
+            memoryBytes -= entry.data().length;
+            memoryEvictions.increment();
+            return null;
+        }
+        return entry.data();
+    }
+
+    private synchronized void putInMemory(String digest, byte[] data, long storedAtMillis) {
+        // 메모리 계층 용량의 1/4을 넘는 결과는 디스크 계층에만 둔다
+        if (data.length > memoryMaxBytes / 4) {
+            return;
+        }
+        MemoryEntry previous = memoryEntries.put(digest, new MemoryEntry(data, storedAtMillis));
+        memoryBytes += data.length - (previous == null ? 0 : previous.data().length);
+        Iterator<MemoryEntry> eldest = memoryEntries.values().iterator();
+        while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+            memoryBytes -= eldest.next().data().length;
+            eldest.remove();
+            memoryEvictions.increment();
+        }
+    }
+
+    private DiskEntry getDiskEntry(String digest) {
+        synchronized (diskEntries) {
+            DiskEntry entry = diskEntries.get(digest);
+            if (entry != null && isExpired(entry.storedAtMillis())) {
+                evictFromDisk(digest, entry);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void putOnDisk(String digest, byte[] data, long storedAtMillis) {
+        if (diskMaxBytes == 0 || data.length > diskMaxBytes) {
+            return;
+        }
+        Path temp = directory.resolve(digest + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            Files.write(temp, data);
+        } catch (IOException e) {
+            log.warn("event=background_removal_cache_write_failed, digest={}, error_message={}", digest, e.getMessage());
+            deleteQuietly(temp);
+            return;
+        }
+        moveIntoPlace(digest, temp, data.length, storedAtMillis);
+    }
+
+    private void moveIntoPlace(String digest, Path temp, long size, long storedAtMillis) {
+        try {
+            Files.move(temp, fileOf(digest), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("event=background_removal_cache_write_failed, digest={}, error_message={}", digest, e.getMessage());
+            deleteQuietly(temp);
+            return;
+        }
+        synchronized (diskEntries) {
+            DiskEntry previous = diskEntries.put(digest, new DiskEntry(size, storedAtMillis));
+            diskBytes += size - (previous == null ? 0 : previous.size());
+            evictDiskOverflow();
+        }
+    }
+
+    private void removeDiskEntry(String digest) {
+        synchronized (diskEntries) {
+            DiskEntry entry = diskEntries.remove(digest);
+            if (entry != null) {
+                diskBytes -= entry.size();
+            }
+        }
+    }
+
+    private void evictDiskOverflow() {
+        Iterator<Map.Entry<String, DiskEntry>> eldest = diskEntries.entrySet().iterator();
+        while (diskBytes > diskMaxBytes && eldest.hasNext()) {
+            Map.Entry<String, DiskEntry> entry = eldest.next();
+            eldest.remove();
+            diskBytes -= entry.getValue().size();
+            diskEvictions.increment();
+            deleteQuietly(fileOf(entry.getKey()));
+        }
+    }
+
+    private void evictFromDisk(String digest, DiskEntry entry) {
+        diskEntries.remove(digest);
+        diskBytes -= entry.size();
+        diskEvictions.increment();
+        deleteQuietly(fileOf(digest));
+    }
+
+    /**
+     * 디스크 디렉터리를 만들고 이전 실행에서 남은 항목을 수정 시각 순으로 다시 색인한다.
+     */
+    private boolean prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> listed = Files.list(directory)) {
+                listed.forEach(files::add);
+            }
+            files.sort(Comparator.comparingLong(this::lastModifiedMillis));
+            synchronized (diskEntries) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    if (!fileName.endsWith(FILE_SUFFIX)) {
+                        deleteQuietly(file);
+                        continue;
+                    }
+                    long storedAt = lastModifiedMillis(file);
+                    if (isExpired(storedAt)) {
+                        deleteQuietly(file);
+                        continue;
+                    }
+                    long size = Files.size(file);
+                    diskEntries.put(fileName.substring(0, fileName.length() - FILE_SUFFIX.length()), new DiskEntry(size, storedAt));
+                    diskBytes += size;
+                }
+            }
+            log.info("event=background_removal_cache_loaded, directory={}, entries={}, bytes={}", directory, diskEntries.size(), diskBytes);
+            return true;
+        } catch (IOException e) {
+            log.warn("event=background_removal_cache_disk_disabled, directory={}, error_message={}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isExpired(long storedAtMillis) {
+        return clock.millis() - storedAtMillis >= ttl.toMillis();
+    }
+
+    private Path fileOf(String digest) {
+        return directory.resolve(digest + FILE_SUFFIX);
+    }
+
+    private long lastModifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("event=background_removal_cache_delete_failed, file={}, error_message={}", file, e.getMessage());
+        }
+    }
+
+    synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    long getDiskBytes() {
+        synchronized (diskEntries) {
+            return diskBytes;
+        }
+    }
+
+    double hitRatio() {
+        double hits = memoryHits.sum() + diskHits.sum();
+        double total = hits + misses.sum();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("photoroom.cache.requests", memoryHits, LongAdder::sum)
+                .description("배경 제거 결과 캐시 조회 수")
+                .tags("result", "hit", "tier", "memory")
+                .register(meterRegistry);
+        FunctionCounter.builder("photoroom.cache.requests", diskHits, LongAdder::sum)
+                .tags("result", "hit", "tier", "disk")
+                .register(meterRegistry);
+        FunctionCounter.builder("photoroom.cache.requests", misses, LongAdder::sum)
+                .tags("result", "miss", "tier", "none")
+                .register(meterRegistry);
+        Gauge.builder("photoroom.cache.hit_ratio", this, BackgroundRemovalCache::hitRatio)
+                .description("배경 제거 결과 캐시 적중률 (0~1)")
+                .register(meterRegistry);
+        Gauge.builder("photoroom.cache.bytes", this, BackgroundRemovalCache::getMemoryBytes)
+                .description("배경 제거 결과 캐시에 저장된 바이트 수")
+                .tag("tier", "memory")
+                .register(meterRegistry);
+        Gauge.builder("photoroom.cache.bytes", this, BackgroundRemovalCache::getDiskBytes)
+                .tag("tier", "disk")
+                .register(meterRegistry);
+        FunctionCounter.builder("photoroom.cache.evictions", memoryEvictions, LongAdder::sum)
+                .description("용량 초과 또는 만료로 제거된 항목 수")
+                .tag("tier", "memory")
+                .register(meterRegistry);
+        FunctionCounter.builder("photoroom.cache.evictions", diskEvictions, LongAdder::sum)
+                .tag("tier", "disk")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트리밍 결과를 임시 파일에 기록하고 commit 시 디스크 계층에 등록한다.
+     * 기록 실패는 응답 스트리밍에 영향을 주지 않도록 내부에서 삼키고 commit 시 버린다.
+     */
+    public final class DiskWriter {
+
+        private final String digest;
+        private final Path temp;
+        private final OutputStream out;
+        private long size;
+        private boolean failed;
+
+        private DiskWriter(String digest, Path temp, OutputStream out) {
+            this.digest = digest;
+            this.temp = temp;
+            this.out = out;
+        }
+
+        public void write(byte[] buffer, int offset, int length) {
+            if (failed) {
+                return;
+            }
+            if (size + length > diskMaxBytes) {
+                failed = true;
+                return;
+            }
+            try {
+                out.write(buffer, offset, length);
+                size += length;
+            } catch (IOException e) {
+                log.warn("event=background_removal_cache_write_failed, digest={}, error_message={}", digest, e.getMessage());
+                failed = true;
+            }
+        }
+
+        public void commit() {
+            closeQuietly();
+            if (failed || size == 0) {
+                deleteQuietly(temp);
+                return;
+            }
+            moveIntoPlace(digest, temp, size, clock.millis());
+        }
+
+        public void discard() {
+            closeQuietly();
+            deleteQuietly(temp);
+        }
+
+        private void closeQuietly() {
+            try {
+                out.close();
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+    }
+
+    private record MemoryEntry(byte[] data, long storedAtMillis) {
+    }
+
+    private record DiskEntry(long size, long storedAtMillis) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.PhotoException;
+import com.example.chalpu.common.resilience.Bulkhead;
+import com.example.chalpu.common.resilience.BulkheadFullException;
+import com.example.chalpu.common.resilience.CallNotPermittedException;
+import com.example.chalpu.common.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 포토룸 배경 제거 호출 전용 격벽과 서킷 브레이커
+ * 포토룸이 느려져도 배경 제거 요청이 Tomcat 워커를 모두 점유하지 않도록 동시 호출 수와 대기열을 제한하고,
+ * 실패율/지연 호출 비율이 높으면 일정 시간 호출을 차단한 뒤 half-open 시험 호출로 복구 여부를 확인한다.
+ * 거절된 요청은 503(PHOTO_BACKGROUND_REMOVAL_BUSY / PHOTO_BACKGROUND_REMOVAL_UNAVAILABLE)으로 응답한다.
+ */
+@Slf4j
+@Component
+public class BackgroundRemovalGuard {
+
+    static final String NAME = "photoroom";
+
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public BackgroundRemovalGuard(
+            MeterRegistry meterRegistry,
+            @Value("${photoroom.bulkhead.max-concurrent:8}") int maxConcurrent,
+            @Value("${photoroom.bulkhead.max-waiting:16}") int maxWaiting,
+            @Value("${photoroom.bulkhead.max-wait-millis:2000}") long maxWaitMillis,
+            @Value("${photoroom.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${photoroom.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${photoroom.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${photoroom.circuit-breaker.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+            @Value("${photoroom.circuit-breaker.slow-call-duration-millis:20000}") long slowCallDurationMillis,
+            @Value("${photoroom.circuit-breaker.open-duration-seconds:30}") long openDurationSeconds,
+            @Value("${photoroom.circuit-breaker.half-open-permitted-calls:3}") int halfOpenPermittedCalls) {
+        this(meterRegistry,
+                new Bulkhead(NAME, maxConcurrent, maxWaiting, Duration.ofMillis(maxWaitMillis)),
+                new CircuitBreaker(NAME, new CircuitBreaker.Settings(
+                        windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                        Duration.ofMillis(slowCallDurationMillis), Duration.ofSeconds(openDurationSeconds), halfOpenPermittedCalls)));
+    }
+
+    BackgroundRemovalGuard(MeterRegistry meterRegistry, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = bulkhead.bindTo(meterRegistry);
+        this.circuitBreaker = circuitBreaker.bindTo(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        try {
+            bulkhead.acquire();
+        } catch (BulkheadFullException e) {
+            reject(e.getReason().name().toLowerCase());
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_BUSY);
+        }
+
+        try {
+            try {
+                circuitBreaker.acquirePermission();
+            } catch (CallNotPermittedException e) {
+                reject("circuit_open");
+                throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_UNAVAILABLE);
+            }
+
+            long startNanos = System.nanoTime();
+            try {
+                T result = call.get();
+                circuitBreaker.onSuccess(System.nanoTime() - startNanos);
+                return result;
+            } catch (Throwable e) {
+                if (countsAsFailure(e)) {
+                    circuitBreaker.onError(System.nanoTime() - startNanos);
+                } else {
+                    circuitBreaker.onSuccess(System.nanoTime() - startNanos);
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 요청 자체의 문제(4xx)는 포토룸 장애가 아니므로 실패율에 반영하지 않는다. 단 429는 과부하 신호로 본다.
+     */
+    static boolean countsAsFailure(Throwable e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private void reject(String reason) {
+        log.warn("event=background_removal_rejected, reason={}, active={}, waiting={}, circuit_state={}",
+                reason, bulkhead.getActive(), bulkhead.getWaiting(), circuitBreaker.getState());
+        Counter.builder("resilience.rejected")
+                .description("격벽/서킷 브레이커에 의해 거절된 호출 수")
+                .tags("name", NAME, "reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
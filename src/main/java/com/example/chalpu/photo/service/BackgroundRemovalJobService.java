@@ -0,0 +1,305 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.PhotoException;
+import com.example.chalpu.fcm.dto.NotificationRequest;
+import com.example.chalpu.fcm.service.NotificationService;
+import com.example.chalpu.photo.domain.BackgroundRemovalJob;
+import com.example.chalpu.photo.domain.BackgroundRemovalJobStatus;
+import com.example.chalpu.photo.dto.BackgroundRemovalJobResponse;
+import com.example.chalpu.photo.dto.PhotoBackgroundRemovalRequest;
+import com.example.chalpu.photo.repository.BackgroundRemovalJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 배경 제거 작업
+ * 제출 시 업로드 원본을 임시 파일로 옮기고 작업 ID를 바로 반환한다. 요청 스레드는 포토룸 호출을 기다리지 않는다.
+ * 작업 스레드 수는 포토룸 동시 호출 상한을 넘지 않도록 두고, 대기열이 가득 차면 503으로 거절한다.
+ * 결과는 S3 tmp/ 경로에 저장하며, 클라이언트는 상태 조회 API로 확인하거나 요청 시 FCM 알림을 받는다.
+ * 작업 상태는 background_removal_jobs 테이블에 기록하므로 로드밸런서가 조회 요청을 다른 인스턴스로 보내도 조회된다.
+ * 원본 임시 파일은 제출받은 인스턴스에만 있으므로, 그 인스턴스가 처리 전에 종료되면 정리 작업이 일정 시간 뒤 FAILED로 바꾼다.
+ */
+@Slf4j
+@Service
+public class BackgroundRemovalJobService {
+
+    private static final String RESULT_PREFIX = "tmp/";
+
+    private final PhotoRoomService photoRoomService;
+    private final S3Client s3Client;
+    private final NotificationService notificationService;
+    private final MeterRegistry meterRegistry;
+    private final String bucket;
+    private final String cloudfrontDomain;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final Duration retention;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+    private final BackgroundRemovalJobRepository jobRepository;
+
+    public BackgroundRemovalJobService(
+            PhotoRoomService photoRoomService,
+            BackgroundRemovalJobRepository jobRepository,
+            S3Client s3Client,
+            NotificationService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${cloud.aws.cloudfront.domain}") String cloudfrontDomain,
+            @Value("${photoroom.jobs.workers:${photoroom.bulkhead.max-concurrent:8}}") int workers,
+            @Value("${photoroom.jobs.queue-capacity:100}") int queueCapacity,
+            @Value("${photoroom.jobs.retention-minutes:60}") long retentionMinutes,
+            @Value("${photoroom.jobs.stale-minutes:30}") long staleMinutes,
+            @Value("${photoroom.jobs.max-attempts:3}") int maxAttempts,
+            @Value("${photoroom.jobs.retry-delay-millis:2000}") long retryDelayMillis) {
+        this.photoRoomService = photoRoomService;
+        this.jobRepository = jobRepository;
+        this.s3Client = s3Client;
+        this.notificationService = notificationService;
+        this.meterRegistry = meterRegistry;
+        this.bucket = bucket;
+        this.cloudfrontDomain = cloudfrontDomain;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.staleAfter = Duration.ofMinutes(staleMinutes);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "background-removal-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("photoroom.jobs.queued", executor, pool -> pool.getQueue().size())
+                .description("처리를 기다리는 배경 제거 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("photoroom.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("처리 중인 배경 제거 작업 수")
+                .register(meterRegistry);
+    }
+
+    public BackgroundRemovalJobResponse submit(final Long userId, final MultipartFile file,
+                                               final PhotoBackgroundRemovalRequest request, final boolean notifyOnCompletion) {
+        Path input = spool(userId, file);
+        String fileName = Objects.toString(request.getFileName(), file.getOriginalFilename());
+        BackgroundRemovalJob job = BackgroundRemovalJob.create(userId, fileName, file.getContentType(), file.getSize(), notifyOnCompletion);
+        BackgroundRemovalJob saved;
+        try {
+            saved = jobRepository.save(job);
+        } catch (RuntimeException e) {
+            deleteQuietly(input);
+            throw e;
+        }
+
+        try {
+            executor.execute(() -> process(job, input));
+        } catch (RejectedExecutionException e) {
+            jobRepository.deleteById(job.getId());
+            deleteQuietly(input);
+            countCompletion("rejected");
+            log.warn("event=background_removal_job_rejected, user_id={}, queued={}", userId, executor.getQueue().size());
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_BUSY);
+        }
+
+        log.info("event=background_removal_job_submitted, user_id={}, job_id={}, file_name={}", userId, job.getId(), fileName);
+        return BackgroundRemovalJobResponse.from(saved, cloudfrontDomain);
+    }
+
+    public BackgroundRemovalJobResponse getJob(final Long userId, final String jobId) {
+        BackgroundRemovalJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_JOB_NOT_FOUND));
+        if (!job.getUserId().equals(userId)) {
+            throw new PhotoException(ErrorMessage.PHOTO_ACCESS_DENIED);
+        }
+        return BackgroundRemovalJobResponse.from(job, cloudfrontDomain);
+    }
+
+    /**
+     * 처리 인스턴스가 사라져 끝나지 못한 작업을 FAILED로 바꾸고, 보관 기간이 지난 작업을 삭제한다.
+     * 조건부 일괄 UPDATE/DELETE라 여러 인스턴스가 동시에 실행해도 결과가 같다.
+     */
+    @Scheduled(fixedDelayString = "${photoroom.jobs.sweep-interval-millis:300000}")
+    @Transactional
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = jobRepository.failStale(
+                List.of(BackgroundRemovalJobStatus.QUEUED, BackgroundRemovalJobStatus.PROCESSING),
+                BackgroundRemovalJobStatus.FAILED, ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED.getMessage(),
+                now.minus(staleAfter), now);
+        int deleted = jobRepository.deleteCreatedBefore(now.minus(retention));
+        if (failed > 0 || deleted > 0) {
+            log.info("event=background_removal_jobs_swept, stale_failed={}, expired_deleted={}", failed, deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("event=background_removal_jobs_shutdown_timeout, remaining={}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    void process(BackgroundRemovalJob job, Path input) {
+        long startNanos = System.nanoTime();
+        Path output = null;
+        try {
+            job.markProcessing();
+            jobRepository.save(job);
+            output = Files.createTempFile("background-removal-result-", ".png");
+            removeBackgroundWithRetry(job, input, output);
+
+            String s3Key = RESULT_PREFIX + UUID.randomUUID() + ".png";
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(s3Key)
+                            .contentType(MediaType.IMAGE_PNG_VALUE)
+                            .build(),
+                    RequestBody.fromFile(output));
+
+            job.markSucceeded(s3Key);
+            log.info("event=background_removal_job_succeeded, job_id={}, user_id={}, s3_key={}", job.getId(), job.getUserId(), s3Key);
+        } catch (PhotoException e) {
+            job.markFailed(e.getErrorMessage().getMessage());
+            log.warn("event=background_removal_job_failed, job_id={}, user_id={}, error_message={}", job.getId(), job.getUserId(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.markFailed(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED.getMessage());
+        } catch (Exception e) {
+            job.markFailed(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED.getMessage());
+            log.error("event=background_removal_job_failed, job_id={}, user_id={}, error_message={}", job.getId(), job.getUserId(), e.getMessage(), e);
+        } finally {
+            deleteQuietly(input);
+            if (output != null) {
+                deleteQuietly(output);
+            }
+        }
+        saveResult(job);
+
+        Timer.builder("photoroom.jobs.duration")
+                .description("배경 제거 작업 처리 시간 (대기 시간 제외)")
+                .tag("status", job.getStatus().name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        countCompletion(job.getStatus().name().toLowerCase());
+        if (Boolean.TRUE.equals(job.getNotifyOnCompletion())) {
+            notifyCompletion(job);
+        }
+    }
+
+    /**
+     * 격벽 포화/서킷 오픈으로 거절된 경우에만 잠시 기다렸다 다시 시도한다.
+     */
+    private void removeBackgroundWithRetry(BackgroundRemovalJob job, Path input, Path output) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try (OutputStream out = Files.newOutputStream(output)) {
+                photoRoomService.removeBackground(new FileSystemResource(input), job.getFileName(), job.getContentType(), job.getSize(), out);
+                return;
+            } catch (PhotoException e) {
+                boolean retryable = e.getErrorMessage() == ErrorMessage.PHOTO_BACKGROUND_REMOVAL_BUSY
+                        || e.getErrorMessage() == ErrorMessage.PHOTO_BACKGROUND_REMOVAL_UNAVAILABLE;
+                if (!retryable || attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.info("event=background_removal_job_retry, job_id={}, attempt={}, reason={}", job.getId(), attempt, e.getErrorMessage());
+                Thread.sleep(retryDelayMillis * attempt);
+            }
+        }
+    }
+
+    private void saveResult(BackgroundRemovalJob job) {
+        try {
+            jobRepository.save(job);
+        } catch (Exception e) {
+            log.error("event=background_removal_job_save_failed, job_id={}, status={}, error_message={}",
+                    job.getId(), job.getStatus(), e.getMessage(), e);
+        }
+    }
+
+    private void notifyCompletion(BackgroundRemovalJob job) {
+        try {
+            boolean succeeded = job.getStatus() == BackgroundRemovalJobStatus.SUCCEEDED;
+            Map<String, String> data = new HashMap<>();
+            data.put("type", "background_removal");
+            data.put("jobId", job.getId());
+            data.put("status", job.getStatus().name());
+            NotificationRequest notification = NotificationRequest.builder()
+                    .title(succeeded ? "배경 제거 완료" : "배경 제거 실패")
+                    .body(succeeded ? "요청한 사진의 배경 제거가 완료되었습니다." : "요청한 사진의 배경 제거에 실패했습니다. 다시 시도해주세요.")
+                    .data(data)
+                    .build();
+            notificationService.sendNotificationToUser(job.getUserId(), notification);
+        } catch (Exception e) {
+            log.warn("event=background_removal_job_notification_failed, job_id={}, user_id={}, error_message={}",
+                    job.getId(), job.getUserId(), e.getMessage());
+        }
+    }
+
+    private Path spool(Long userId, MultipartFile file) {
+        Path input = null;
+        try {
+            input = Files.createTempFile("background-removal-input-", ".upload");
+            file.transferTo(input);
+            return input;
+        } catch (IOException e) {
+            if (input != null) {
+                deleteQuietly(input);
+            }
+            log.error("event=background_removal_job_spool_failed, user_id={}, error_message={}", userId, e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED);
+        }
+    }
+
+    private void countCompletion(String status) {
+        Counter.builder("photoroom.jobs.completed")
+                .description("종료된 배경 제거 작업 수")
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("event=background_removal_job_temp_delete_failed, file={}, error_message={}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.storage.S3DeletionQueue;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 등록되지 않은 업로드 정리 작업
+ * Presigned URL로 업로드만 되고 사진 등록이 되지 않은 tmp/, foodPhoto/ 객체를 찾아 S3 삭제 대기열에 넣는다.
+ * ListObjectsV2 한 페이지(최대 1000개)마다 photos 테이블을 IN 쿼리 한 번으로 확인하므로, 삭제도 페이지 단위 DeleteObjects 한 번으로 처리된다.
+ * 한 번의 실행에서 조회할 페이지 수와 페이지 간 간격을 제한하고, 다 보지 못한 접두사는 다음 실행에서 이어서 조회한다.
+ * 로컬 S3 호환 서버(MinIO, LocalStack 등)에서는 spring.cloud.aws.s3.endpoint 설정으로 그대로 실행할 수 있다.
+ */
+@Slf4j
+@Component
+public class OrphanedUploadReaper {
+
+    static final List<String> PREFIXES = List.of("tmp/", "foodPhoto/");
+
+    // 등록된 원본에서 파생된 리사이즈 변형 키 (Photo.variantS3Key), 원본 삭제 시 함께 삭제되므로 대상에서 제외
+    private static final Pattern VARIANT_KEY = Pattern.compile("_w\\d+\\.(jpg|png)$");
+
+    private final S3Client s3Client;
+    private final PhotoRepository photoRepository;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final MeterRegistry meterRegistry;
+    private final String bucket;
+    private final Duration minAge;
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final long pauseMillis;
+    private final Clock clock;
+
+    // 접두사별로 다음 실행에서 이어서 조회할 위치
+    private final Map<String, String> continuationTokens = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OrphanedUploadReaper(
+            S3Client s3Client,
+            PhotoRepository photoRepository,
+            S3DeletionQueue s3DeletionQueue,
+            MeterRegistry meterRegistry,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${photo.reaper.min-age-hours:24}") long minAgeHours,
+            @Value("${photo.reaper.page-size:1000}") int pageSize,
+            @Value("${photo.reaper.max-pages-per-run:100}") int maxPagesPerRun,
+            @Value("${photo.reaper.pause-millis:500}") long pauseMillis) {
+        this(s3Client, photoRepository, s3DeletionQueue, meterRegistry, bucket, Duration.ofHours(minAgeHours),
+                pageSize, maxPagesPerRun, pauseMillis, Clock.systemUTC());
+    }
+
+    OrphanedUploadReaper(S3Client s3Client, PhotoRepository photoRepository, S3DeletionQueue s3DeletionQueue,
+                         MeterRegistry meterRegistry, String bucket, Duration minAge, int pageSize,
+                         int maxPagesPerRun, long pauseMillis, Clock clock) {
+        this.s3Client = s3Client;
+        this.photoRepository = photoRepository;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.meterRegistry = meterRegistry;
+        this.bucket = bucket;
+        this.minAge = minAge;
+        // DeleteObjects 한 번에 지정할 수 있는 최대 키 수에 맞춘다
+        this.pageSize = Math.min(Math.max(pageSize, 1), 1000);
+        this.maxPagesPerRun = Math.max(maxPagesPerRun, 1);
+        this.pauseMillis = pauseMillis;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${photo.reaper.cron:0 30 3 * * ?}", zone = "Asia/Seoul")
+    public void reap() {
+        for (String prefix : PREFIXES) {
+            try {
+                reapPrefix(prefix);
+            } catch (Exception e) {
+                // 이어서 조회할 위치는 유지되므로 다음 실행에서 다시 시도한다.
+                log.error("event=orphaned_upload_reap_failed, prefix={}, error_message={}", prefix, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 삭제 대기열에 넣은 객체 수
+     */
+    int reapPrefix(String prefix) {
+        Instant cutoff = clock.instant().minus(minAge);
+        String token = continuationTokens.get(prefix);
+        int pages = 0;
+        int scanned = 0;
+        int orphaned = 0;
+
+        while (pages < maxPagesPerRun) {
+            if (pages > 0 && !pause()) {
+                break;
+            }
+            ListObjectsV2Response page = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .maxKeys(pageSize)
+                    .continuationToken(token)
+                    .build());
+            pages++;
+            scanned += page.contents().size();
+            orphaned += enqueueOrphans(prefix, page.contents(), cutoff);
+
+            token = Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+            if (token == null) {
+                break;
+            }
+        }
+
+        if (token == null) {
+            continuationTokens.remove(prefix);
+        } else {
+            continuationTokens.put(prefix, token);
+        }
+        count(prefix, "scanned", scanned);
+        count(prefix, "orphaned", orphaned);
+        log.info("event=orphaned_upload_reaped, prefix={}, page_count={}, scanned_count={}, orphaned_count={}, completed={}",
+                prefix, pages, scanned, orphaned, token == null);
+        return orphaned;
+    }
+
+    private int enqueueOrphans(String prefix, List<S3Object> objects, Instant cutoff) {
+        List<String> candidates = objects.stream()
+                .filter(object -> object.lastModified() != null && object.lastModified().isBefore(cutoff))
+                .map(S3Object::key)
+                .filter(key -> !isVariantKey(key))
+                .toList();
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<String> registered = new HashSet<>(photoRepository.findS3KeysByS3KeyIn(candidates));
+        List<String> orphans = candidates.stream()
+                .filter(key -> !registered.contains(key))
+                .toList();
+        if (!orphans.isEmpty()) {
+            s3DeletionQueue.enqueue(orphans);
+            log.debug("event=orphaned_uploads_enqueued, prefix={}, key_count={}", prefix, orphans.size());
+        }
+        return orphans.size();
+    }
+
+    static boolean isVariantKey(String s3Key) {
+        return VARIANT_KEY.matcher(s3Key).find();
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("event=orphaned_upload_reap_interrupted");
+            return false;
+        }
+    }
+
+    private void count(String prefix, String result, int amount) {
+        if (amount == 0) {
+            return;
+        }
+        Counter.builder("photo.reaper.objects")
+                .description("등록되지 않은 업로드 정리 작업에서 처리된 S3 객체 수")
+                .tag("prefix", prefix)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+}
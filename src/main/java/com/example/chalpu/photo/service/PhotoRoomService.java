@@ -6,21 +6,38 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PhotoRoomService {
 
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
     private final RestTemplate restTemplate;
+    private final BackgroundRemovalGuard backgroundRemovalGuard;
+    private final BackgroundRemovalCache backgroundRemovalCache;
 
     @Value("${photoroom.api.url:https://sdk.photoroom.com/v1/segment}")
     private String photoRoomApiUrl;
@@ -30,12 +47,20 @@ public class PhotoRoomService {
 
     public byte[] removeBackground(MultipartFile imageFile) {
         try {
+            byte[] imageBytes = imageFile.getBytes();
+            String digest = BackgroundRemovalCache.digest(imageBytes);
+            Optional<byte[]> cached = backgroundRemovalCache.get(digest);
+            if (cached.isPresent()) {
+                log.info("event=background_removal_cache_hit, file_name={}, digest={}", imageFile.getOriginalFilename(), digest);
+                return cached.get();
+            }
+
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
             headers.set("X-Api-Key", photoRoomApiKey);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("image_file", new ByteArrayResource(imageFile.getBytes()) {
+            body.add("image_file", new ByteArrayResource(imageBytes) {
                 @Override
                 public String getFilename() {
                     return imageFile.getOriginalFilename();
@@ -44,20 +69,23 @@ public class PhotoRoomService {
 
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-            ResponseEntity<byte[]> response = restTemplate.postForEntity(
+            ResponseEntity<byte[]> response = backgroundRemovalGuard.execute(() -> restTemplate.postForEntity(
                     photoRoomApiUrl,
                     requestEntity,
                     byte[].class
-            );
+            ));
 
             if (!response.getStatusCode().is2xxSuccessful()) {
                 log.error("event=photoroom_api_failed, status_code={}", response.getStatusCode());
                 throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED);
             }
 
+            backgroundRemovalCache.put(digest, response.getBody());
             log.info("event=background_removed_successfully, file_name={}", imageFile.getOriginalFilename());
             return response.getBody();
 
+        } catch (PhotoException e) {
+            throw e;
         } catch (IOException e) {
             log.error("event=photoroom_api_io_error, file_name={}, error_message={}", 
                      imageFile.getOriginalFilename(), e.getMessage(), e);
@@ -68,4 +96,142 @@ public class PhotoRoomService {
             throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 스트리밍 모드 배경 제거
+     * 업로드 원본은 multipart 입력 스트림에서 포토룸 요청 본문으로 고정 크기 버퍼를 통해 바로 전달한다.
+     * 포토룸 응답은 가드 안에서 임시 파일로 받고, 호출이 끝나 벌크헤드 슬롯과 커넥션이 반납된 뒤 출력 스트림으로 복사한다.
+     * 원본 크기와 관계없이 요청당 힙 사용량이 버퍼 크기 수준으로 유지된다.
+     * 결과는 디스크 계층 캐시에만 함께 기록한다.
+     */
+    public void removeBackground(MultipartFile imageFile, OutputStream out) {
+        removeBackground(imageFile, imageFile.getOriginalFilename(), imageFile.getContentType(), imageFile.getSize(), out);
+    }
+
+    /**
+     * 스트리밍 모드 배경 제거 (multipart 외의 원본용, 예: 비동기 작업이 임시 파일로 보관한 원본)
+     */
+    public void removeBackground(InputStreamSource image, String fileName, String contentType, long size, OutputStream out) {
+        try {
+            String digest = digest(image);
+            if (backgroundRemovalCache.writeTo(digest, out)) {
+                log.info("event=background_removal_cache_hit, file_name={}, digest={}", fileName, digest);
+                return;
+            }
+
+            String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+            byte[] partHeader = multipartPartHeader(boundary, fileName, contentType);
+            byte[] closingBoundary = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+            RequestCallback requestCallback = request -> {
+                HttpHeaders headers = request.getHeaders();
+                headers.setContentType(MediaType.parseMediaType(MediaType.MULTIPART_FORM_DATA_VALUE + ";boundary=" + boundary));
+                headers.setContentLength(partHeader.length + size + closingBoundary.length);
+                headers.set("X-Api-Key", photoRoomApiKey);
+                StreamingHttpOutputMessage.Body body = requestBody -> {
+                    requestBody.write(partHeader);
+                    try (InputStream imageStream = image.getInputStream()) {
+                        imageStream.transferTo(requestBody);
+                    }
+                    requestBody.write(closingBoundary);
+                };
+                if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                    streamingRequest.setBody(body);
+                } else {
+                    body.writeTo(request.getBody());
+                }
+            };
+
+            // 가드(벌크헤드/서킷 브레이커) 안에서는 포토룸 응답을 임시 파일에만 받아 둔다.
+            // 클라이언트 전송을 가드 안에서 하면 느린 클라이언트가 벌크헤드 슬롯과 커넥션 풀 허가를 붙잡고,
+            // 그 다운로드 시간이 포토룸 지연으로 기록되어 느린 호출 차단이 잘못 열린다.
+            Path spool = Files.createTempFile("chalpu-bg-removal-", ".png");
+            try {
+                ResponseExtractor<Long> responseExtractor = response -> {
+                    try (InputStream result = response.getBody();
+                         OutputStream spoolOut = Files.newOutputStream(spool)) {
+                        return copy(result, spoolOut, null);
+                    }
+                };
+                backgroundRemovalGuard.execute(() -> restTemplate.execute(
+                        photoRoomApiUrl, HttpMethod.POST, requestCallback, responseExtractor));
+
+                long written = writeToClient(spool, out, digest, fileName);
+                log.info("event=background_removed_successfully, file_name={}, streamed_bytes={}", fileName, written);
+            } finally {
+                Files.deleteIfExists(spool);
+            }
+
+        } catch (PhotoException e) {
+            throw e;
+        } catch (IOException e) {
+            log.error("event=photoroom_api_io_error, file_name={}, error_message={}",
+                     fileName, e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED);
+        } catch (Exception e) {
+            log.error("event=photoroom_api_unexpected_error, file_name={}, error_message={}",
+                     fileName, e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED);
+        }
+    }
+
+    /**
+     * 가드 밖에서 임시 파일의 결과를 클라이언트로 복사하며 디스크 계층 캐시에도 함께 기록한다.
+     * 클라이언트 연결이 끊기면 캐시 기록도 버린다.
+     */
+    private long writeToClient(Path spool, OutputStream out, String digest, String fileName) throws IOException {
+        BackgroundRemovalCache.DiskWriter cacheWriter = backgroundRemovalCache.openDiskWriter(digest);
+        long written;
+        try (InputStream result = Files.newInputStream(spool)) {
+            written = copy(result, out, cacheWriter);
+        } catch (IOException e) {
+            if (cacheWriter != null) {
+                cacheWriter.discard();
+            }
+            log.warn("event=background_removal_client_write_failed, file_name={}, error_message={}", fileName, e.getMessage());
+            throw e;
+        }
+        if (cacheWriter != null) {
+            cacheWriter.commit();
+        }
+        return written;
+    }
+
+    private static String digest(InputStreamSource image) throws IOException {
+        MessageDigest messageDigest = BackgroundRemovalCache.newDigest();
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        try (InputStream imageStream = image.getInputStream()) {
+            int read;
+            while ((read = imageStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static byte[] multipartPartHeader(String boundary, String originalFileName, String originalContentType) {
+        String fileName = Objects.toString(originalFileName, "image")
+                .replace("\r", "")
+                .replace("\n", "")
+                .replace("\"", "%22");
+        String contentType = Objects.toString(originalContentType, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        return ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"image_file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long copy(InputStream in, OutputStream out, BackgroundRemovalCache.DiskWriter cacheWriter) throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            if (cacheWriter != null) {
+                cacheWriter.write(buffer, 0, read);
+            }
+            total += read;
+        }
+        out.flush();
+        return total;
+    }
+}
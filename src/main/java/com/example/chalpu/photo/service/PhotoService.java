@@ -2,9 +2,13 @@ package com.example.chalpu.photo.service;
 
 import com.example.chalpu.common.exception.ErrorMessage;
 import com.example.chalpu.common.exception.PhotoException;
+import com.example.chalpu.common.response.CursorResponse;
 import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.common.response.SeekCursor;
+import com.example.chalpu.common.storage.S3DeletionQueue;
 import com.example.chalpu.photo.domain.Photo;
 import com.example.chalpu.photo.dto.*;
+import com.example.chalpu.photo.repository.PhotoJdbcRepository;
 import com.example.chalpu.photo.repository.PhotoRepository;
 import com.example.chalpu.store.domain.Store;
 import com.example.chalpu.store.repository.StoreRepository;
@@ -13,24 +17,36 @@ import com.example.chalpu.user.repository.UserRepository;
 import com.example.chalpu.store.service.UserStoreRoleService;
 import com.example.chalpu.fooditem.domain.FoodItem;
 import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import com.example.chalpu.fooditem.service.FoodItemSearchIndex;
+import com.example.chalpu.menu.service.StorefrontMenuCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.net.URL;
+import java.sql.Statement;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,18 +54,26 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class PhotoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PhotoRepository photoRepository;
     private final StoreRepository storeRepository;
     private final S3Presigner s3Presigner;
-    private final S3Client s3Client;
+    private final S3DeletionQueue s3DeletionQueue;
     private final UserStoreRoleService userStoreRoleService;
     private final FoodItemRepository foodItemRepository;
     private final PhotoRoomService photoRoomService;
+    private final PhotoVariantService photoVariantService;
     private final UserRepository userRepository;
+    private final StorefrontMenuCache storefrontMenuCache;
+    private final FoodItemSearchIndex foodItemSearchIndex;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${photo.batch.max-size:50}")
+    private int maxBatchSize;
+
     @Value("${cloud.aws.cloudfront.domain}")
     private String cloudfrontDomain;
 
@@ -115,6 +139,7 @@ public class PhotoService {
             Photo savedPhoto = photoRepository.save(photo);
             log.info("event=photo_registered, photo_id={}, s3_key={}, user_id={}",
                     savedPhoto.getId(), savedPhoto.getS3Key(), userId);
+            photoVariantService.scheduleAfterCommit(savedPhoto.getId(), savedPhoto.getS3Key());
             return PhotoResponse.from(savedPhoto, cloudfrontDomain);
         } catch (Exception e) {
             log.error("event=photo_registration_failed, s3_key={}, user_id={}, error_message={}",
@@ -123,6 +148,153 @@ public class PhotoService {
         }
     }
 
+    /**
+     * 여러 파일의 Presigned URL 일괄 발급 (요청한 파일 이름 순서 유지)
+     * 파일 이름을 모두 검증한 뒤 발급하므로 일부만 발급되는 경우는 없다.
+     */
+    public PhotoBatchPresignedUrlResponse generatePresignedUrls(final Long userId, final PhotoBatchUploadRequest request) {
+        List<String> fileNames = request.getFileNames();
+        validateBatchSize(fileNames);
+        if (fileNames.stream().anyMatch(fileName -> fileName == null || fileName.isBlank())) {
+            throw new PhotoException(ErrorMessage.PHOTO_INVALID_FORMAT);
+        }
+        List<String> s3Keys = fileNames.stream().map(this::createS3Key).toList();
+        try {
+            List<PhotoPresignedUrlResponse> presignedUrls = new ArrayList<>(s3Keys.size());
+            for (String s3Key : s3Keys) {
+                presignedUrls.add(PhotoPresignedUrlResponse.builder()
+                        .presignedUrl(createPresignedUrl(s3Key).toString())
+                        .s3Key(s3Key)
+                        .build());
+            }
+            log.info("event=presigned_urls_generated, user_id={}, count={}", userId, presignedUrls.size());
+            return PhotoBatchPresignedUrlResponse.builder()
+                    .presignedUrls(presignedUrls)
+                    .build();
+        } catch (Exception e) {
+            log.error("event=presigned_urls_generation_failed, user_id={}, count={}, error_message={}",
+                    userId, fileNames.size(), e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PRESIGNED_URL_GENERATION_FAILED);
+        }
+    }
+
+    /**
+     * 여러 사진 일괄 등록
+     * 공통 User/Store/FoodItem은 한 번만 확인하고, 사진은 JDBC 배치 INSERT 한 번으로 저장한다.
+     * 잘못된 항목이나 이미 등록된 s3Key는 해당 사진만 실패로 응답하고 나머지는 등록한다.
+     * 드라이버가 건별 결과를 주지 않으면(SUCCESS_NO_INFO) 조회한 행의 등록자/매장/생성 시각으로 이번 요청이 넣은 행인지 확인한다.
+     */
+    @Transactional
+    public PhotoBatchRegisterResponse registerPhotos(final Long userId, final PhotoBatchRegisterRequest request) {
+        List<PhotoBatchRegisterItem> items = request.getPhotos();
+        validateBatchSize(items);
+        try {
+            if (!userRepository.existsById(userId)) {
+                throw new PhotoException(ErrorMessage.USER_NOT_FOUND);
+            }
+            if (request.getStoreId() == null || !storeRepository.existsById(request.getStoreId())) {
+                throw new PhotoException(ErrorMessage.STORE_NOT_FOUND);
+            }
+            if (request.getFoodItemId() != null && !foodItemRepository.existsById(request.getFoodItemId())) {
+                throw new PhotoException(ErrorMessage.FOODITEM_NOT_FOUND);
+            }
+
+            // 항목 검증 (요청 내 중복 포함), 실패 사유는 요청 순서 인덱스로 기록
+            ErrorMessage[] failures = new ErrorMessage[items.size()];
+            Set<String> requestedKeys = new HashSet<>();
+            for (int i = 0; i < items.size(); i++) {
+                PhotoBatchRegisterItem item = items.get(i);
+                if (item == null || isBlank(item.getS3Key()) || isBlank(item.getFileName())
+                        || item.getS3Key().length() > Photo.MAX_S3_KEY_LENGTH
+                        || item.getFileName().length() > Photo.MAX_FILE_NAME_LENGTH) {
+                    // 길이 초과는 INSERT IGNORE가 잘라서 저장하지 않도록 미리 거부
+                    failures[i] = ErrorMessage.PHOTO_INVALID_REQUEST;
+                } else if (!requestedKeys.add(item.getS3Key())) {
+                    failures[i] = ErrorMessage.PHOTO_ALREADY_REGISTERED;
+                }
+            }
+            if (!requestedKeys.isEmpty()) {
+                Set<String> registeredKeys = new HashSet<>(photoRepository.findS3KeysByS3KeyIn(requestedKeys));
+                for (int i = 0; i < items.size(); i++) {
+                    if (failures[i] == null && registeredKeys.contains(items.get(i).getS3Key())) {
+                        failures[i] = ErrorMessage.PHOTO_ALREADY_REGISTERED;
+                    }
+                }
+            }
+
+            List<Integer> insertIndexes = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (failures[i] == null) {
+                    insertIndexes.add(i);
+                }
+            }
+            List<PhotoBatchRegisterItem> toInsert = insertIndexes.stream().map(items::get).toList();
+            // 행 단위 결과를 알 수 없을 때 이번 요청이 넣은 행인지 구분하는 데 사용 (DATETIME 정밀도와 무관하도록 초 단위)
+            LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            int[] updateCounts = toInsert.isEmpty() ? new int[0] : photoJdbcRepository.insertIgnoreAll(
+                    userId, request.getStoreId(), request.getFoodItemId(), toInsert, createdAt);
+            boolean[] unverified = new boolean[items.size()];
+            for (int j = 0; j < insertIndexes.size(); j++) {
+                int updateCount = j < updateCounts.length ? updateCounts[j] : Statement.SUCCESS_NO_INFO;
+                if (updateCount == 0) {
+                    // 사전 확인 이후 동시 등록된 경우 INSERT IGNORE로 무시된다
+                    failures[insertIndexes.get(j)] = ErrorMessage.PHOTO_ALREADY_REGISTERED;
+                } else if (updateCount < 0) {
+                    // rewriteBatchedStatements 사용 시 드라이버가 건별 결과 대신 SUCCESS_NO_INFO를 돌려준다
+                    unverified[insertIndexes.get(j)] = true;
+                }
+            }
+
+            List<String> insertedKeys = insertIndexes.stream()
+                    .filter(i -> failures[i] == null)
+                    .map(i -> items.get(i).getS3Key())
+                    .toList();
+            Map<String, Photo> insertedPhotos = insertedKeys.isEmpty() ? Map.of()
+                    : photoRepository.findByS3KeyIn(insertedKeys).stream()
+                    .collect(Collectors.toMap(Photo::getS3Key, Function.identity()));
+
+            List<PhotoBatchRegisterResult> results = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                String s3Key = items.get(i) != null ? items.get(i).getS3Key() : null;
+                Photo photo = failures[i] == null ? insertedPhotos.get(s3Key) : null;
+                if (photo != null && unverified[i] && !isInsertedBy(photo, userId, request, createdAt)) {
+                    // 같은 s3Key를 다른 요청이 먼저 등록한 행이므로 이 요청의 결과로 응답하지 않는다
+                    failures[i] = ErrorMessage.PHOTO_ALREADY_REGISTERED;
+                    photo = null;
+                }
+                if (photo != null) {
+                    photoVariantService.scheduleAfterCommit(photo.getId(), photo.getS3Key());
+                    results.add(PhotoBatchRegisterResult.success(s3Key, PhotoResponse.from(photo, cloudfrontDomain)));
+                } else {
+                    results.add(PhotoBatchRegisterResult.failure(s3Key,
+                            failures[i] != null ? failures[i] : ErrorMessage.PHOTO_REGISTRATION_FAILED));
+                }
+            }
+
+            PhotoBatchRegisterResponse response = PhotoBatchRegisterResponse.of(results);
+            log.info("event=photos_registered, user_id={}, store_id={}, requested={}, succeeded={}, failed={}",
+                    userId, request.getStoreId(), items.size(), response.getSuccessCount(), response.getFailureCount());
+            return response;
+        } catch (PhotoException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("event=photos_registration_failed, user_id={}, store_id={}, count={}, error_message={}",
+                    userId, request.getStoreId(), items.size(), e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PHOTO_REGISTRATION_FAILED);
+        }
+    }
+
+    /**
+     * 조회한 행이 이번 요청의 INSERT로 생성되었는지 확인 (등록자, 매장, 음식, 생성 시각 비교)
+     */
+    private boolean isInsertedBy(Photo photo, Long userId, PhotoBatchRegisterRequest request, LocalDateTime createdAt) {
+        Long photoFoodItemId = photo.getFoodItem() != null ? photo.getFoodItem().getId() : null;
+        return photo.getUser() != null && userId.equals(photo.getUser().getId())
+                && photo.getStore() != null && request.getStoreId().equals(photo.getStore().getId())
+                && Objects.equals(request.getFoodItemId(), photoFoodItemId)
+                && createdAt.equals(photo.getCreatedAt());
+    }
+
     public PageResponse<PhotoResponse> getPhotosByStore(final Long storeId, final Pageable pageable) {
         try {
             Page<Photo> photoPage = photoRepository.findByStoreIdAndIsActiveTrueWithoutJoin(storeId, pageable);
@@ -145,6 +317,45 @@ public class PhotoService {
         }
     }
 
+    /**
+     * 가게별 사진 목록 커서 조회 (최신순)
+     * (createdAt, id) 키셋으로 이어서 조회하므로 깊이 스크롤해도 앞쪽 행을 건너뛰는 비용과 COUNT 쿼리가 없다.
+     */
+    public CursorResponse<PhotoResponse> getPhotosByStoreWithCursor(final Long storeId, final String cursor, final int size) {
+        SeekCursor seek = decodeCursor(cursor);
+        int pageSize = normalizeCursorPageSize(size);
+        try {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            List<Photo> photos = seek == null
+                    ? photoRepository.findFirstPageByStoreId(storeId, limit)
+                    : photoRepository.findPageByStoreIdAfter(storeId, seek.createdAt(), seek.id(), limit);
+            return toCursorResponse(photos, pageSize);
+        } catch (Exception e) {
+            log.error("event=photos_by_store_cursor_failed, store_id={}, error_message={}",
+                    storeId, e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PHOTO_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 음식별 사진 목록 커서 조회 (최신순)
+     */
+    public CursorResponse<PhotoResponse> getPhotosByFoodItemWithCursor(final Long foodItemId, final String cursor, final int size) {
+        SeekCursor seek = decodeCursor(cursor);
+        int pageSize = normalizeCursorPageSize(size);
+        try {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            List<Photo> photos = seek == null
+                    ? photoRepository.findFirstPageByFoodItemId(foodItemId, limit)
+                    : photoRepository.findPageByFoodItemIdAfter(foodItemId, seek.createdAt(), seek.id(), limit);
+            return toCursorResponse(photos, pageSize);
+        } catch (Exception e) {
+            log.error("event=photos_by_food_item_cursor_failed, food_item_id={}, error_message={}",
+                    foodItemId, e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PHOTO_NOT_FOUND);
+        }
+    }
+
     public PhotoResponse getPhoto(final Long photoId) {
         try {
             Photo photo = findPhotoByIdWithoutJoin(photoId);
@@ -163,8 +374,11 @@ public class PhotoService {
             if (!userStoreRoleService.canUserManageStore(userId, photo.getStore().getId())) {
                 throw new PhotoException(ErrorMessage.STORE_ACCESS_DENIED);
             }
-            deleteS3Object(photo.getS3Key());
             photo.softDelete();
+            // S3 원본/변형 삭제는 같은 트랜잭션에서 대기열에 적재하고 워커가 배치로 처리
+            List<String> s3Keys = new ArrayList<>(photo.getVariantS3Keys().values());
+            s3Keys.add(photo.getS3Key());
+            s3DeletionQueue.enqueue(s3Keys);
             log.info("event=photo_deleted, photo_id={}, user_id={}", photoId, userId);
         } catch (Exception e) {
             log.error("event=photo_deletion_failed, photo_id={}, user_id={}, error_message={}",
@@ -184,6 +398,9 @@ public class PhotoService {
                     .orElseThrow(() -> new PhotoException(ErrorMessage.FOODITEM_NOT_FOUND));
             foodItem.setThumbnailUrl(photo.getS3Key());
             foodItemRepository.save(foodItem);
+            storefrontMenuCache.evict(photo.getStore().getId());
+            // 검색 결과에도 대표 사진(thumbnailUrl)이 포함되므로 색인의 음식 항목도 갱신
+            foodItemSearchIndex.refreshAfterCommit(photo.getStore().getId(), foodItem.getId());
             log.info("event=featured_photo_set, photo_id={}, user_id={}", request.getPhotoId(), userId);
         } catch (Exception e) {
             log.error("event=featured_photo_set_failed, photo_id={}, user_id={}, error_message={}",
@@ -197,20 +414,51 @@ public class PhotoService {
                 .orElseThrow(() -> new PhotoException(ErrorMessage.PHOTO_NOT_FOUND));
     }
 
-    private void deleteS3Object(final String s3Key) {
+    private static SeekCursor decodeCursor(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
         try {
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(s3Key)
-                    .build();
-            s3Client.deleteObject(deleteObjectRequest);
-            log.info("event=s3_object_deleted, s3_key={}", s3Key);
-        } catch (Exception e) {
-            log.error("event=s3_object_deletion_failed, s3_key={}, error_message={}",
-                    s3Key, e.getMessage(), e);
+            return SeekCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new PhotoException(ErrorMessage.PHOTO_INVALID_CURSOR);
         }
     }
 
+    private static int normalizeCursorPageSize(final int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
+
+    /**
+     * 한 건 더 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+     */
+    private CursorResponse<PhotoResponse> toCursorResponse(final List<Photo> photos, final int pageSize) {
+        boolean hasNext = photos.size() > pageSize;
+        List<Photo> page = hasNext ? photos.subList(0, pageSize) : photos;
+        String nextCursor = null;
+        if (hasNext) {
+            Photo last = page.get(page.size() - 1);
+            nextCursor = new SeekCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<PhotoResponse> content = page.stream()
+                .map(photo -> PhotoResponse.from(photo, cloudfrontDomain))
+                .toList();
+        return CursorResponse.of(content, pageSize, nextCursor);
+    }
+
+    private void validateBatchSize(final List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new PhotoException(ErrorMessage.PHOTO_BATCH_EMPTY);
+        }
+        if (items.size() > maxBatchSize) {
+            throw new PhotoException(ErrorMessage.PHOTO_BATCH_SIZE_EXCEEDED);
+        }
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+
     private URL createPresignedUrl(final String s3Key) {
         PutObjectRequest objectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
@@ -234,6 +482,24 @@ public class PhotoService {
             
             return processedImageBytes;  // 바이너리 데이터 그대로 반환
             
+        } catch (PhotoException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("event=background_removal_failed, user_id={}, file_name={}, error_message={}",
+                    userId, request.getFileName(), e.getMessage(), e);
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED);
+        }
+    }
+
+    /**
+     * 스트리밍 모드 배경 제거 - 결과를 바이트 배열로 모으지 않고 출력 스트림에 바로 기록
+     */
+    public void streamBackgroundRemoval(final Long userId, final MultipartFile file, final PhotoBackgroundRemovalRequest request, final OutputStream out) {
+        try {
+            photoRoomService.removeBackground(file, out);
+            log.info("event=background_removal_streamed, user_id={}, file_name={}", userId, request.getFileName());
+        } catch (PhotoException e) {
+            throw e;
         } catch (Exception e) {
             log.error("event=background_removal_failed, user_id={}, file_name={}, error_message={}",
                     userId, request.getFileName(), e.getMessage(), e);
@@ -0,0 +1,387 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.photo.domain.Photo;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.w3c.dom.Node;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 사진 리사이즈 변형(썸네일) 생성
+ * 사진 등록 트랜잭션이 커밋된 뒤 원본을 S3에서 내려받아 고정 너비 변형을 만들고 파생 키(Photo.variantS3Key)로 저장한다.
+ * 원본 전체 해상도로 디코딩하지 않도록 가장 큰 변형 너비에 맞춘 서브샘플링으로 한 번만 디코딩하고, 그 결과에서 각 너비로 축소한다.
+ * JPEG 원본의 EXIF Orientation은 디코딩 직후 픽셀에 반영하며, 너비도 화면에 보이는 방향 기준이다.
+ * 작업 풀과 대기열 크기가 제한되어 있으며, 대기열이 가득 차면 요청 스레드에서 이미지 작업을 하지 않도록 작업을 버리고 지표로 남긴다.
+ * 변형이 없는 사진은 원본 URL로 응답하므로 버려진 작업은 화질이 아닌 전송량에만 영향을 준다.
+ */
+@Slf4j
+@Service
+public class PhotoVariantService {
+
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int EXIF_MARKER_TAG = 0xE1;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final S3Client s3Client;
+    private final PhotoRepository photoRepository;
+    private final MeterRegistry meterRegistry;
+    private final String bucket;
+    private final int[] widths;
+    private final ThreadPoolExecutor executor;
+
+    public PhotoVariantService(
+            S3Client s3Client,
+            PhotoRepository photoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${photo.variants.widths:320,640,1080}") int[] widths,
+            @Value("${photo.variants.workers:2}") int workers,
+            @Value("${photo.variants.queue-capacity:200}") int queueCapacity) {
+        this.s3Client = s3Client;
+        this.photoRepository = photoRepository;
+        this.meterRegistry = meterRegistry;
+        this.bucket = bucket;
+        this.widths = Arrays.stream(widths).distinct().sorted().toArray();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "photo-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("photo.variants.queued", executor, pool -> pool.getQueue().size())
+                .description("생성을 기다리는 사진 변형 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("photo.variants.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("생성 중인 사진 변형 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 변형 생성을 예약 (트랜잭션 밖이면 바로 예약)
+     */
+    public void scheduleAfterCommit(final Long photoId, final String s3Key) {
+        Runnable submit = () -> submit(photoId, s3Key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    private void submit(Long photoId, String s3Key) {
+        try {
+            executor.execute(() -> generate(photoId, s3Key));
+        } catch (RejectedExecutionException e) {
+            // 대기열 포화 또는 종료 중: 요청 스레드에서 처리하지 않고 버린다
+            countResult("rejected");
+            log.warn("event=photo_variants_rejected, photo_id={}, s3_key={}, queued={}",
+                    photoId, s3Key, executor.getQueue().size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    void generate(Long photoId, String s3Key) {
+        Path source = null;
+        try {
+            Path downloaded = Files.createTempFile("photo-variant-", ".src");
+            source = downloaded;
+            time("download", () -> {
+                try (InputStream original = s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(s3Key).build())) {
+                    Files.copy(original, downloaded, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return null;
+            });
+
+            Map<Integer, byte[]> variants = renderVariants(downloaded, Photo.variantFormat(s3Key));
+            if (variants.isEmpty()) {
+                countResult("skipped");
+                log.info("event=photo_variants_skipped, photo_id={}, s3_key={}", photoId, s3Key);
+                return;
+            }
+
+            time("upload", () -> {
+                String contentType = "png".equals(Photo.variantFormat(s3Key)) ? "image/png" : "image/jpeg";
+                variants.forEach((width, bytes) -> s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(Photo.variantS3Key(s3Key, width))
+                                .contentType(contentType)
+                                .build(),
+                        RequestBody.fromBytes(bytes)));
+                return null;
+            });
+
+            String generatedWidths = variants.keySet().stream().map(String::valueOf).collect(Collectors.joining(","));
+            photoRepository.updateVariantWidths(photoId, generatedWidths);
+            countResult("success");
+            log.info("event=photo_variants_generated, photo_id={}, s3_key={}, widths={}", photoId, s3Key, generatedWidths);
+        } catch (Exception e) {
+            countResult("failure");
+            log.error("event=photo_variants_failed, photo_id={}, s3_key={}, error_message={}", photoId, s3Key, e.getMessage(), e);
+        } finally {
+            if (source != null) {
+                try {
+                    Files.deleteIfExists(source);
+                } catch (IOException e) {
+                    log.warn("event=photo_variant_temp_delete_failed, file={}, error_message={}", source, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 원본보다 좁은 변형만 생성한다 (확대하지 않음).
+     *
+     * @return 너비 -> 인코딩된 이미지 (너비 오름차순)
+     */
+    Map<Integer, byte[]> renderVariants(Path source, String format) throws Exception {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int orientation = exifOrientation(reader);
+                // 5~8은 90도 회전이 들어가므로 화면에 보이는 너비는 저장된 높이다
+                int sourceWidth = orientation >= 5 ? reader.getHeight(0) : reader.getWidth(0);
+                int[] targetWidths = Arrays.stream(widths).filter(width -> width < sourceWidth).toArray();
+                if (targetWidths.length == 0) {
+                    return Map.of();
+                }
+
+                // 가장 큰 변형 너비 이상이 되는 범위에서 최대한 건너뛰며 디코딩
+                int subsampling = Math.max(1, sourceWidth / targetWidths[targetWidths.length - 1]);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = time("decode", () -> orient(reader.read(0, param), orientation));
+
+                Map<Integer, byte[]> variants = new LinkedHashMap<>();
+                for (int width : targetWidths) {
+                    BufferedImage resized = time("resize", () -> resize(decoded, width, "png".equals(format)));
+                    variants.put(width, time("encode", () -> encode(resized, format)));
+                }
+                return variants;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation(0x0112) 값을 읽는다.
+     * 변형은 메타데이터 없이 인코딩하므로, 휴대폰 세로 사진처럼 회전 정보로만 방향을 나타내는 원본은 픽셀을 직접 돌려야 한다.
+     *
+     * @return 1~8, 정보가 없거나 읽을 수 없으면 1
+     */
+    private static int exifOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+                return 1;
+            }
+            Node markerSequence = child(metadata.getAsTree(JPEG_METADATA_FORMAT), "markerSequence");
+            for (Node marker = markerSequence == null ? null : markerSequence.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if ("unknown".equals(marker.getNodeName())
+                        && marker instanceof IIOMetadataNode node
+                        && String.valueOf(EXIF_MARKER_TAG).equals(node.getAttribute("MarkerTag"))
+                        && node.getUserObject() instanceof byte[] segment) {
+                    int orientation = exifOrientation(segment);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("event=photo_variant_orientation_unreadable, error_message={}", e.getMessage());
+        }
+        return 1;
+    }
+
+    private static int exifOrientation(byte[] segment) {
+        if (segment.length < EXIF_HEADER.length + 8
+                || !Arrays.equals(segment, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+            return 0;
+        }
+        int entries = Short.toUnsignedInt(tiff.getShort(ifdOffset));
+        for (int i = 0; i < entries; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return orientation >= 1 && orientation <= 8 ? orientation : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static Node child(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Orientation 값대로 뒤집거나 돌려 화면에 보이는 방향의 이미지를 만든다.
+     */
+    private static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            default -> new AffineTransform(0, -1, 1, 0, 0, width);
+        };
+        boolean swapped = orientation >= 5;
+        BufferedImage target = new BufferedImage(swapped ? height : width, swapped ? width : height,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, boolean keepAlpha) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if ("png".equals(format)) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private <T> T time(String stage, StageCall<T> call) throws Exception {
+        Timer timer = Timer.builder("photo.variants.stage")
+                .description("사진 변형 생성 단계별 소요 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+        long startNanos = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void countResult(String result) {
+        Counter.builder("photo.variants.completed")
+                .description("사진 변형 생성 결과 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @FunctionalInterface
+    private interface StageCall<T> {
+        T call() throws Exception;
+    }
+}
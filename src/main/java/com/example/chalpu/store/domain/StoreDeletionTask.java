@@ -0,0 +1,68 @@
+package com.example.chalpu.store.domain;
+
+import com.example.chalpu.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 하위 데이터 청크 삭제 대기열 엔티티
+ * 매장 소프트 삭제와 같은 트랜잭션에서 적재되고, StoreDeletionCascade 워커가 청크 UPDATE를 모두 마치면 제거된다.
+ * 청크 처리는 재실행해도 같은 결과가 되므로 시도 한도 없이 백오프로만 재시도한다.
+ */
+@Entity
+@Table(
+    name = "store_deletion_queue",
+    indexes = @Index(name = "idx_store_deletion_queue_next_attempt", columnList = "next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreDeletionTask extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_id")
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    /**
+     * 처리 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    /**
+     * 다음 처리 가능 시간 (워커가 점유한 동안에는 점유 만료 시간)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public StoreDeletionTask(Long storeId, LocalDateTime nextAttemptAt) {
+        this.storeId = storeId;
+        this.attemptCount = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 워커 점유
+     * 점유 만료 시간까지 결과가 기록되지 않으면 (프로세스 재시작 등) 다른 워커가 다시 가져갈 수 있다.
+     */
+    public void claim(LocalDateTime leaseExpiresAt) {
+        this.attemptCount++;
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String lastError) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError != null && lastError.length() > 500 ? lastError.substring(0, 500) : lastError;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.chalpu.store.repository;
+
+import com.example.chalpu.store.domain.StoreDeletionTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매장 하위 데이터 삭제 대기열 Repository
+ */
+@Repository
+public interface StoreDeletionTaskRepository extends JpaRepository<StoreDeletionTask, Long> {
+
+    /**
+     * 처리 시점이 도래한 항목 조회 (행 잠금, 다른 워커가 잠근 행은 건너뜀)
+     * @param now 기준 시간
+     * @param pageable 배치 크기
+     * @return 처리 대상 항목 리스트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM StoreDeletionTask t WHERE t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt")
+    List<StoreDeletionTask> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -59,4 +59,16 @@ public interface UserStoreRoleRepository extends JpaRepository<UserStoreRole, Lo
     @Modifying
     @Query("UPDATE UserStoreRole usr SET usr.isActive = true WHERE usr.user.id = :userId")
     void activateByUserId(@Param("userId") Long userId);
-} 
\ No newline at end of file
+
+    // 매장 삭제 시 권한 캐시를 비울 사용자 ID 목록 (엔티티 로딩 없음)
+    @Query("SELECT usr.user.id FROM UserStoreRole usr WHERE usr.store.id = :storeId")
+    List<Long> findUserIdsByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * Store 삭제 시 매장의 모든 역할 소프트 딜리트 (UPDATE 1회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE UserStoreRole usr SET usr.isActive = false, usr.updatedAt = CURRENT_TIMESTAMP WHERE usr.store.id = :storeId AND usr.isActive = true")
+    int softDeleteByStoreId(@Param("storeId") Long storeId);
+}
@@ -0,0 +1,172 @@
+package com.example.chalpu.store.service;
+
+import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import com.example.chalpu.menu.repository.MenuItemRepository;
+import com.example.chalpu.menu.repository.MenuRepository;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import com.example.chalpu.store.domain.StoreDeletionTask;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 매장 삭제 시 하위 데이터 소프트 딜리트
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 테이블마다 store_id 기준 UPDATE 한 번으로 처리한다. (menu_items는 메뉴판을 통해)
+ * 사진이 임계치보다 많은 매장은 삭제 트랜잭션에서 대기열(StoreDeletionQueue)에 적재만 하고,
+ * 워커가 LIMIT이 걸린 UPDATE를 청크마다 짧은 트랜잭션으로 반복한다.
+ * 청크 처리는 재실행해도 같은 결과가 되므로, 실패하거나 중단된 항목은 백오프 또는 점유 만료 후 처음부터 다시 실행된다.
+ */
+@Slf4j
+@Component
+public class StoreDeletionCascade {
+
+    private final MenuItemRepository menuItemRepository;
+    private final MenuRepository menuRepository;
+    private final FoodItemRepository foodItemRepository;
+    private final PhotoRepository photoRepository;
+    private final StoreDeletionQueue deletionQueue;
+    private final MeterRegistry meterRegistry;
+    private final long asyncThresholdRows;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public StoreDeletionCascade(
+            MenuItemRepository menuItemRepository,
+            MenuRepository menuRepository,
+            FoodItemRepository foodItemRepository,
+            PhotoRepository photoRepository,
+            StoreDeletionQueue deletionQueue,
+            MeterRegistry meterRegistry,
+            @Value("${store.deletion.async-threshold-rows:20000}") long asyncThresholdRows,
+            @Value("${store.deletion.chunk-size:5000}") int chunkSize,
+            @Value("${store.deletion.pause-millis:100}") long pauseMillis) {
+        this.menuItemRepository = menuItemRepository;
+        this.menuRepository = menuRepository;
+        this.foodItemRepository = foodItemRepository;
+        this.photoRepository = photoRepository;
+        this.deletionQueue = deletionQueue;
+        this.meterRegistry = meterRegistry;
+        this.asyncThresholdRows = asyncThresholdRows;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * 청크 비동기 모드 대상 여부 (임계치가 0 이하면 항상 동기 처리)
+     */
+    public boolean shouldRunAsync(Long storeId) {
+        return asyncThresholdRows > 0 && photoRepository.countByStoreIdAndIsActiveTrue(storeId) > asyncThresholdRows;
+    }
+
+    /**
+     * 호출 측 트랜잭션 안에서 테이블별 UPDATE 한 번씩 실행
+     * @return 테이블 -> 변경된 행 수
+     */
+    public Map<String, Integer> cascade(Long storeId) {
+        Map<String, Integer> affected = new LinkedHashMap<>();
+        affected.put("menu_items", record("menu_items", "sync", () -> menuItemRepository.softDeleteByStoreId(storeId)));
+        affected.put("menus", record("menus", "sync", () -> menuRepository.softDeleteByStoreId(storeId)));
+        affected.put("food_items", record("food_items", "sync", () -> foodItemRepository.softDeleteByStoreId(storeId)));
+        affected.put("photos", record("photos", "sync", () -> photoRepository.softDeleteByStoreId(storeId)));
+        log.info("event=store_cascade_soft_deleted, store_id={}, mode=sync, affected={}", storeId, affected);
+        return affected;
+    }
+
+    /**
+     * 청크 단위 처리 예약 (호출 측 트랜잭션에 참여하므로 매장 삭제가 커밋될 때만 처리된다)
+     */
+    public void enqueue(Long storeId) {
+        deletionQueue.enqueue(storeId);
+    }
+
+    @Scheduled(fixedDelayString = "${store.deletion.poll-interval-millis:10000}")
+    public void drain() {
+        try {
+            while (true) {
+                List<StoreDeletionTask> batch = deletionQueue.claimDueBatch();
+                for (StoreDeletionTask task : batch) {
+                    process(task);
+                }
+                if (batch.size() < deletionQueue.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // 점유한 항목은 점유 만료 후 다시 처리된다.
+            Thread.currentThread().interrupt();
+            log.warn("event=store_cascade_interrupted");
+        } catch (Exception e) {
+            log.error("event=store_cascade_drain_failed, error_message={}", e.getMessage(), e);
+        }
+    }
+
+    void process(StoreDeletionTask task) throws InterruptedException {
+        try {
+            cascadeInChunks(task.getStoreId());
+            deletionQueue.complete(task.getId());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("event=store_cascade_failed, deletion_id={}, store_id={}, attempt_count={}, error_message={}",
+                    task.getId(), task.getStoreId(), task.getAttemptCount(), e.getMessage(), e);
+            deletionQueue.scheduleRetry(task.getId(), e.getMessage());
+        }
+    }
+
+    Map<String, Integer> cascadeInChunks(Long storeId) throws InterruptedException {
+        Map<String, Integer> affected = new LinkedHashMap<>();
+        affected.put("menu_items", runChunks(storeId, "menu_items", menuItemRepository::softDeleteChunkByStoreId));
+        affected.put("menus", runChunks(storeId, "menus", menuRepository::softDeleteChunkByStoreId));
+        affected.put("food_items", runChunks(storeId, "food_items", foodItemRepository::softDeleteChunkByStoreId));
+        affected.put("photos", runChunks(storeId, "photos", photoRepository::softDeleteChunkByStoreId));
+        log.info("event=store_cascade_soft_deleted, store_id={}, mode=chunked, affected={}", storeId, affected);
+        return affected;
+    }
+
+    private int runChunks(Long storeId, String table, ChunkUpdate update) throws InterruptedException {
+        int total = 0;
+        while (true) {
+            int updated = record(table, "chunked", () -> update.apply(storeId, chunkSize));
+            total += updated;
+            if (updated < chunkSize) {
+                return total;
+            }
+            if (pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            }
+        }
+    }
+
+    private int record(String table, String mode, IntSupplier update) {
+        long startNanos = System.nanoTime();
+        int updated = update.getAsInt();
+        Timer.builder("store.deletion.cascade")
+                .description("매장 삭제 하위 데이터 UPDATE 소요 시간")
+                .tag("table", table)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("store.deletion.rows")
+                .description("매장 삭제 UPDATE 한 번에 변경된 행 수")
+                .tag("table", table)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(updated);
+        return updated;
+    }
+
+    @FunctionalInterface
+    interface ChunkUpdate {
+        int apply(Long storeId, int limit);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.chalpu.store.service;
+
+import com.example.chalpu.store.domain.StoreDeletionTask;
+import com.example.chalpu.store.repository.StoreDeletionTaskRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매장 하위 데이터 청크 삭제 대기열
+ * 매장 소프트 삭제와 같은 트랜잭션에서 적재하므로, 커밋된 삭제는 프로세스가 재시작되어도 처리가 보장된다.
+ * 적재, 워커 점유, 처리 결과 반영(재시도 스케줄링)을 각각 짧은 트랜잭션으로 처리
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StoreDeletionQueue {
+
+    private final StoreDeletionTaskRepository taskRepository;
+    @Getter
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public StoreDeletionQueue(
+            StoreDeletionTaskRepository taskRepository,
+            @Value("${store.deletion.batch-size:10}") int batchSize,
+            @Value("${store.deletion.backoff-initial-seconds:60}") long initialBackoffSeconds,
+            @Value("${store.deletion.backoff-max-seconds:3600}") long maxBackoffSeconds,
+            @Value("${store.deletion.lease-seconds:1800}") long leaseSeconds) {
+        this.taskRepository = taskRepository;
+        this.batchSize = Math.max(batchSize, 1);
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 매장 하위 데이터 삭제 적재 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void enqueue(Long storeId) {
+        taskRepository.save(StoreDeletionTask.builder()
+                .storeId(storeId)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.info("event=store_deletion_enqueued, store_id={}", storeId);
+    }
+
+    /**
+     * 처리 시점이 도래한 항목을 배치 크기만큼 점유
+     */
+    @Transactional
+    public List<StoreDeletionTask> claimDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StoreDeletionTask> batch = taskRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        batch.forEach(task -> task.claim(now.plus(lease)));
+        return batch;
+    }
+
+    /**
+     * 처리가 끝난 항목을 대기열에서 제거
+     */
+    @Transactional
+    public void complete(Long deletionId) {
+        taskRepository.deleteById(deletionId);
+    }
+
+    /**
+     * 실패한 항목을 지수 백오프로 재시도 예약
+     */
+    @Transactional
+    public void scheduleRetry(Long deletionId, String error) {
+        taskRepository.findById(deletionId).ifPresent(task -> {
+            task.scheduleRetry(LocalDateTime.now().plus(backoff(task.getAttemptCount())), error);
+            log.warn("event=store_deletion_retry_scheduled, deletion_id={}, store_id={}, attempt_count={}, next_attempt_at={}",
+                    task.getId(), task.getStoreId(), task.getAttemptCount(), task.getNextAttemptAt());
+        });
+    }
+
+    /**
+     * 지수 백오프 (초기값 * 2^(시도횟수-1), 최대값 제한)
+     */
+    Duration backoff(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.chalpu.store.service;
+
+import com.example.chalpu.common.cache.LocalCache;
+import com.example.chalpu.store.domain.StoreRoleType;
+import com.example.chalpu.store.domain.UserStoreRole;
+import com.example.chalpu.store.repository.UserStoreRoleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 매장 권한 인덱스 (userId -> (storeId -> StoreRoleType))
+ * 매장 접근/관리 권한 검증 시 매번 DB를 조회하지 않도록 활성 역할을 프로세스 내에 캐시한다.
+ * 역할이 변경되는 쪽에서 evict를 호출해야 하며, 트랜잭션 안에서 호출되면 트랜잭션이 끝난 뒤 한 번 더 제거한다.
+ * 같은 트랜잭션의 권한 검증이 미확정 역할을 적재했다가 롤백되는 경우도 있으므로 커밋과 롤백 모두에서 제거한다.
+ * 커밋 이전 상태를 읽던 적재가 두 번째 제거보다 늦게 끝나면 LocalCache가 그 결과를 캐시하지 않으므로,
+ * 회수된 권한이 TTL 동안 남아 있지 않는다.
+ */
+@Slf4j
+@Component
+public class StorePermissionIndex {
+
+    private final UserStoreRoleRepository userStoreRoleRepository;
+    private final LocalCache<Long, Map<Long, StoreRoleType>> cache;
+
+    public StorePermissionIndex(
+            UserStoreRoleRepository userStoreRoleRepository,
+            MeterRegistry meterRegistry,
+            @Value("${store.permission-cache.max-size:10000}") int maximumSize,
+            @Value("${store.permission-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userStoreRoleRepository = userStoreRoleRepository;
+        this.cache = new LocalCache<Long, Map<Long, StoreRoleType>>("store.permission", maximumSize, Duration.ofSeconds(ttlSeconds))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * 특정 매장에서 사용자의 활성 역할 조회
+     */
+    public Optional<StoreRoleType> findRole(Long userId, Long storeId) {
+        return Optional.ofNullable(getPermissions(userId).get(storeId));
+    }
+
+    /**
+     * 사용자의 전체 매장 권한 조회 (storeId -> 역할)
+     */
+    public Map<Long, StoreRoleType> getPermissions(Long userId) {
+        return cache.get(userId, this::loadPermissions);
+    }
+
+    /**
+     * 사용자의 권한 캐시 제거
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        runAfterCompletion(() -> cache.invalidate(userId));
+        log.debug("event=store_permission_evicted, user_id={}", userId);
+    }
+
+    /**
+     * 여러 사용자의 권한 캐시 제거
+     */
+    public void evictAll(List<Long> userIds) {
+        userIds.forEach(cache::invalidate);
+        runAfterCompletion(() -> userIds.forEach(cache::invalidate));
+    }
+
+    private Map<Long, StoreRoleType> loadPermissions(Long userId) {
+        // Store 엔티티 조회 없이 storeId만으로 인덱스 구성
+        List<UserStoreRole> userRoles = userStoreRoleRepository.findByUserIdAndIsActiveTrueWithoutJoin(userId);
+        return userRoles.stream()
+                .filter(UserStoreRole::getIsActive)
+                .collect(Collectors.toUnmodifiableMap(
+                        role -> role.getStore().getId(),
+                        UserStoreRole::getRoleType,
+                        (first, second) -> first.hasHigherAuthorityThan(second) ? first : second));
+    }
+
+    private void runAfterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,14 +2,9 @@ package com.example.chalpu.store.service;
 
 import com.example.chalpu.common.exception.ErrorMessage;
 import com.example.chalpu.common.exception.StoreException;
-import com.example.chalpu.fooditem.domain.FoodItem;
-import com.example.chalpu.fooditem.repository.FoodItemRepository;
-import com.example.chalpu.menu.domain.Menu;
-import com.example.chalpu.menu.repository.MenuRepository;
-import com.example.chalpu.photo.domain.Photo;
-import com.example.chalpu.photo.repository.PhotoRepository;
+import com.example.chalpu.fooditem.service.FoodItemSearchIndex;
+import com.example.chalpu.menu.service.StorefrontMenuCache;
 import com.example.chalpu.store.domain.Store;
-import com.example.chalpu.store.domain.UserStoreRole;
 import com.example.chalpu.store.dto.StoreRequest;
 import com.example.chalpu.store.dto.StoreResponse;
 import com.example.chalpu.store.repository.StoreRepository;
@@ -20,7 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -30,9 +25,10 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final UserStoreRoleRepository userStoreRoleRepository;
-    private final PhotoRepository photoRepository;
-    private final FoodItemRepository foodItemRepository;
-    private final MenuRepository menuRepository;
+    private final StorePermissionIndex storePermissionIndex;
+    private final StoreDeletionCascade storeDeletionCascade;
+    private final StorefrontMenuCache storefrontMenuCache;
+    private final FoodItemSearchIndex foodItemSearchIndex;
 
     public StoreResponse getStore(Long storeId) {
         try {
@@ -75,28 +71,31 @@ public class StoreService {
         }
     }
 
+    /**
+     * 매장 삭제 - 하위 데이터는 엔티티를 불러오지 않고 테이블별 UPDATE 한 번으로 소프트 딜리트
+     * 사진이 많은 매장은 같은 트랜잭션에서 대기열에 적재하고 워커가 청크 단위로 처리 (StoreDeletionCascade)
+     */
     @Transactional
     public void deleteStore(Long storeId) {
         try {
             Store store = storeRepository.findByIdAndIsActiveTrue(storeId)
                     .orElseThrow(() -> new StoreException(ErrorMessage.STORE_NOT_FOUND));
-            
-            List<UserStoreRole> userStoreRoles = userStoreRoleRepository.findByStoreId(storeId);
-            userStoreRoles.forEach(UserStoreRole::softDelete);
 
-            List<Photo> photos = photoRepository.findByStoreIdAndIsActiveTrueWithoutJoin(storeId);
-            photos.forEach(Photo::softDelete);
-            
-            List<FoodItem> foodItems = foodItemRepository.findByStoreIdAndIsActiveTrueWithoutJoin(storeId, null).getContent();
-            foodItems.forEach(FoodItem::softDelete);
-            
-            List<Menu> menus = menuRepository.findByStoreIdAndIsActiveTrueWithoutJoin(storeId, null).getContent();
-            menus.forEach(Menu::softDelete);
-            
-            log.info("event=all_store_related_entities_soft_deleted, store_id={}, user_roles={}, photos={}, food_items={}, menus={}", 
-                    storeId, userStoreRoles.size(), photos.size(), foodItems.size(), menus.size());
+            storePermissionIndex.evictAll(userStoreRoleRepository.findUserIdsByStoreId(storeId));
+            int userRoles = userStoreRoleRepository.softDeleteByStoreId(storeId);
+
+            if (storeDeletionCascade.shouldRunAsync(storeId)) {
+                storeDeletionCascade.enqueue(storeId);
+                log.info("event=store_cascade_scheduled, store_id={}, user_roles={}", storeId, userRoles);
+            } else {
+                Map<String, Integer> affected = storeDeletionCascade.cascade(storeId);
+                log.info("event=all_store_related_entities_soft_deleted, store_id={}, user_roles={}, affected={}",
+                        storeId, userRoles, affected);
+            }
 
             store.softDelete();
+            storefrontMenuCache.evict(storeId);
+            foodItemSearchIndex.evict(storeId);
             log.info("event=store_soft_deleted, store_id={}", storeId);
         } catch (Exception e) {
             log.error("event=store_deletion_failed, store_id={}, error_message={}",
@@ -104,4 +103,4 @@ public class StoreService {
             throw new StoreException(ErrorMessage.STORE_DELETE_FAILED);
         }
     }
-} 
\ No newline at end of file
+}
@@ -32,6 +32,7 @@ public class UserStoreRoleService {
     private final UserStoreRoleRepository userStoreRoleRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final StorePermissionIndex storePermissionIndex;
 
     /**
      * 사용자가 속한 매장 목록 조회 (페이지네이션)
@@ -134,6 +135,7 @@ public class UserStoreRoleService {
     public void createOwnerRole(User user, Store store) {
         UserStoreRole ownerRole = UserStoreRole.createOwner(user, store);
         userStoreRoleRepository.save(ownerRole);
+        storePermissionIndex.evict(user.getId());
     }
 
     /**
@@ -162,6 +164,7 @@ public class UserStoreRoleService {
             // 직원 역할 생성
             UserStoreRole newUserRole = UserStoreRole.createEmployee(inviteUser, store, memberRequest.getRoleType());
             UserStoreRole savedUserStoreRole = userStoreRoleRepository.save(newUserRole);
+            storePermissionIndex.evict(memberRequest.getUserId());
             
             log.info("event=member_invited, store_id={}, invited_user_id={}, inviter_user_id={}",
                     storeId, memberRequest.getUserId(), inviterUserId);
@@ -196,6 +199,7 @@ public class UserStoreRoleService {
             // 역할 변경
             targetRole.changeRole(newRoleType);
             userStoreRoleRepository.save(targetRole);
+            storePermissionIndex.evict(targetUserId);
             
             log.info("event=member_role_changed, store_id={}, target_user_id={}, new_role={}, request_user_id={}",
                     storeId, targetUserId, newRoleType, requestUserId);
@@ -230,6 +234,7 @@ public class UserStoreRoleService {
 
             targetRole.softDelete();
             userStoreRoleRepository.save(targetRole);
+            storePermissionIndex.evict(targetUserId);
             
             log.info("event=member_removed, store_id={}, target_user_id={}, request_user_id={}",
                     storeId, targetUserId, requestUserId);
@@ -256,6 +261,7 @@ public class UserStoreRoleService {
 
             userRole.softDelete();
             userStoreRoleRepository.save(userRole);
+            storePermissionIndex.evict(userId);
             
             log.info("event=member_left_store, store_id={}, user_id={}", storeId, userId);
         } catch (Exception e) {
@@ -269,22 +275,16 @@ public class UserStoreRoleService {
      * 특정 매장에서 사용자의 권한 확인
      */
     public boolean canUserAccessStore(Long userId, Long storeId) {
-        // Store 엔티티 조회 없이 storeId만으로 권한 확인
-        List<UserStoreRole> userRoles = userStoreRoleRepository.findByUserIdAndIsActiveTrueWithoutJoin(userId);
-        return userRoles.stream()
-                .filter(UserStoreRole::getIsActive)
-                .anyMatch(role -> role.getStore().getId().equals(storeId));
+        // 권한 인덱스에서 storeId만으로 권한 확인 (캐시 미스 시에만 DB 조회)
+        return storePermissionIndex.findRole(userId, storeId).isPresent();
     }
 
     /**
      * 특정 매장에서 사용자의 관리 권한 확인
      */
     public boolean canUserManageStore(Long userId, Long storeId) {
-        // Store 엔티티 조회 없이 storeId만으로 권한 확인
-        Optional<UserStoreRole> userRole = userStoreRoleRepository.findByUserIdAndStoreIdAndIsActiveTrueWithoutJoin(userId, storeId);
-        return userRole
-                .filter(UserStoreRole::getIsActive)
-                .map(UserStoreRole::canManageStore)
+        return storePermissionIndex.findRole(userId, storeId)
+                .map(StoreRoleType::canManageStore)
                 .orElse(false);
     }
 
@@ -0,0 +1,15 @@
+package com.example.chalpu.tag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가이드별 태그 이름 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class GuideTagName {
+
+    private final Long guideId;
+    private final String tagName;
+}
@@ -3,11 +3,13 @@ package com.example.chalpu.tag.repository;
 import com.example.chalpu.guide.domain.Guide;
 import com.example.chalpu.tag.domain.GuideTag;
 import com.example.chalpu.tag.domain.Tag;
+import com.example.chalpu.tag.dto.GuideTagName;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +31,14 @@ public interface GuideTagRepository extends JpaRepository<GuideTag, Long> {
     
     @Query("SELECT CASE WHEN COUNT(gt) > 0 THEN true ELSE false END FROM GuideTag gt WHERE gt.guide.id = :guideId AND gt.tag.id = :tagId AND gt.isActive = true")
     boolean existsByGuideIdAndTagIdAndIsActiveTrue(@Param("guideId") Long guideId, @Param("tagId") Long tagId);
-} 
\ No newline at end of file
+
+    // 여러 가이드의 태그 이름을 한 번에 조회 (목록 조회 N+1 방지)
+    @Query("SELECT new com.example.chalpu.tag.dto.GuideTagName(gt.guide.id, t.name) FROM GuideTag gt JOIN gt.tag t " +
+           "WHERE gt.guide.id IN :guideIds AND gt.isActive = true ORDER BY gt.id")
+    List<GuideTagName> findTagNamesByGuideIds(@Param("guideIds") Collection<Long> guideIds);
+
+    // 활성 가이드 전체의 태그 이름 조회 (가이드 카탈로그 스냅샷 구성용)
+    @Query("SELECT new com.example.chalpu.tag.dto.GuideTagName(g.id, t.name) FROM GuideTag gt JOIN gt.guide g JOIN gt.tag t " +
+           "WHERE gt.isActive = true AND g.isActive = true ORDER BY gt.id")
+    List<GuideTagName> findAllActiveTagNames();
+}
@@ -0,0 +1,49 @@
+package com.example.chalpu.tag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 태그 일괄 등록 Repository
+ * IDENTITY 전략에서는 JPA 배치 INSERT가 동작하지 않으므로 다중 VALUES INSERT 한 번으로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 태그 일괄 등록 (이미 존재하는 이름은 활성화)
+     * 동시 등록으로 같은 이름이 먼저 생성된 경우에도 유니크 제약 예외 없이 진행되며,
+     * 소프트 딜리트된 같은 이름의 태그는 다시 활성화한다. 이름 길이는 호출 측에서 검증해야 한다.
+     * @param names 등록할 태그 이름
+     * @return 영향받은 행 수 (MySQL 기준 신규 1, 재활성화 2, 변경 없음 0)
+     */
+    public int upsertActiveAll(List<String> names) {
+        if (names.isEmpty()) {
+            return 0;
+        }
+        // 비활성 행만 updated_at을 갱신하도록 is_active보다 먼저 평가
+        String sql = "INSERT INTO tags (name, is_active, created_at, updated_at) VALUES "
+                + String.join(", ", Collections.nCopies(names.size(), "(?, true, ?, ?)"))
+                + " ON DUPLICATE KEY UPDATE updated_at = IF(is_active, updated_at, ?), is_active = true";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> params = new ArrayList<>(names.size() * 3 + 1);
+        for (String name : names) {
+            params.add(name);
+            params.add(now);
+            params.add(now);
+        }
+        params.add(now);
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+}
@@ -1,11 +1,25 @@
 package com.example.chalpu.tag.repository;
 
 import com.example.chalpu.tag.domain.Tag;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByNameAndIsActiveTrue(String name);
     
     Optional<Tag> findByIdAndIsActiveTrue(Long id);
-} 
\ No newline at end of file
+
+    List<Tag> findByNameInAndIsActiveTrue(Collection<String> names);
+
+    // 잠금 읽기로 다른 트랜잭션이 방금 커밋한 태그까지 조회 (동시 등록 경쟁 처리용)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :names AND t.isActive = true")
+    List<Tag> findByNameInAndIsActiveTrueForShare(@Param("names") Collection<String> names);
+}
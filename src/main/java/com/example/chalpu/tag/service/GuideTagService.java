@@ -5,11 +5,12 @@ import com.example.chalpu.common.exception.GuideTagException;
 import com.example.chalpu.common.exception.NoticeException;
 import com.example.chalpu.guide.domain.Guide;
 import com.example.chalpu.guide.repository.GuideRepository;
+import com.example.chalpu.guide.service.GuideCatalog;
+import com.example.chalpu.guide.service.GuideSearchIndex;
 import com.example.chalpu.tag.domain.GuideTag;
 import com.example.chalpu.tag.domain.Tag;
 import com.example.chalpu.tag.dto.TagResponse;
 import com.example.chalpu.tag.repository.GuideTagRepository;
-import com.example.chalpu.tag.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +25,10 @@ import java.util.stream.Collectors;
 public class GuideTagService {
 
     private final GuideRepository guideRepository;
-    private final TagRepository tagRepository;
+    private final TagResolver tagResolver;
     private final GuideTagRepository guideTagRepository;
+    private final GuideCatalog guideCatalog;
+    private final GuideSearchIndex guideSearchIndex;
 
     @Transactional
     public TagResponse addTagToGuide(Long guideId, String tagName) {
@@ -35,8 +38,9 @@ public class GuideTagService {
         }
 
         // Tag 조회 또는 생성
-        Tag tag = tagRepository.findByNameAndIsActiveTrue(tagName)
-                .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
+        Tag tag = tagResolver.resolveAll(List.of(tagName)).stream()
+                .findFirst()
+                .orElseThrow(() -> new GuideTagException(ErrorMessage.TAG_CREATE_FAILED));
 
         // 기존 GuideTag 존재 여부 확인 (경량화된 쿼리 사용)
         Optional<GuideTag> existingGuideTag = guideTagRepository.findByGuideIdAndTagIdAndIsActiveTrueWithoutJoin(guideId, tag.getId());
@@ -55,6 +59,8 @@ public class GuideTagService {
             guideTagRepository.save(GuideTag.builder().guide(guide).tag(tag).build());
         }
 
+        guideCatalog.invalidate();
+        guideSearchIndex.refreshAfterCommit(List.of(guideId));
         return TagResponse.from(tag);
     }
 
@@ -63,6 +69,8 @@ public class GuideTagService {
         GuideTag guideTag = guideTagRepository.findByGuideIdAndTagIdAndIsActiveTrue(guideId, tagId)
                 .orElseThrow(() -> new GuideTagException(ErrorMessage.GUIDE_TAG_NOT_FOUND));
         guideTag.softDelete();
+        guideCatalog.invalidate();
+        guideSearchIndex.refreshAfterCommit(List.of(guideId));
     }
 
     public List<TagResponse> getTagsForGuide(Long guideId) {
@@ -0,0 +1,146 @@
+package com.example.chalpu.tag.service;
+
+import com.example.chalpu.common.cache.LocalCache;
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.GuideTagException;
+import com.example.chalpu.tag.domain.Tag;
+import com.example.chalpu.tag.repository.TagJdbcRepository;
+import com.example.chalpu.tag.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 이름 일괄 조회/생성
+ * 캐시 -> IN 조회 1회 -> 누락분 다중 INSERT 1회 순으로 처리하며, 태그 이름 -> 태그 ID 매핑을 프로세스 내에 캐시한다.
+ * 엔티티는 영속성 컨텍스트에 묶여 있으므로 캐시하지 않고, 캐시된 ID는 현재 트랜잭션에서 PK IN 조회 1회로 엔티티로 바꾼다.
+ * 비활성화된 같은 이름의 태그는 다시 활성화하며, 요청한 이름이 하나라도 태그로 바뀌지 않으면 예외를 던진다.
+ */
+@Slf4j
+@Component
+public class TagResolver {
+
+    private final TagRepository tagRepository;
+    private final TagJdbcRepository tagJdbcRepository;
+    private final LocalCache<String, Long> cache;
+
+    public TagResolver(
+            TagRepository tagRepository,
+            TagJdbcRepository tagJdbcRepository,
+            MeterRegistry meterRegistry,
+            @Value("${tag.name-cache.max-size:5000}") int maximumSize,
+            @Value("${tag.name-cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.tagRepository = tagRepository;
+        this.tagJdbcRepository = tagJdbcRepository;
+        this.cache = new LocalCache<String, Long>("tag.name", maximumSize, Duration.ofSeconds(ttlSeconds))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * 태그 이름 목록을 태그로 변환 (없는 태그는 생성, 비활성 태그는 재활성화)
+     * 입력 순서를 유지하며 중복 이름은 하나로 합친다. 호출 측 트랜잭션 안에서 호출되어야 한다.
+     * @throws GuideTagException 이름이 최대 길이를 넘거나, 태그로 바꾸지 못한 이름이 남은 경우
+     */
+    public List<Tag> resolveAll(List<String> tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> names = new ArrayList<>(new LinkedHashSet<>(tagNames.stream().filter(Objects::nonNull).toList()));
+        validateNames(names);
+
+        Map<String, Tag> resolved = new HashMap<>();
+        Map<Long, String> cachedIds = new HashMap<>();
+        for (String name : names) {
+            Long cachedId = cache.getIfPresent(name);
+            if (cachedId != null) {
+                cachedIds.put(cachedId, name);
+            }
+        }
+        if (!cachedIds.isEmpty()) {
+            tagRepository.findAllById(cachedIds.keySet()).stream()
+                    .filter(Tag::getIsActive)
+                    .forEach(tag -> resolved.put(cachedIds.get(tag.getId()), tag));
+        }
+
+        List<String> missing = names.stream().filter(name -> !resolved.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(cache::invalidate);
+            Map<String, Tag> found = match(missing, tagRepository.findByNameInAndIsActiveTrue(missing));
+            found.forEach((name, tag) -> cache.put(name, tag.getId()));
+            resolved.putAll(found);
+
+            List<String> toCreate = missing.stream().filter(name -> !found.containsKey(name)).toList();
+            if (!toCreate.isEmpty()) {
+                createTags(toCreate, resolved);
+            }
+        }
+
+        List<String> unresolved = names.stream().filter(name -> !resolved.containsKey(name)).toList();
+        if (!unresolved.isEmpty()) {
+            log.error("event=tag_resolve_failed, requested_count={}, unresolved_names={}", names.size(), unresolved);
+            throw new GuideTagException(ErrorMessage.TAG_CREATE_FAILED);
+        }
+        // 대소문자만 다른 이름은 같은 태그로 합쳐지므로 중복 제거
+        return names.stream().map(resolved::get).distinct().toList();
+    }
+
+    private void validateNames(List<String> names) {
+        for (String name : names) {
+            if (name.isBlank() || name.length() > Tag.MAX_NAME_LENGTH) {
+                throw new GuideTagException(ErrorMessage.TAG_NAME_INVALID);
+            }
+        }
+    }
+
+    private void createTags(List<String> names, Map<String, Tag> resolved) {
+        int affected = tagJdbcRepository.upsertActiveAll(names);
+        Map<String, Tag> created = match(names, tagRepository.findByNameInAndIsActiveTrueForShare(names));
+        resolved.putAll(created);
+        // 새로 생성/재활성화한 태그는 롤백될 수 있으므로 커밋 이후에만 캐시
+        runAfterCommit(() -> created.forEach((name, tag) -> cache.put(name, tag.getId())));
+        log.info("event=tags_created, requested_count={}, affected_count={}", names.size(), affected);
+    }
+
+    /**
+     * 요청한 이름 -> 조회된 태그 매핑
+     * MySQL 기본 콜레이션은 대소문자를 구분하지 않으므로 조회 결과의 이름이 요청과 대소문자만 다를 수 있다.
+     */
+    private Map<String, Tag> match(List<String> names, List<Tag> tags) {
+        Map<String, Tag> byKey = tags.stream()
+                .collect(Collectors.toMap(tag -> tag.getName().toLowerCase(Locale.ROOT), Function.identity(), (first, second) -> first));
+        Map<String, Tag> matched = new HashMap<>();
+        for (String name : names) {
+            Tag tag = byKey.get(name.toLowerCase(Locale.ROOT));
+            if (tag != null) {
+                matched.put(name, tag);
+            }
+        }
+        return matched;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
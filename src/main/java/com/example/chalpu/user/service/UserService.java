@@ -3,11 +3,13 @@ package com.example.chalpu.user.service;
 import com.example.chalpu.common.exception.ErrorMessage;
 import com.example.chalpu.common.exception.UserException;
 import com.example.chalpu.oauth.dto.UserInfoDTO;
+import com.example.chalpu.oauth.security.jwt.JwtPrincipalCache;
 import com.example.chalpu.oauth.security.jwt.UserDetailsImpl;
 import com.example.chalpu.user.domain.User;
 import com.example.chalpu.user.repository.UserRepository;
 import com.example.chalpu.photo.repository.PhotoRepository;
 import com.example.chalpu.store.repository.UserStoreRoleRepository;
+import com.example.chalpu.store.service.StorePermissionIndex;
 import com.example.chalpu.fcm.repository.UserFCMTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,8 @@ public class UserService {
     private final PhotoRepository photoRepository;
     private final UserStoreRoleRepository userStoreRoleRepository;
     private final UserFCMTokenRepository userFCMTokenRepository;
+    private final StorePermissionIndex storePermissionIndex;
+    private final JwtPrincipalCache principalCache;
 
     public UserInfoDTO getCurrentUser(UserDetailsImpl currentUser) {
         User user = userRepository.findByIdAndDeletedAtIsNull(currentUser.getId())
@@ -68,6 +72,7 @@ public class UserService {
         
         // 2. 연관된 UserStoreRole들 소프트 딜리트  
         userStoreRoleRepository.softDeleteByUserId(userId);
+        storePermissionIndex.evict(userId);
         
         // 3. 연관된 UserFCMToken들 소프트 딜리트
         userFCMTokenRepository.softDeleteByUserId(userId);
@@ -77,6 +82,7 @@ public class UserService {
         // 4. User 자체 소프트 딜리트
         user.softDelete();
         userRepository.save(user); // 변경된 상태를 DB에 반영
+        principalCache.evictUser(userId);
     }
 
     @Transactional
@@ -88,6 +94,7 @@ public class UserService {
         // 연관된 데이터 활성화 로직은 필요에 따라 추가
         photoRepository.activateByUserId(userId);
         userStoreRoleRepository.activateByUserId(userId);
+        storePermissionIndex.evict(userId);
         userFCMTokenRepository.activateByUserId(userId);
         userRepository.save(user);
     }
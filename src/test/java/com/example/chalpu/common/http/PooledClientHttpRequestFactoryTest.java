@@ -0,0 +1,148 @@
+package com.example.chalpu.common.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledClientHttpRequestFactoryTest {
+
+    private static final String HOST = "localhost";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch slowRelease = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+        server.createContext("/ok", exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, "ok");
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                slowRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "slow");
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://" + HOST + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRelease.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("외부 호출 - 순차 요청은 하나의 keep-alive 커넥션을 재사용하고 호스트별 지연 시간을 기록")
+    void execute_reusesConnectionAndRecordsLatency() {
+        // given
+        PooledClientHttpRequestFactory factory = factory(Duration.ofSeconds(5), 4);
+        RestTemplate restTemplate = new RestTemplate(factory);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.getForObject(baseUrl + "/ok", String.class)).isEqualTo("ok");
+        }
+
+        // then
+        assertThat(remotePorts).hasSize(1);
+        assertThat(factory.getInFlight(HOST)).isZero();
+        assertThat(meterRegistry.get("http.client.outbound")
+                .tags("host", HOST, "method", "GET", "status", "200", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("http.client.outbound.max_concurrent").tag("host", HOST).gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("외부 호출 - 응답 타임아웃을 넘기면 ResourceAccessException과 read_timeout 에러를 기록")
+    void execute_readTimeout() {
+        // given
+        PooledClientHttpRequestFactory factory = factory(Duration.ofMillis(200), 4);
+        RestTemplate restTemplate = new RestTemplate(factory);
+
+        // when & then
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(meterRegistry.get("http.client.outbound.errors").tags("host", HOST, "type", "read_timeout")
+                .counter().count()).isEqualTo(1);
+        assertThat(factory.getInFlight(HOST)).isZero();
+    }
+
+    @Test
+    @DisplayName("외부 호출 - 동시 요청 수 상한에 도달하면 대기 시간 후 saturated 에러로 빠르게 실패")
+    void execute_saturated() throws Exception {
+        // given
+        PooledClientHttpRequestFactory factory = factory(Duration.ofSeconds(5), 1);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        Future<String> inFlight = caller.submit(() -> restTemplate.getForObject(baseUrl + "/slow", String.class));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (factory.getInFlight(HOST) < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/ok", String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasCauseInstanceOf(OutboundHttpSaturatedException.class);
+        assertThat(meterRegistry.get("http.client.outbound.errors").tags("host", HOST, "type", "saturated")
+                .counter().count()).isEqualTo(1);
+
+        slowRelease.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(restTemplate.getForObject(baseUrl + "/ok", String.class)).isEqualTo("ok");
+        caller.shutdownNow();
+    }
+
+    private PooledClientHttpRequestFactory factory(Duration readTimeout, int maxConcurrent) {
+        OutboundHttpDestination destination = new OutboundHttpDestination(
+                "stub", HOST, Duration.ofSeconds(1), readTimeout, maxConcurrent, Duration.ofMillis(50));
+        OutboundHttpDestination defaultDestination = new OutboundHttpDestination(
+                "default", null, Duration.ofSeconds(1), Duration.ofSeconds(5), 8, Duration.ofMillis(50));
+        return new PooledClientHttpRequestFactory(List.of(destination), defaultDestination, meterRegistry);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
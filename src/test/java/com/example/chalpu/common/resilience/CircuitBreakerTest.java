@@ -0,0 +1,112 @@
+package com.example.chalpu.common.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(30).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+                10, 4, 50, 80, Duration.ofSeconds(20), Duration.ofSeconds(30), 2);
+        circuitBreaker = new CircuitBreaker("test", settings, clock::get).bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 최소 호출 수 이후 실패율이 임계치를 넘으면 열리고 호출을 거절")
+    void opensOnFailureRate() {
+        // given
+        call(false, FAST);
+        call(true, FAST);
+        call(false, FAST);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // when
+        call(true, FAST);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.acquirePermission()).isInstanceOf(CallNotPermittedException.class);
+        assertThat(meterRegistry.get("resilience.circuit.state").tag("name", "test").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 성공했더라도 지연 호출 비율이 임계치를 넘으면 열림")
+    void opensOnSlowCallRate() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            call(false, SLOW);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 열린 시간이 지나면 half-open 시험 호출만 허용하고 모두 성공하면 닫힘")
+    void halfOpenProbesClose() {
+        // given
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // when
+        circuitBreaker.acquirePermission();
+        circuitBreaker.acquirePermission();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(() -> circuitBreaker.acquirePermission()).isInstanceOf(CallNotPermittedException.class);
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("resilience.circuit.transitions").tags("name", "test", "to", "CLOSED")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - half-open 시험 호출이 실패하면 다시 열림")
+    void halfOpenProbeFailureReopens() {
+        // given
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // when
+        call(true, FAST);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.acquirePermission()).isInstanceOf(CallNotPermittedException.class);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(true, FAST);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failed, long durationNanos) {
+        circuitBreaker.acquirePermission();
+        if (failed) {
+            circuitBreaker.onError(durationNanos);
+        } else {
+            circuitBreaker.onSuccess(durationNanos);
+        }
+    }
+}
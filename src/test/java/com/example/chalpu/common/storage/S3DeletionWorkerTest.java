@@ -0,0 +1,139 @@
+package com.example.chalpu.common.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3DeletionWorker 테스트")
+class S3DeletionWorkerTest {
+
+    @Mock
+    private S3DeletionQueue deletionQueue;
+
+    @Mock
+    private S3Client s3Client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3DeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new S3DeletionWorker(deletionQueue, s3Client, meterRegistry, "test-bucket", 10);
+    }
+
+    @Test
+    @DisplayName("점유한 항목을 DeleteObjects 한 번으로 삭제하고, 키별 에러가 난 항목만 재시도 대상으로 기록")
+    @SuppressWarnings("unchecked")
+    void deleteBatch_partialErrors() {
+        // given
+        List<S3DeletionTask> batch = List.of(task(1L, "foodPhoto/a.jpg"), task(2L, "foodPhoto/b.jpg"), task(3L, "foodPhoto/a.jpg"));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("foodPhoto/b.jpg").code("InternalError").message("retry").build())
+                .build());
+
+        // when
+        worker.deleteBatch(batch);
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> request = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(1)).deleteObjects(request.capture());
+        assertThat(request.getValue().delete().objects()).extracting(ObjectIdentifier::key)
+                .containsExactly("foodPhoto/a.jpg", "foodPhoto/b.jpg");
+        assertThat(request.getValue().delete().quiet()).isTrue();
+
+        ArgumentCaptor<Collection<Long>> deletedIds = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Map<Long, String>> errors = ArgumentCaptor.forClass(Map.class);
+        verify(deletionQueue).recordResult(deletedIds.capture(), errors.capture());
+        assertThat(deletedIds.getValue()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(errors.getValue()).containsOnlyKeys(2L);
+        assertThat(meterRegistry.get("s3.deletion.objects").tag("result", "deleted").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("s3.deletion.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DeleteObjects 호출 자체가 실패하면 배치 전체를 재시도 대상으로 기록")
+    @SuppressWarnings("unchecked")
+    void deleteBatch_requestFailed() {
+        // given
+        List<S3DeletionTask> batch = List.of(task(1L, "foodPhoto/a.jpg"), task(2L, "foodPhoto/b.jpg"));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(SdkClientException.create("timeout"));
+
+        // when
+        worker.deleteBatch(batch);
+
+        // then
+        ArgumentCaptor<Map<Long, String>> errors = ArgumentCaptor.forClass(Map.class);
+        verify(deletionQueue).recordResult(eq(List.of()), errors.capture());
+        assertThat(errors.getValue()).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차 있으면 같은 주기 안에서 다음 배치를 이어서 처리")
+    void drain_continuesWhileBatchesAreFull() {
+        // given
+        when(deletionQueue.getBatchSize()).thenReturn(2);
+        when(deletionQueue.claimDueBatch()).thenReturn(
+                List.of(task(1L, "a"), task(2L, "b")),
+                List.of(task(3L, "c")));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+        when(deletionQueue.countOutstanding()).thenReturn(0L);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(deletionQueue, times(2)).claimDueBatch();
+        verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(deletionQueue, times(2)).recordResult(any(), anyMap());
+        assertThat(meterRegistry.get("s3.deletion.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("지수 백오프는 최대값을 넘지 않음")
+    void backoff_isCapped() {
+        // given
+        S3DeletionQueue queue = new S3DeletionQueue(null, null, 5000, 8, 30, 3600, 300);
+
+        // then
+        assertThat(queue.getBatchSize()).isEqualTo(S3DeletionQueue.MAX_KEYS_PER_REQUEST);
+        assertThat(IntStream.rangeClosed(1, 5).mapToObj(queue::backoff).map(Duration::getSeconds).toList())
+                .containsExactly(30L, 60L, 120L, 240L, 480L);
+        assertThat(queue.backoff(20).getSeconds()).isEqualTo(3600L);
+    }
+
+    private static S3DeletionTask task(Long id, String s3Key) {
+        S3DeletionTask task = new S3DeletionTask();
+        ReflectionTestUtils.setField(task, "id", id);
+        ReflectionTestUtils.setField(task, "s3Key", s3Key);
+        ReflectionTestUtils.setField(task, "status", S3DeletionStatus.PROCESSING);
+        ReflectionTestUtils.setField(task, "attemptCount", 1);
+        ReflectionTestUtils.setField(task, "createdAt", LocalDateTime.now().minusSeconds(5));
+        return task;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.dto.FCMChunkResult;
+import com.example.chalpu.fcm.dto.FCMDispatchResult;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FCMMulticastDispatcherTest {
+
+    private final StubFCMSender stubSender = new StubFCMSender(30);
+
+    @AfterEach
+    void tearDown() {
+        stubSender.destroy();
+    }
+
+    @Test
+    @DisplayName("청크를 동시에 전송하되 동시 처리 청크 수는 설정값을 넘지 않는다")
+    void dispatch_boundedConcurrency() {
+        // given
+        int maxInFlight = 3;
+        FCMMulticastDispatcher dispatcher = new FCMMulticastDispatcher(stubSender, maxInFlight, 10);
+        List<String> tokens = createTokens(5000, 10);
+
+        // when
+        FCMDispatchResult result = dispatcher.dispatch(tokens, this::buildMessage);
+
+        // then
+        assertThat(stubSender.getPeakInFlight()).isGreaterThan(1).isLessThanOrEqualTo(maxInFlight);
+        assertThat(result.successCount()).isEqualTo(4990);
+        assertThat(result.failureCount()).isEqualTo(10);
+        assertThat(result.invalidTokens()).hasSize(10).allMatch(token -> token.startsWith(StubFCMSender.INVALID_TOKEN_PREFIX));
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 전송을 시작하지 못한 청크는 기다리지 않고 재시도 가능한 실패로 집계한다")
+    void dispatch_stalledChunksDoNotBlockForever() {
+        // given: 첫 청크만 응답하고 이후 청크는 응답하지 않는 발송기
+        AtomicInteger calls = new AtomicInteger();
+        FCMSender stalledSender = new FCMSender() {
+            @Override
+            public CompletableFuture<FCMChunkResult> sendMulticastAsync(MulticastMessage message, List<String> tokens) {
+                if (calls.getAndIncrement() == 0) {
+                    return CompletableFuture.completedFuture(new FCMChunkResult(tokens, Map.of()));
+                }
+                return new CompletableFuture<>();
+            }
+
+            @Override
+            public String send(Message message) {
+                return "stub";
+            }
+        };
+        FCMMulticastDispatcher dispatcher = new FCMMulticastDispatcher(stalledSender, 1, 1);
+        List<String> tokens = createTokens(1500, 0);
+
+        // when
+        FCMDispatchResult result = dispatcher.dispatch(tokens, this::buildMessage);
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(result.successCount()).isEqualTo(500);
+        assertThat(result.failureCount()).isEqualTo(1000);
+        assertThat(result.failedTokens().values()).allMatch(FCMDispatchResult::isRetryableError);
+    }
+
+    @Test
+    @DisplayName("무효 토큰 에러 코드만 무효 토큰으로 분류한다")
+    void isInvalidTokenError() {
+        assertThat(FCMDispatchResult.isInvalidTokenError(MessagingErrorCode.UNREGISTERED)).isTrue();
+        assertThat(FCMDispatchResult.isInvalidTokenError(MessagingErrorCode.INVALID_ARGUMENT)).isTrue();
+        assertThat(FCMDispatchResult.isInvalidTokenError(MessagingErrorCode.UNAVAILABLE)).isFalse();
+        assertThat(FCMDispatchResult.isInvalidTokenError(null)).isFalse();
+    }
+
+    private List<String> createTokens(int totalCount, int invalidCount) {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < totalCount - invalidCount; i++) {
+            tokens.add("token-" + i);
+        }
+        for (int i = 0; i < invalidCount; i++) {
+            tokens.add(StubFCMSender.INVALID_TOKEN_PREFIX + i);
+        }
+        return tokens;
+    }
+
+    private MulticastMessage buildMessage(List<String> chunk) {
+        return MulticastMessage.builder().addAllTokens(chunk).build();
+    }
+}
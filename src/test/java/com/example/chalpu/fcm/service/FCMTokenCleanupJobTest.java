@@ -0,0 +1,42 @@
+package com.example.chalpu.fcm.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FCMTokenCleanupJobTest {
+
+    @Mock
+    private FCMTokenService fcmTokenService;
+
+    @Test
+    @DisplayName("오래된 토큰 정리 - 배치 크기보다 적게 삭제될 때까지 반복하고 배치별 삭제 수를 기록")
+    void cleanupOldTokens_deletesInBatches() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        FCMTokenCleanupJob job = new FCMTokenCleanupJob(fcmTokenService, meterRegistry, 90, 100, 0);
+        given(fcmTokenService.purgeTokensNotUsedSince(any(LocalDateTime.class), eq(100)))
+                .willReturn(100, 100, 30);
+
+        // when
+        job.cleanupOldTokens();
+
+        // then
+        verify(fcmTokenService, times(3)).purgeTokensNotUsedSince(any(LocalDateTime.class), eq(100));
+        assertThat(meterRegistry.get("fcm.token.cleanup.deleted").counter().count()).isEqualTo(230);
+        assertThat(meterRegistry.get("fcm.token.cleanup.batch.rows").summary().count()).isEqualTo(3);
+    }
+}
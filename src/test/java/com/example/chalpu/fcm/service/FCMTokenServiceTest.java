@@ -0,0 +1,67 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.domain.UserFCMToken;
+import com.example.chalpu.fcm.repository.UserFCMTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FCMTokenServiceTest {
+
+    @InjectMocks
+    private FCMTokenService fcmTokenService;
+
+    @Mock
+    private UserFCMTokenRepository tokenRepository;
+
+    @Test
+    @DisplayName("전송 결과 반영 - 수신자 수와 관계없이 청크 단위 일괄 UPDATE로 처리")
+    void applyDispatchResult_bulkUpdates() {
+        // given
+        List<UserFCMToken> tokens = LongStream.rangeClosed(1, 2500)
+                .mapToObj(id -> UserFCMToken.builder()
+                        .id(id)
+                        .userId(id)
+                        .fcmToken("token-" + id)
+                        .isActive(true)
+                        .build())
+                .toList();
+        Set<String> invalidTokens = new HashSet<>();
+        for (int i = 1; i <= 1200; i++) {
+            invalidTokens.add("token-" + i);
+        }
+
+        // when
+        fcmTokenService.applyDispatchResult(tokens, invalidTokens);
+
+        // then
+        ArgumentCaptor<Collection<Long>> idCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(tokenRepository, times(2)).updateLastUsedAtByIdIn(idCaptor.capture(), any(LocalDateTime.class));
+        List<Long> updatedIds = new ArrayList<>();
+        idCaptor.getAllValues().forEach(updatedIds::addAll);
+        assertThat(updatedIds).hasSize(1300).doesNotContain(1L, 1200L).contains(1201L, 2500L);
+
+        verify(tokenRepository, times(2)).deactivateByFcmTokenIn(anyCollection());
+        verify(tokenRepository, never()).deactivateByFcmToken(any());
+    }
+}
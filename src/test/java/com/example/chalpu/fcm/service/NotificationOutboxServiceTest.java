@@ -0,0 +1,105 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.domain.NotificationOutbox;
+import com.example.chalpu.fcm.domain.NotificationOutboxStatus;
+import com.example.chalpu.fcm.dto.NotificationRequest;
+import com.example.chalpu.fcm.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    private NotificationOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new NotificationOutboxService(outboxRepository, 50, 3, 5, 60, 300, 60);
+    }
+
+    @Test
+    @DisplayName("백오프 - 시도 횟수마다 2배씩 증가하고 최대값을 넘지 않는다")
+    void backoff_exponentialWithCap() {
+        assertThat(outboxService.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(outboxService.backoff(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(outboxService.backoff(4)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(outboxService.backoff(5)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(outboxService.backoff(100)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("일시적 실패 - 실패한 사용자만 남기고 재시도를 예약한다")
+    void recordResult_schedulesRetryForFailedUsers() {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.create(List.of(1L, 2L, 3L), NotificationRequest.createSimple("제목", "내용"));
+        outbox.claim(LocalDateTime.now().plusMinutes(5));
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+
+        // when
+        outboxService.recordResult(10L, 2, 1, Set.of(3L), "일시적 FCM 전송 실패");
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+        assertThat(outbox.getTargetUserIds()).containsExactly(3L);
+        assertThat(outbox.getSuccessCount()).isEqualTo(2);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("시도 한도 초과 - 실패 상태로 전환한다")
+    void recordResult_marksFailedAfterMaxAttempts() {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.create(List.of(1L), NotificationRequest.createSimple("제목", "내용"));
+        for (int i = 0; i < 3; i++) {
+            outbox.claim(LocalDateTime.now().plusMinutes(5));
+        }
+        given(outboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+
+        // when
+        outboxService.recordResult(10L, 0, 1, Set.of(1L), "일시적 FCM 전송 실패");
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.FAILED);
+        assertThat(outbox.getLastError()).isEqualTo("일시적 FCM 전송 실패");
+    }
+
+    @Test
+    @DisplayName("점유 연장 - 점유가 만료됐거나 다시 점유된 아웃박스는 연장하지 않는다")
+    void renewLease_failsWhenLeaseLost() {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.create(List.of(1L), NotificationRequest.createSimple("제목", "내용"));
+        outbox.claim(LocalDateTime.now().plusMinutes(5));
+        given(outboxRepository.renewLease(any(), eq(NotificationOutboxStatus.PROCESSING), eq(1), any(), any()))
+                .willReturn(1, 0);
+
+        // when & then
+        assertThat(outboxService.renewLease(outbox)).isTrue();
+        assertThat(outboxService.renewLease(outbox)).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정 검증 - 점유 시간이 전송 제한 시간보다 짧으면 시작하지 않는다")
+    void constructor_rejectsLeaseShorterThanDispatchTimeout() {
+        assertThatThrownBy(() -> new NotificationOutboxService(outboxRepository, 50, 3, 5, 60, 60, 60))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
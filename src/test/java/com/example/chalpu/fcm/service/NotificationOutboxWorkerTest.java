@@ -0,0 +1,74 @@
+package com.example.chalpu.fcm.service;
+
+import com.example.chalpu.fcm.domain.NotificationOutbox;
+import com.example.chalpu.fcm.domain.UserFCMToken;
+import com.example.chalpu.fcm.dto.FCMDispatchResult;
+import com.example.chalpu.fcm.dto.NotificationRequest;
+import com.example.chalpu.fcm.repository.UserFCMTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxWorkerTest {
+
+    @Mock
+    private NotificationOutboxService outboxService;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserFCMTokenRepository tokenRepository;
+
+    @InjectMocks
+    private NotificationOutboxWorker worker;
+
+    @Test
+    @DisplayName("점유 연장 - 앞선 전송이 길어져 점유를 잃은 아웃박스는 전송하지 않는다")
+    void drain_skipsOutboxWhoseLeaseWasLost() {
+        // given
+        NotificationOutbox kept = outbox(1L, 10L);
+        NotificationOutbox lost = outbox(2L, 20L);
+        given(outboxService.claimDueBatch()).willReturn(List.of(kept, lost));
+        given(tokenRepository.findActiveTokensByUserIds(anyList())).willReturn(List.of(token(10L, "token-a"), token(20L, "token-b")));
+        given(outboxService.renewLease(kept)).willReturn(true);
+        given(outboxService.renewLease(lost)).willReturn(false);
+        given(notificationService.dispatchToTokens(anyList(), any(NotificationRequest.class)))
+                .willReturn(new FCMDispatchResult(List.of("token-a"), Map.of()));
+
+        // when
+        worker.drain();
+
+        // then
+        verify(notificationService, times(1)).dispatchToTokens(anyList(), any(NotificationRequest.class));
+        verify(outboxService).recordResult(eq(1L), eq(1), eq(0), anyCollection(), any());
+        verify(outboxService, never()).recordResult(eq(2L), any(Integer.class), any(Integer.class), anyCollection(), any());
+    }
+
+    private NotificationOutbox outbox(Long outboxId, Long userId) {
+        NotificationOutbox outbox = NotificationOutbox.create(List.of(userId), NotificationRequest.createSimple("제목", "내용"));
+        outbox.claim(LocalDateTime.now().plusMinutes(5));
+        ReflectionTestUtils.setField(outbox, "id", outboxId);
+        return outbox;
+    }
+
+    private UserFCMToken token(Long userId, String fcmToken) {
+        return UserFCMToken.builder().userId(userId).fcmToken(fcmToken).isActive(true).build();
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.chalpu.fooditem.service;
+
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.fooditem.domain.FoodItem;
+import com.example.chalpu.fooditem.dto.FoodItemResponse;
+import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import com.example.chalpu.store.domain.Store;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FoodItemSearchIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodItemSearchIndexTest.class);
+
+    @Mock
+    private FoodItemRepository foodItemRepository;
+
+    private FoodItemSearchIndex searchIndex;
+    private final Store store = Store.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new FoodItemSearchIndex(foodItemRepository, new SimpleMeterRegistry(), 100, 1800);
+    }
+
+    @Test
+    @DisplayName("검색 - 필드 가중치 순으로 반환하고, 띄어쓰기 차이와 한 글자 오타도 검색")
+    void search_ranksNameMatchesFirstAndToleratesTypos() {
+        // given
+        given(foodItemRepository.findAllByStoreIdAndIsActiveTrueWithoutJoin(1L)).willReturn(List.of(
+                foodItem(1L, "김치찌개", "돼지고기 김치찌개", "김치, 돼지고기, 두부"),
+                foodItem(2L, "김치볶음밥", "볶음밥", "밥, 김치, 계란"),
+                foodItem(3L, "된장찌개", "구수한 찌개", "된장, 두부, 애호박"),
+                foodItem(4L, "제육볶음", "매콤한 제육", "돼지고기, 양파")));
+
+        // when
+        PageResponse<FoodItemResponse> kimchi = searchIndex.search(1L, "김치", PageRequest.of(0, 10));
+        PageResponse<FoodItemResponse> spaced = searchIndex.search(1L, "김치 찌개", PageRequest.of(0, 10));
+        PageResponse<FoodItemResponse> typo = searchIndex.search(1L, "김치찌게", PageRequest.of(0, 10));
+        PageResponse<FoodItemResponse> ingredient = searchIndex.search(1L, "돼지고기", PageRequest.of(0, 10));
+        PageResponse<FoodItemResponse> none = searchIndex.search(1L, "초밥", PageRequest.of(0, 10));
+
+        // then
+        assertThat(kimchi.getContent()).extracting(FoodItemResponse::getFoodItemId).containsExactly(1L, 2L);
+        assertThat(spaced.getContent().get(0).getFoodItemId()).isEqualTo(1L);
+        assertThat(typo.getContent().get(0).getFoodItemId()).isEqualTo(1L);
+        assertThat(ingredient.getContent()).extracting(FoodItemResponse::getFoodItemId).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(none.getContent()).isEmpty();
+        verify(foodItemRepository, times(1)).findAllByStoreIdAndIsActiveTrueWithoutJoin(1L);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 커밋 이후 음식 단위로 추가/수정/삭제가 반영된다")
+    void refresh_updatesIncrementally() {
+        // given
+        given(foodItemRepository.findAllByStoreIdAndIsActiveTrueWithoutJoin(1L))
+                .willReturn(List.of(foodItem(1L, "김치찌개", null, null)));
+        searchIndex.search(1L, "찌개", PageRequest.of(0, 10));
+        given(foodItemRepository.findByIdAndIsActiveTrueWithoutJoin(2L))
+                .willReturn(Optional.of(foodItem(2L, "부대찌개", null, null)));
+        given(foodItemRepository.findByIdAndIsActiveTrueWithoutJoin(1L))
+                .willReturn(Optional.of(foodItem(1L, "김치전", null, null)), Optional.empty());
+
+        // when
+        searchIndex.refreshAfterCommit(1L, 2L);
+        searchIndex.refreshAfterCommit(1L, 1L);
+        PageResponse<FoodItemResponse> afterUpdate = searchIndex.search(1L, "찌개", PageRequest.of(0, 10));
+        searchIndex.refreshAfterCommit(1L, 1L);
+        PageResponse<FoodItemResponse> afterDelete = searchIndex.search(1L, "김치", PageRequest.of(0, 10));
+
+        // then
+        assertThat(afterUpdate.getContent()).extracting(FoodItemResponse::getFoodItemId).containsExactly(2L);
+        assertThat(afterDelete.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 색인 구성 중에 커밋된 변경은 구성 중인 색인을 버리고 다음 검색에서 반영")
+    void refresh_duringBuild_discardsStaleIndex() throws Exception {
+        // given
+        CountDownLatch buildStarted = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        given(foodItemRepository.findAllByStoreIdAndIsActiveTrueWithoutJoin(1L))
+                .willAnswer(invocation -> {
+                    buildStarted.countDown();
+                    committed.await(5, TimeUnit.SECONDS);
+                    return List.of(foodItem(1L, "김치찌개", null, null));
+                })
+                .willReturn(List.of(foodItem(1L, "김치찌개", null, null), foodItem(2L, "부대찌개", null, null)));
+
+        // when
+        CompletableFuture<PageResponse<FoodItemResponse>> staleSearch =
+                CompletableFuture.supplyAsync(() -> searchIndex.search(1L, "찌개", PageRequest.of(0, 10)));
+        assertThat(buildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        searchIndex.refreshAfterCommit(1L, 2L);
+        committed.countDown();
+        staleSearch.get(5, TimeUnit.SECONDS);
+        PageResponse<FoodItemResponse> result = searchIndex.search(1L, "찌개", PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(FoodItemResponse::getFoodItemId).containsExactlyInAnyOrder(1L, 2L);
+        verify(foodItemRepository, times(2)).findAllByStoreIdAndIsActiveTrueWithoutJoin(1L);
+        verify(foodItemRepository, never()).findByIdAndIsActiveTrueWithoutJoin(2L);
+    }
+
+    @Test
+    @DisplayName("페이지네이션 - 전체 일치 수와 요청한 페이지만 반환")
+    void search_paginates() {
+        // given
+        List<FoodItem> foodItems = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            foodItems.add(foodItem(id, "김치찌개", null, null));
+        }
+        given(foodItemRepository.findAllByStoreIdAndIsActiveTrueWithoutJoin(1L)).willReturn(foodItems);
+
+        // when
+        PageResponse<FoodItemResponse> secondPage = searchIndex.search(1L, "김치찌개", PageRequest.of(1, 10));
+
+        // then
+        assertThat(secondPage.getTotalElements()).isEqualTo(25);
+        assertThat(secondPage.getContent()).hasSize(10);
+        assertThat(secondPage.getContent().get(0).getFoodItemId()).isEqualTo(15L);
+    }
+
+    /**
+     * 매장당 1만 건에서 색인 조회와 LIKE '%검색어%' 경로 비교 (./gradlew test -Dbenchmark=true 로 실행)
+     * SQL 경로는 매장의 모든 행을 읽어 문자열을 비교하므로, 같은 데이터를 메모리에서 선형 탐색한 시간을 하한으로 삼는다.
+     * (실제 SQL 경로에는 여기에 네트워크 왕복, 행 디코딩, COUNT 쿼리가 더해진다)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크 - 1만 건에서 색인 검색 지연 중앙값 1ms 미만 (선형 탐색과 함께 출력)")
+    void benchmark_searchLatencyAt10kFoodItems() {
+        // given
+        String[] words = {"김치", "된장", "순두부", "부대", "제육", "불고기", "비빔", "냉면", "국밥", "떡볶이",
+                "돈까스", "우동", "라면", "짬뽕", "짜장", "볶음밥", "파스타", "피자", "샐러드", "커피"};
+        String[] suffixes = {"찌개", "볶음", "덮밥", "정식", "세트", "전골", "구이", "튀김", "탕", "면"};
+        Random random = new Random(42);
+        List<FoodItem> foodItems = new ArrayList<>(10_000);
+        for (long id = 1; id <= 10_000; id++) {
+            String name = words[random.nextInt(words.length)] + suffixes[random.nextInt(suffixes.length)] + " " + id;
+            String ingredients = words[random.nextInt(words.length)] + ", " + words[random.nextInt(words.length)];
+            foodItems.add(foodItem(id, name, "매장 인기 메뉴 " + words[random.nextInt(words.length)], ingredients));
+        }
+        given(foodItemRepository.findAllByStoreIdAndIsActiveTrueWithoutJoin(1L)).willReturn(foodItems);
+        List<String> names = foodItems.stream().map(FoodItem::getFoodName).toList();
+
+        String[] queries = {"김치찌개", "불고기 정식", "짬뽕", "떡볶이세트", "비빔냉면"};
+        for (int i = 0; i < 2_000; i++) {
+            searchIndex.search(1L, queries[i % queries.length], PageRequest.of(0, 20));
+            linearScan(names, queries[i % queries.length]);
+        }
+
+        // when
+        long[] indexLatencies = new long[5_000];
+        long[] scanLatencies = new long[5_000];
+        for (int i = 0; i < indexLatencies.length; i++) {
+            String query = queries[i % queries.length];
+            long start = System.nanoTime();
+            searchIndex.search(1L, query, PageRequest.of(0, 20));
+            indexLatencies[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            linearScan(names, query);
+            scanLatencies[i] = System.nanoTime() - start;
+        }
+
+        // then
+        Arrays.sort(indexLatencies);
+        Arrays.sort(scanLatencies);
+        long indexMedian = indexLatencies[indexLatencies.length / 2];
+        long scanMedian = scanLatencies[scanLatencies.length / 2];
+        log.info("event=fooditem_search_benchmark, index_p50_ms={}, index_p99_ms={}, scan_p50_ms={}, scan_p99_ms={}",
+                indexMedian / 1_000_000.0, indexLatencies[(int) (indexLatencies.length * 0.99)] / 1_000_000.0,
+                scanMedian / 1_000_000.0, scanLatencies[(int) (scanLatencies.length * 0.99)] / 1_000_000.0);
+        assertThat(indexMedian).isLessThan(1_000_000L);
+    }
+
+    private static int linearScan(List<String> names, String keyword) {
+        int matches = 0;
+        for (String name : names) {
+            if (name.contains(keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private FoodItem foodItem(Long id, String foodName, String description, String ingredients) {
+        return FoodItem.builder()
+                .id(id)
+                .store(store)
+                .foodName(foodName)
+                .description(description)
+                .ingredients(ingredients)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.chalpu.fooditem.service;
+
+import com.example.chalpu.common.exception.FoodException;
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.fooditem.domain.FoodItem;
+import com.example.chalpu.fooditem.dto.FoodItemResponse;
+import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import com.example.chalpu.menu.repository.MenuItemRepository;
+import com.example.chalpu.menu.service.StorefrontMenuCache;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import com.example.chalpu.store.domain.Store;
+import com.example.chalpu.store.service.UserStoreRoleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FoodItemServiceTest {
+
+    @InjectMocks
+    private FoodItemService foodItemService;
+
+    @Mock
+    private FoodItemRepository foodItemRepository;
+    @Mock
+    private MenuItemRepository menuItemRepository;
+    @Mock
+    private PhotoRepository photoRepository;
+    @Mock
+    private UserStoreRoleService userStoreRoleService;
+    @Mock
+    private StorefrontMenuCache storefrontMenuCache;
+    @Mock
+    private FoodItemSearchIndex foodItemSearchIndex;
+
+    private final Long userId = 1L;
+    private final Long storeId = 1L;
+    private final Long foodId = 1L;
+    private FoodItem foodItem;
+
+    @BeforeEach
+    void setUp() {
+        Store store = Store.builder().id(storeId).build();
+        foodItem = FoodItem.builder().id(foodId).store(store).foodName("기본 음식").isActive(true).build();
+    }
+
+    @Nested
+    @DisplayName("음식 아이템 삭제 테스트")
+    class DeleteFoodItemTest {
+
+        @ParameterizedTest(name = "참조 메뉴 아이템 {0}개")
+        @ValueSource(ints = {0, 1, 500})
+        @DisplayName("성공 - 참조하는 메뉴 아이템 수와 무관하게 실행되는 쿼리 수가 고정")
+        void deleteFoodItem_fixedStatementCount(int referencingMenuItems) {
+            // given
+            given(foodItemRepository.findStoreIdByFoodItemId(foodId)).willReturn(Optional.of(storeId));
+            given(userStoreRoleService.canUserAccessStore(userId, storeId)).willReturn(true);
+            given(menuItemRepository.softDeleteByFoodItemId(foodId)).willReturn(referencingMenuItems);
+            given(foodItemRepository.findByIdAndIsActiveTrueWithoutJoin(foodId)).willReturn(Optional.of(foodItem));
+
+            // when
+            foodItemService.deleteFoodItem(foodId, userId);
+
+            // then
+            verify(photoRepository, times(1)).softDeleteByFoodItemId(foodId);
+            verify(menuItemRepository, times(1)).softDeleteByFoodItemId(foodId);
+            verify(foodItemRepository, times(1)).findStoreIdByFoodItemId(foodId);
+            verify(foodItemRepository, times(1)).findByIdAndIsActiveTrueWithoutJoin(foodId);
+            verify(foodItemRepository, times(1)).save(foodItem);
+            verifyNoMoreInteractions(photoRepository, menuItemRepository, foodItemRepository);
+            assertThat(foodItem.getIsActive()).isFalse();
+            verify(storefrontMenuCache).evict(storeId);
+            verify(foodItemSearchIndex).refreshAfterCommit(storeId, foodId);
+        }
+
+        @Test
+        @DisplayName("실패 - 매장 접근 권한 없음")
+        void deleteFoodItem_fail_accessDenied() {
+            // given
+            given(foodItemRepository.findStoreIdByFoodItemId(foodId)).willReturn(Optional.of(storeId));
+            given(userStoreRoleService.canUserAccessStore(userId, storeId)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> foodItemService.deleteFoodItem(foodId, userId))
+                    .isInstanceOf(FoodException.class);
+            verifyNoInteractions(photoRepository, menuItemRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("음식 아이템 검색 테스트")
+    class SearchFoodItemsTest {
+
+        @Test
+        @DisplayName("정렬 미지정 - 색인에서 관련도순으로 조회")
+        void searchFoodItems_unsorted_usesIndex() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 20);
+            given(foodItemSearchIndex.search(storeId, "김치찌개", pageable))
+                    .willReturn(PageResponse.from(new PageImpl<>(List.<FoodItemResponse>of(), pageable, 0)));
+
+            // when
+            foodItemService.searchFoodItems(storeId, "김치찌개", pageable);
+
+            // then
+            verify(foodItemSearchIndex).search(storeId, "김치찌개", pageable);
+            verifyNoInteractions(foodItemRepository);
+        }
+
+        @Test
+        @DisplayName("정렬 지정 - 색인 순위로 정렬을 무시하지 않고 LIKE 조회로 요청한 정렬을 적용")
+        void searchFoodItems_sorted_fallsBackToLike() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 20, Sort.by("foodName"));
+            given(foodItemRepository.findByStoreIdAndIsActiveTrueAndFoodNameContainingWithoutJoin(storeId, "김치찌개", pageable))
+                    .willReturn(new PageImpl<>(List.of(foodItem), pageable, 1));
+
+            // when
+            PageResponse<FoodItemResponse> result = foodItemService.searchFoodItems(storeId, "김치찌개", pageable);
+
+            // then
+            assertThat(result.getContent()).extracting(FoodItemResponse::getFoodItemId).containsExactly(foodId);
+            verifyNoInteractions(foodItemSearchIndex);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.chalpu.guide.service;
+
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.guide.dto.GuideResponse;
+import com.example.chalpu.guide.dto.GuideSummary;
+import com.example.chalpu.guide.repository.GuideRepository;
+import com.example.chalpu.tag.dto.GuideTagName;
+import com.example.chalpu.tag.repository.GuideTagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GuideCatalogTest {
+
+    @Mock
+    private GuideRepository guideRepository;
+    @Mock
+    private GuideTagRepository guideTagRepository;
+
+    private GuideCatalog guideCatalog;
+
+    @BeforeEach
+    void setUp() {
+        guideCatalog = new GuideCatalog(guideRepository, guideTagRepository, new SimpleMeterRegistry(),
+                Duration.ofMinutes(5), Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("스냅샷 - 한 번 구성한 뒤에는 DB를 조회하지 않고 페이지/서브카테고리/단건 조회를 처리")
+    void snapshot_servesReadsFromMemory() {
+        // given
+        given(guideRepository.findAllSummaries()).willReturn(List.of(
+                createSummary(1L, 10L), createSummary(2L, 20L), createSummary(3L, 10L)));
+        given(guideTagRepository.findAllActiveTagNames()).willReturn(List.of(new GuideTagName(3L, "음식")));
+
+        // when
+        PageResponse<GuideResponse> firstPage = guideCatalog.snapshot().page(PageRequest.of(0, 2));
+        PageResponse<GuideResponse> bySubCategory = guideCatalog.snapshot()
+                .pageBySubCategory(10L, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "guideId")));
+        GuideResponse guide = guideCatalog.snapshot().findById(3L).orElseThrow();
+
+        // then
+        assertThat(firstPage.getContent()).extracting(GuideResponse::getGuideId).containsExactly(1L, 2L);
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(bySubCategory.getContent()).extracting(GuideResponse::getGuideId).containsExactly(3L, 1L);
+        assertThat(guide.getTags()).containsExactly("음식");
+        verify(guideRepository, times(1)).findAllSummaries();
+        verify(guideTagRepository, times(1)).findAllActiveTagNames();
+    }
+
+    @Test
+    @DisplayName("무효화 - 다음 조회에서 재구성하며 내용이 바뀌면 버전도 바뀐다")
+    void invalidate_rebuildsWithNewVersion() {
+        // given
+        given(guideRepository.findAllSummaries())
+                .willReturn(List.of(createSummary(1L, 10L)))
+                .willReturn(List.of(createSummary(1L, 10L), createSummary(2L, 10L)));
+        given(guideTagRepository.findAllActiveTagNames()).willReturn(List.of());
+        String before = guideCatalog.snapshot().getVersion();
+
+        // when
+        guideCatalog.invalidate();
+        GuideCatalogSnapshot rebuilt = guideCatalog.snapshot();
+
+        // then
+        assertThat(rebuilt.size()).isEqualTo(2);
+        assertThat(rebuilt.getVersion()).isNotEqualTo(before);
+        verify(guideRepository, times(2)).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("버전 - updated_at이 그대로여도 본문이나 S3 키가 바뀌면 버전이 바뀐다")
+    void version_coversContentAndS3Keys() {
+        // given
+        GuideSummary original = createSummary(1L, 10L);
+        GuideSummary contentChanged = new GuideSummary(1L, "바뀐 내용", original.getGuideS3Key(), original.getFileName(),
+                original.getImageS3Key(), original.getSvgS3Key(), 10L, "음식", "한식", original.getUpdatedAt());
+        GuideSummary imageChanged = new GuideSummary(1L, original.getContent(), original.getGuideS3Key(), original.getFileName(),
+                "guides/images/1-v2.png", original.getSvgS3Key(), 10L, "음식", "한식", original.getUpdatedAt());
+
+        // when
+        String before = GuideCatalogSnapshot.build(1L, Instant.now(), List.of(original), Map.of()).getVersion();
+        String afterContent = GuideCatalogSnapshot.build(1L, Instant.now(), List.of(contentChanged), Map.of()).getVersion();
+        String afterImage = GuideCatalogSnapshot.build(1L, Instant.now(), List.of(imageChanged), Map.of()).getVersion();
+
+        // then
+        assertThat(afterContent).isNotEqualTo(before);
+        assertThat(afterImage).isNotEqualTo(before).isNotEqualTo(afterContent);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬은 메모리에서 처리하지 않는다")
+    void supports_onlyKnownProperties() {
+        // given
+        given(guideRepository.findAllSummaries()).willReturn(List.of());
+        given(guideTagRepository.findAllActiveTagNames()).willReturn(List.of());
+
+        // when
+        GuideCatalogSnapshot snapshot = guideCatalog.snapshot();
+
+        // then
+        assertThat(snapshot.supports(Sort.unsorted())).isTrue();
+        assertThat(snapshot.supports(Sort.by("updatedAt"))).isTrue();
+        assertThat(snapshot.supports(Sort.by("content"))).isFalse();
+    }
+
+    private static GuideSummary createSummary(Long guideId, Long subCategoryId) {
+        return new GuideSummary(guideId, "내용", "guides/" + guideId + ".xml", "file" + guideId,
+                "guides/images/" + guideId + ".png", "guides/svgs/" + guideId + ".svg",
+                subCategoryId, "음식", "한식", LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
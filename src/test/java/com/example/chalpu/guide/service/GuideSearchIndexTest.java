@@ -0,0 +1,183 @@
+package com.example.chalpu.guide.service;
+
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.guide.dto.GuideResponse;
+import com.example.chalpu.guide.dto.GuideSummary;
+import com.example.chalpu.guide.repository.GuideRepository;
+import com.example.chalpu.tag.repository.GuideTagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class GuideSearchIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GuideSearchIndexTest.class);
+
+    @Mock
+    private GuideCatalog guideCatalog;
+    @Mock
+    private GuideRepository guideRepository;
+    @Mock
+    private GuideTagRepository guideTagRepository;
+
+    private GuideSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new GuideSearchIndex(guideCatalog, guideRepository, guideTagRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("검색 - 모든 검색어를 포함하는 가이드만 가중치 순으로 반환")
+    void search_ranksByFieldWeight() {
+        // given
+        List<GuideSummary> summaries = List.of(
+                createSummary(1L, "김치찌개 정면 촬영", "stew", "한식", "찌개"),
+                createSummary(2L, "파스타 위에서 촬영", "pasta", "양식", "면"),
+                createSummary(3L, "정면 구도 기본", "front", "한식", "찌개"));
+        Map<Long, List<String>> tags = Map.of(3L, List.of("정면"), 2L, List.of("탑뷰"));
+        given(guideCatalog.snapshot()).willReturn(GuideCatalogSnapshot.build(0, Instant.now(), summaries, tags));
+
+        // when
+        PageResponse<GuideResponse> front = searchIndex.search("정면", PageRequest.of(0, 10));
+        PageResponse<GuideResponse> frontStew = searchIndex.search("정면 찌개", PageRequest.of(0, 10));
+        PageResponse<GuideResponse> none = searchIndex.search("초밥", PageRequest.of(0, 10));
+
+        // then
+        assertThat(front.getContent()).extracting(GuideResponse::getGuideId).containsExactly(3L, 1L);
+        assertThat(frontStew.getContent()).extracting(GuideResponse::getGuideId).containsExactly(3L, 1L);
+        assertThat(none.getContent()).isEmpty();
+        assertThat(none.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 - 조사가 붙은 어절도 조사 없는 검색어로 찾는다")
+    void search_matchesTermsWithParticles() {
+        // given
+        List<GuideSummary> summaries = List.of(
+                createSummary(1L, "김치찌개를 정면에서 촬영하고 국물이 보이게 담기", "stew", "한식", "찌개"),
+                createSummary(2L, "파스타는 위에서 촬영", "pasta", "양식", "면"));
+        given(guideCatalog.snapshot()).willReturn(GuideCatalogSnapshot.build(0, Instant.now(), summaries, Map.of()));
+
+        // when
+        PageResponse<GuideResponse> stew = searchIndex.search("김치찌개", PageRequest.of(0, 10));
+        PageResponse<GuideResponse> broth = searchIndex.search("국물 정면", PageRequest.of(0, 10));
+        PageResponse<GuideResponse> pasta = searchIndex.search("파스타", PageRequest.of(0, 10));
+
+        // then
+        assertThat(stew.getContent()).extracting(GuideResponse::getGuideId).containsExactly(1L);
+        assertThat(broth.getContent()).extracting(GuideResponse::getGuideId).containsExactly(1L);
+        assertThat(pasta.getContent()).extracting(GuideResponse::getGuideId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 가이드 단위로 추가/수정/삭제가 반영된다")
+    void putAndRemove_updatesIncrementally() {
+        // given
+        given(guideCatalog.snapshot()).willReturn(GuideCatalogSnapshot.build(0, Instant.now(),
+                List.of(createSummary(1L, "정면 촬영", "front", "한식", "찌개")), Map.of()));
+        searchIndex.rebuild();
+
+        // when
+        searchIndex.put(GuideResponse.from(createSummary(2L, "정면 클로즈업", "close", "양식", "면"), List.of()));
+        searchIndex.put(GuideResponse.from(createSummary(1L, "위에서 촬영", "top", "한식", "찌개"), List.of()));
+        PageResponse<GuideResponse> afterPut = searchIndex.search("정면", PageRequest.of(0, 10));
+        searchIndex.remove(2L);
+        PageResponse<GuideResponse> afterRemove = searchIndex.search("정면", PageRequest.of(0, 10));
+
+        // then
+        assertThat(afterPut.getContent()).extracting(GuideResponse::getGuideId).containsExactly(2L);
+        assertThat(afterRemove.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("페이지네이션 - 전체 일치 수와 요청한 페이지만 반환")
+    void search_paginates() {
+        // given
+        List<GuideSummary> summaries = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            summaries.add(createSummary(id, "정면 촬영 " + id, "file" + id, "한식", "찌개"));
+        }
+        given(guideCatalog.snapshot()).willReturn(GuideCatalogSnapshot.build(0, Instant.now(), summaries, Map.of()));
+
+        // when
+        PageResponse<GuideResponse> secondPage = searchIndex.search("정면", PageRequest.of(1, 10));
+
+        // then
+        assertThat(secondPage.getTotalElements()).isEqualTo(25);
+        assertThat(secondPage.getContent()).hasSize(10);
+        assertThat(secondPage.getContent().get(0).getGuideId()).isEqualTo(15L);
+    }
+
+    /**
+     * 10만 건 색인 조회 지연 측정 (./gradlew test -Dbenchmark=true 로 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크 - 10만 건에서 검색 지연 중앙값 1ms 미만")
+    void benchmark_searchLatencyAt100kGuides() {
+        // given
+        String[] words = {"정면", "측면", "탑뷰", "클로즈업", "자연광", "조명", "그릇", "접시", "배경", "소품",
+                "김치", "찌개", "파스타", "커피", "케이크", "샐러드", "버거", "초밥", "라면", "디저트"};
+        Random random = new Random(42);
+        List<GuideSummary> summaries = new ArrayList<>(100_000);
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (long id = 1; id <= 100_000; id++) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 20; i++) {
+                content.append(words[random.nextInt(words.length)]).append(' ').append("단어").append(random.nextInt(5000)).append(' ');
+            }
+            summaries.add(createSummary(id, content.toString(), "guide" + id, "카테고리" + (id % 10), "서브" + (id % 100)));
+            tags.put(id, List.of(words[random.nextInt(words.length)], words[random.nextInt(words.length)]));
+        }
+        given(guideCatalog.snapshot()).willReturn(GuideCatalogSnapshot.build(0, Instant.now(), summaries, tags));
+        searchIndex.rebuild();
+
+        String[] queries = {"정면 김치", "단어42", "서브7 커피", "카테고리3 조명 접시", "guide99999"};
+        for (int i = 0; i < 2_000; i++) {
+            searchIndex.search(queries[i % queries.length], PageRequest.of(0, 20));
+        }
+
+        // when
+        long[] latencies = new long[5_000];
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            searchIndex.search(queries[i % queries.length], PageRequest.of(0, 20));
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        // then
+        Arrays.sort(latencies);
+        long medianNanos = latencies[latencies.length / 2];
+        log.info("event=benchmark_guide_search, p50_nanos={}, p99_nanos={}",
+                medianNanos, latencies[(int) (latencies.length * 0.99)]);
+        assertThat(medianNanos).isLessThan(1_000_000L);
+    }
+
+    private static GuideSummary createSummary(Long guideId, String content, String fileName, String categoryName, String subCategoryName) {
+        return new GuideSummary(guideId, content, "guides/" + guideId + ".xml", fileName,
+                "guides/images/" + guideId + ".png", "guides/svgs/" + guideId + ".svg",
+                guideId % 100, categoryName, subCategoryName, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.chalpu.guide.service;
+
+import com.example.chalpu.common.exception.NoticeException;
+import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.common.storage.S3DeletionQueue;
+import com.example.chalpu.guide.domain.Guide;
+import com.example.chalpu.guide.dto.GuideResponse;
+import com.example.chalpu.guide.dto.GuideSummary;
+import com.example.chalpu.guide.repository.GuideRepository;
+import com.example.chalpu.guide.repository.SubCategoryRepository;
+import com.example.chalpu.tag.dto.GuideTagName;
+import com.example.chalpu.tag.repository.GuideTagRepository;
+import com.example.chalpu.tag.service.TagResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class GuideServiceTest {
+
+    @InjectMocks
+    private GuideService guideService;
+
+    @Mock
+    private GuideRepository guideRepository;
+    @Mock
+    private SubCategoryRepository subCategoryRepository;
+    @Mock
+    private TagResolver tagResolver;
+    @Mock
+    private GuideTagRepository guideTagRepository;
+    @Mock
+    private S3Presigner s3Presigner;
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+    @Mock
+    private GuideCatalog guideCatalog;
+    @Mock
+    private GuideSearchIndex guideSearchIndex;
+
+    // 메모리에서 처리할 수 없는 정렬 -> DB 조회 경로
+    private final Sort databaseSort = Sort.by("content");
+
+    @Nested
+    @DisplayName("가이드 목록 조회 테스트")
+    class FindGuidesTest {
+
+        @Test
+        @DisplayName("성공 - DB 조회 시 페이지 크기와 관계없이 가이드 조회 1회, 태그 조회 1회로 처리")
+        void findAll_queryCountIndependentOfPageSize() {
+            // given
+            Pageable pageable = PageRequest.of(0, 50, databaseSort);
+            given(guideCatalog.snapshot()).willReturn(emptySnapshot());
+            List<GuideSummary> summaries = LongStream.rangeClosed(1, 50)
+                    .mapToObj(GuideServiceTest::createSummary)
+                    .toList();
+            List<GuideTagName> tagNames = new ArrayList<>();
+            summaries.forEach(summary -> {
+                tagNames.add(new GuideTagName(summary.getGuideId(), "음식"));
+                tagNames.add(new GuideTagName(summary.getGuideId(), "정면"));
+            });
+            given(guideRepository.findAllSummaries(pageable)).willReturn(new PageImpl<>(summaries, pageable, 120));
+            given(guideTagRepository.findTagNamesByGuideIds(anyCollection())).willReturn(tagNames);
+
+            // when
+            PageResponse<GuideResponse> response = guideService.findAll(pageable);
+
+            // then
+            assertThat(response.getContent()).hasSize(50);
+            assertThat(response.getContent().get(0).getTags()).containsExactly("음식", "정면");
+            assertThat(response.getTotalElements()).isEqualTo(120);
+            verify(guideRepository, times(1)).findAllSummaries(pageable);
+            verify(guideTagRepository, times(1)).findTagNamesByGuideIds(anyCollection());
+            verifyNoMoreInteractions(guideRepository, guideTagRepository);
+        }
+
+        @Test
+        @DisplayName("성공 - 서브카테고리별 DB 조회도 태그를 한 번에 조회")
+        void findAllBySubCategory_batchLoadsTags() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10, databaseSort);
+            given(guideCatalog.snapshot()).willReturn(emptySnapshot());
+            List<GuideSummary> summaries = List.of(createSummary(1L), createSummary(2L));
+            given(guideRepository.findSummariesBySubCategoryId(eq(3L), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(summaries, pageable, 2));
+            given(guideTagRepository.findTagNamesByGuideIds(List.of(1L, 2L)))
+                    .willReturn(List.of(new GuideTagName(2L, "음식")));
+
+            // when
+            PageResponse<GuideResponse> response = guideService.findAllBySubCategory(3L, pageable);
+
+            // then
+            assertThat(response.getContent().get(0).getTags()).isEmpty();
+            assertThat(response.getContent().get(1).getTags()).containsExactly("음식");
+            verify(guideTagRepository, times(1)).findTagNamesByGuideIds(anyCollection());
+            verifyNoMoreInteractions(guideTagRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("가이드 다중 삭제 테스트")
+    class DeleteGuidesTest {
+
+        @Test
+        @DisplayName("성공 - S3를 직접 호출하지 않고 삭제할 키를 대기열에 적재")
+        @SuppressWarnings("unchecked")
+        void deleteGuides_enqueuesS3Keys() {
+            // given
+            Guide first = Guide.builder().content("첫번째").guideS3Key("guides/1.xml").imageS3Key("guides/images/1.png").build();
+            Guide second = Guide.builder().content("두번째").guideS3Key("guides/2.xml").imageS3Key("guides/images/2.png").build();
+            given(guideRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(first, second));
+
+            // when
+            guideService.deleteGuides(List.of(1L, 2L));
+
+            // then
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            verify(s3DeletionQueue).enqueue(keys.capture());
+            assertThat(keys.getValue()).contains("guides/1.xml", "guides/images/1.png", "guides/2.xml", "guides/images/2.png");
+            assertThat(first.getIsActive()).isFalse();
+            assertThat(second.getIsActive()).isFalse();
+        }
+
+        @Test
+        @DisplayName("실패 - 없는 가이드가 포함되면 대기열에 적재하지 않음")
+        void deleteGuides_missingGuide_doesNotEnqueue() {
+            // given
+            given(guideRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(Guide.builder().content("첫번째").build()));
+
+            // when & then
+            assertThatThrownBy(() -> guideService.deleteGuides(List.of(1L, 2L)))
+                    .isInstanceOf(NoticeException.class);
+            verify(s3DeletionQueue, never()).enqueue(anyCollection());
+        }
+    }
+
+    private static GuideCatalogSnapshot emptySnapshot() {
+        return GuideCatalogSnapshot.build(0, Instant.now(), List.of(), Map.of());
+    }
+
+    private static GuideSummary createSummary(Long guideId) {
+        return new GuideSummary(guideId, "내용", "guides/" + guideId + ".xml", "file" + guideId,
+                "guides/images/" + guideId + ".png", "guides/svgs/" + guideId + ".svg",
+                3L, "음식", "한식", LocalDateTime.now());
+    }
+}
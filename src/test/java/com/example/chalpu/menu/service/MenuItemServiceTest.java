@@ -1,11 +1,15 @@
 package com.example.chalpu.menu.service;
 
+import com.example.chalpu.common.exception.ErrorMessage;
 import com.example.chalpu.common.exception.MenuException;
 import com.example.chalpu.fooditem.domain.FoodItem;
 import com.example.chalpu.fooditem.repository.FoodItemRepository;
 import com.example.chalpu.menu.domain.Menu;
 import com.example.chalpu.menu.domain.MenuItem;
+import com.example.chalpu.menu.dto.MenuItemOrderUpdateRequest;
+import com.example.chalpu.menu.dto.MenuItemReorderRequest;
 import com.example.chalpu.menu.dto.MenuItemRequest;
+import com.example.chalpu.menu.repository.MenuItemJdbcRepository;
 import com.example.chalpu.menu.repository.MenuItemRepository;
 import com.example.chalpu.menu.repository.MenuRepository;
 import com.example.chalpu.store.domain.Store;
@@ -15,17 +19,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class MenuItemServiceTest {
@@ -36,11 +47,15 @@ class MenuItemServiceTest {
     @Mock
     private MenuItemRepository menuItemRepository;
     @Mock
+    private MenuItemJdbcRepository menuItemJdbcRepository;
+    @Mock
     private MenuRepository menuRepository;
     @Mock
     private FoodItemRepository foodItemRepository;
     @Mock
     private UserStoreRoleService userStoreRoleService;
+    @Mock
+    private StorefrontMenuCache storefrontMenuCache;
 
     private Store store;
     private Menu menu;
@@ -68,8 +83,8 @@ class MenuItemServiceTest {
         void addMenuItem_success() {
             // given
             MenuItemRequest request = new MenuItemRequest(foodId, 1);
-            given(menuRepository.findByIdAndIsActiveTrue(menuId)).willReturn(Optional.of(menu));
-            given(foodItemRepository.findByIdAndIsActiveTrue(foodId)).willReturn(Optional.of(foodItem));
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)).willReturn(Optional.of(menu));
+            given(foodItemRepository.findByIdAndIsActiveTrueWithoutJoin(foodId)).willReturn(Optional.of(foodItem));
             given(userStoreRoleService.canUserManageStore(userId, storeId)).willReturn(true);
             given(menuItemRepository.save(any(MenuItem.class))).willReturn(menuItem);
 
@@ -85,7 +100,7 @@ class MenuItemServiceTest {
         void addMenuItem_fail_menuNotFound() {
             // given
             MenuItemRequest request = new MenuItemRequest(foodId, 1);
-            given(menuRepository.findByIdAndIsActiveTrue(menuId)).willReturn(Optional.empty());
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> menuItemService.addMenuItem(menuId, request, userId))
@@ -93,6 +108,45 @@ class MenuItemServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("메뉴 아이템 순서 수정 테스트")
+    class UpdateMenuItemOrderTest {
+        @Test
+        @DisplayName("성공 - 메뉴판 행을 잠근 뒤 아이템을 잠금 조회해 반영")
+        void updateMenuItemOrder_locksMenuBeforeItem() {
+            // given
+            given(menuItemRepository.findActiveMenuIdById(menuItemId)).willReturn(Optional.of(menuId));
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)).willReturn(Optional.of(menu));
+            given(menuItemRepository.findByIdAndIsActiveTrueForUpdate(menuItemId)).willReturn(Optional.of(menuItem));
+            given(userStoreRoleService.canUserManageStore(userId, storeId)).willReturn(true);
+
+            // when
+            menuItemService.updateMenuItemOrder(menuItemId, new MenuItemOrderUpdateRequest(3), userId);
+
+            // then
+            InOrder inOrder = inOrder(menuRepository, menuItemRepository);
+            inOrder.verify(menuRepository).findByIdAndIsActiveTrueForUpdate(menuId);
+            inOrder.verify(menuItemRepository).findByIdAndIsActiveTrueForUpdate(menuItemId);
+            assertThat(menuItem.getDisplayOrder()).isEqualTo(3);
+            verify(storefrontMenuCache).evict(storeId);
+        }
+
+        @Test
+        @DisplayName("실패 - 메뉴판 잠금을 기다리는 동안 삭제된 아이템은 수정하지 않음")
+        void updateMenuItemOrder_fail_removedWhileWaiting() {
+            // given
+            given(menuItemRepository.findActiveMenuIdById(menuItemId)).willReturn(Optional.of(menuId));
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)).willReturn(Optional.of(menu));
+            given(menuItemRepository.findByIdAndIsActiveTrueForUpdate(menuItemId)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> menuItemService.updateMenuItemOrder(
+                    menuItemId, new MenuItemOrderUpdateRequest(3), userId))
+                    .isInstanceOf(MenuException.class);
+            verifyNoInteractions(storefrontMenuCache);
+        }
+    }
+
     @Nested
     @DisplayName("메뉴 아이템 삭제 테스트")
     class RemoveMenuItemTest {
@@ -100,14 +154,20 @@ class MenuItemServiceTest {
         @DisplayName("성공")
         void removeMenuItem_success() {
             // given
-            given(menuItemRepository.findByIdAndIsActiveTrue(menuItemId)).willReturn(Optional.of(menuItem));
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)).willReturn(Optional.of(menu));
             given(userStoreRoleService.canUserManageStore(userId, storeId)).willReturn(true);
+            given(menuItemRepository.findByIdAndIsActiveTrueForUpdate(menuItemId)).willReturn(Optional.of(menuItem));
 
             // when
             menuItemService.removeMenuItem(menuId, menuItemId, userId);
 
             // then
+            InOrder inOrder = inOrder(menuRepository, menuItemRepository);
+            inOrder.verify(menuRepository).findByIdAndIsActiveTrueForUpdate(menuId);
+            inOrder.verify(menuItemRepository).findByIdAndIsActiveTrueForUpdate(menuItemId);
+            assertThat(menuItem.getIsActive()).isFalse();
             verify(menuItemRepository, never()).delete(any(MenuItem.class));
+            verify(storefrontMenuCache).evict(storeId);
         }
 
         @Test
@@ -115,8 +175,10 @@ class MenuItemServiceTest {
         void removeMenuItem_fail_itemNotInMenu() {
             // given
             Long anotherMenuId = 2L;
-            given(menuItemRepository.findByIdAndIsActiveTrue(menuItemId)).willReturn(Optional.of(menuItem));
+            Menu anotherMenu = Menu.builder().id(anotherMenuId).store(store).menuName("다른 메뉴").isActive(true).build();
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(anotherMenuId)).willReturn(Optional.of(anotherMenu));
             given(userStoreRoleService.canUserManageStore(userId, storeId)).willReturn(true);
+            given(menuItemRepository.findByIdAndIsActiveTrueForUpdate(menuItemId)).willReturn(Optional.of(menuItem));
 
             // when & then
             assertThatThrownBy(() -> menuItemService.removeMenuItem(anotherMenuId, menuItemId, userId))
@@ -124,4 +186,75 @@ class MenuItemServiceTest {
             verify(menuItemRepository, never()).delete(any(MenuItem.class));
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("메뉴판 단위 메뉴 아이템 삭제 테스트")
+    class SoftDeleteMenuItemsByMenuTest {
+        @Test
+        @DisplayName("성공 - 메뉴 아이템을 조회하지 않고 UPDATE 한 번으로 처리")
+        void softDeleteMenuItemsByMenu_singleBulkUpdate() {
+            // given
+            given(menuItemRepository.softDeleteByMenuId(menuId)).willReturn(25);
+
+            // when
+            menuItemService.softDeleteMenuItemsByMenu(menu);
+
+            // then
+            verify(menuItemRepository, times(1)).softDeleteByMenuId(menuId);
+            verifyNoMoreInteractions(menuItemRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("메뉴 아이템 일괄 순서 변경 테스트")
+    class ReorderMenuItemsTest {
+        @Test
+        @DisplayName("성공 - 권한 검증 한 번, 순서 반영은 배치 한 번")
+        void reorderMenuItems_success() {
+            // given
+            List<Long> orderedIds = List.of(3L, 1L, 2L);
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)).willReturn(Optional.of(menu));
+            given(userStoreRoleService.canUserManageStore(userId, storeId)).willReturn(true);
+            given(menuItemRepository.findActiveIdsByMenuId(menuId)).willReturn(List.of(1L, 2L, 3L));
+            given(menuItemJdbcRepository.updateDisplayOrders(menuId, orderedIds)).willReturn(new int[]{1, 1, 1});
+
+            // when
+            menuItemService.reorderMenuItems(menuId, new MenuItemReorderRequest(orderedIds), userId);
+
+            // then
+            verify(userStoreRoleService, times(1)).canUserManageStore(userId, storeId);
+            verify(menuItemJdbcRepository, times(1)).updateDisplayOrders(menuId, orderedIds);
+            verify(menuItemRepository, never()).findByIdAndIsActiveTrue(any());
+            verify(storefrontMenuCache).evict(storeId);
+        }
+
+        @Test
+        @DisplayName("실패 - 요청 목록이 현재 메뉴판의 아이템과 다르면 충돌")
+        void reorderMenuItems_fail_staleList() {
+            // given
+            given(menuRepository.findByIdAndIsActiveTrueForUpdate(menuId)).willReturn(Optional.of(menu));
+            given(userStoreRoleService.canUserManageStore(userId, storeId)).willReturn(true);
+            given(menuItemRepository.findActiveIdsByMenuId(menuId)).willReturn(List.of(1L, 2L, 3L, 4L));
+
+            // when & then
+            assertThatThrownBy(() -> menuItemService.reorderMenuItems(
+                    menuId, new MenuItemReorderRequest(List.of(3L, 1L, 2L)), userId))
+                    .isInstanceOf(MenuException.class)
+                    .extracting("errorMessage")
+                    .isEqualTo(ErrorMessage.MENU_ITEM_REORDER_CONFLICT);
+            verifyNoInteractions(menuItemJdbcRepository);
+        }
+
+        @Test
+        @DisplayName("실패 - 중복된 ID가 있으면 조회 없이 거부")
+        void reorderMenuItems_fail_duplicateIds() {
+            // when & then
+            assertThatThrownBy(() -> menuItemService.reorderMenuItems(
+                    menuId, new MenuItemReorderRequest(List.of(1L, 1L, 2L)), userId))
+                    .isInstanceOf(MenuException.class)
+                    .extracting("errorMessage")
+                    .isEqualTo(ErrorMessage.MENU_ITEM_REORDER_INVALID);
+            verifyNoInteractions(menuRepository, menuItemJdbcRepository);
+        }
+    }
+}
@@ -43,6 +43,8 @@ class MenuServiceTest {
     private UserStoreRoleService userStoreRoleService;
     @Mock
     private MenuItemService menuItemService;
+    @Mock
+    private StorefrontMenuCache storefrontMenuCache;
 
     private Store store;
     private Menu menu;
@@ -127,6 +129,7 @@ class MenuServiceTest {
             assertThat(menu.getIsActive()).isFalse();
             verify(userStoreRoleService).canUserManageStore(userId, storeId);
             verify(menuItemService).softDeleteMenuItemsByMenu(menu);
+            verify(storefrontMenuCache).evict(storeId);
         }
     }
 
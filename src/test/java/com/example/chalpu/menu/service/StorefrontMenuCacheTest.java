@@ -0,0 +1,115 @@
+package com.example.chalpu.menu.service;
+
+import com.example.chalpu.menu.dto.StorefrontMenuItemResponse;
+import com.example.chalpu.menu.dto.StorefrontMenuResponse;
+import com.example.chalpu.menu.dto.StorefrontMenuRow;
+import com.example.chalpu.menu.repository.MenuRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorefrontMenuCache 테스트")
+class StorefrontMenuCacheTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    private StorefrontMenuCache storefrontMenuCache;
+    private final Long storeId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        storefrontMenuCache = new StorefrontMenuCache(menuRepository, new SimpleMeterRegistry(), 100, 600);
+    }
+
+    @Test
+    @DisplayName("프로젝션 행을 메뉴판별로 묶고, 아이템이 없는 메뉴판과 비활성 음식 아이템도 처리")
+    void get_assemblesRowsIntoMenus() {
+        // given
+        given(menuRepository.findStorefrontRowsByStoreId(storeId)).willReturn(List.of(
+                row(10L, "런치", 100L, 1, 1000L, "김치찌개"),
+                row(10L, "런치", 101L, 2, null, null),
+                row(10L, "런치", 102L, 3, 1001L, "된장찌개"),
+                row(11L, "디너", null, null, null, null)));
+
+        // when
+        StorefrontMenuResponse response = storefrontMenuCache.get(storeId);
+
+        // then
+        assertThat(response.getMenus()).hasSize(2);
+        assertThat(response.getMenus().get(0).getItems())
+                .extracting(StorefrontMenuItemResponse::getFoodName)
+                .containsExactly("김치찌개", "된장찌개");
+        assertThat(response.getMenus().get(1).getMenuName()).isEqualTo("디너");
+        assertThat(response.getMenus().get(1).getItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 반환하고, evict 이후 다시 조회")
+    void get_cachesUntilEvicted() {
+        // given
+        given(menuRepository.findStorefrontRowsByStoreId(storeId))
+                .willReturn(List.of(row(10L, "런치", 100L, 1, 1000L, "김치찌개")));
+
+        // when
+        storefrontMenuCache.get(storeId);
+        storefrontMenuCache.get(storeId);
+        storefrontMenuCache.evict(storeId);
+        storefrontMenuCache.get(storeId);
+
+        // then
+        verify(menuRepository, times(2)).findStorefrontRowsByStoreId(storeId);
+    }
+
+    @Test
+    @DisplayName("적재 중에 evict되면 적재 결과를 캐시하지 않음")
+    void evictDuringLoad_doesNotCacheStaleMenu() throws Exception {
+        // given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        given(menuRepository.findStorefrontRowsByStoreId(storeId))
+                .willAnswer(invocation -> {
+                    loadStarted.countDown();
+                    evicted.await(5, TimeUnit.SECONDS);
+                    return List.of(row(10L, "런치", 100L, 1, 1000L, "김치찌개"));
+                })
+                .willReturn(List.of(row(10L, "런치", 100L, 1, 1001L, "된장찌개")));
+
+        // when
+        CompletableFuture<StorefrontMenuResponse> staleLoad =
+                CompletableFuture.supplyAsync(() -> storefrontMenuCache.get(storeId));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        storefrontMenuCache.evict(storeId);
+        evicted.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+        StorefrontMenuResponse fresh = storefrontMenuCache.get(storeId);
+
+        // then
+        assertThat(fresh.getMenus().get(0).getItems())
+                .extracting(StorefrontMenuItemResponse::getFoodName)
+                .containsExactly("된장찌개");
+        verify(menuRepository, times(2)).findStorefrontRowsByStoreId(storeId);
+    }
+
+    private StorefrontMenuRow row(Long menuId, String menuName, Long menuItemId, Integer displayOrder,
+                                  Long foodItemId, String foodName) {
+        return new StorefrontMenuRow(menuId, menuName, null, menuItemId, displayOrder,
+                foodItemId, foodName, foodItemId != null ? BigDecimal.valueOf(9000) : null, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.chalpu.oauth.security.jwt;
+
+import com.example.chalpu.common.exception.AuthException;
+import com.example.chalpu.common.exception.ErrorMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JWT 인증 정보 캐시 테스트")
+class JwtPrincipalCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-principal-cache-0123456789";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtPrincipalCache principalCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 15, 14);
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new JwtPrincipalCache(meterRegistry, 100, 300);
+    }
+
+    @Test
+    @DisplayName("단일 파싱 결과가 기존 개별 조회 메서드와 동일")
+    void verify_matchesLegacyGetters() {
+        // given
+        String token = tokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_ADMIN");
+
+        // when
+        JwtPrincipal principal = tokenProvider.verify(token);
+
+        // then
+        assertThat(principal.userId()).isEqualTo(tokenProvider.getUserIdFromToken(token));
+        assertThat(principal.email()).isEqualTo(tokenProvider.getEmailFromToken(token));
+        assertThat(principal.role()).isEqualTo(tokenProvider.getRoleFromToken(token));
+        assertThat(principal.isAccessToken()).isEqualTo(tokenProvider.isAccessToken(token));
+        assertThat(principal.expiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("role 클레임이 없으면 ROLE_USER로 설정")
+    void verify_defaultRole() {
+        // given
+        String token = tokenProvider.generateAccessToken(1L, "test@example.com", null);
+
+        // when
+        JwtPrincipal principal = tokenProvider.verify(token);
+
+        // then
+        assertThat(principal.role()).isEqualTo("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 요청 시 서명 검증은 한 번만 수행")
+    void resolve_verifiesOnlyOnce() {
+        // given
+        String token = tokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            principalCache.resolve(token, t -> {
+                verifyCount.incrementAndGet();
+                return tokenProvider.verify(t);
+            });
+        }
+
+        // then
+        assertThat(verifyCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.principal").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("검증 실패한 토큰은 캐시되지 않음")
+    void resolve_invalidTokenNotCached() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider("another-secret-key-for-jwt-principal-cache-9876543210", 15, 14);
+        String forgedToken = otherProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+
+        // when & then
+        assertThatThrownBy(() -> principalCache.resolve(forgedToken, tokenProvider::verify))
+                .isInstanceOf(AuthException.class);
+        assertThatThrownBy(() -> principalCache.resolve(forgedToken, tokenProvider::verify))
+                .isInstanceOf(AuthException.class);
+    }
+
+    @Test
+    @DisplayName("사용자 캐시 제거 후에는 해당 사용자 토큰만 다시 검증하고, 검증이 거부되면 인증 실패")
+    void evictUser_forcesReverification() {
+        // given
+        String revokedToken = tokenProvider.generateAccessToken(1L, "revoked@example.com", "ROLE_USER");
+        String otherToken = tokenProvider.generateAccessToken(2L, "other@example.com", "ROLE_USER");
+        AtomicInteger verifyCount = new AtomicInteger();
+        Function<String, JwtPrincipal> countingVerifier = t -> {
+            verifyCount.incrementAndGet();
+            return tokenProvider.verify(t);
+        };
+        principalCache.resolve(revokedToken, countingVerifier);
+        principalCache.resolve(otherToken, countingVerifier);
+
+        // when
+        int evicted = principalCache.evictUser(1L);
+        principalCache.resolve(otherToken, countingVerifier);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(verifyCount.get()).isEqualTo(2);
+        assertThatThrownBy(() -> principalCache.resolve(revokedToken, t -> {
+            throw new AuthException(ErrorMessage.AUTH_INVALID_TOKEN);
+        })).isInstanceOf(AuthException.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.chalpu.photo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackgroundRemovalCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("배경 제거 캐시 - 같은 원본 다이제스트로 저장된 결과를 메모리 계층에서 반환")
+    void get_memoryHit() {
+        // given
+        BackgroundRemovalCache cache = cache(1_000, 10_000);
+        String digest = BackgroundRemovalCache.digest(new byte[]{1, 2, 3});
+        cache.put(digest, bytes(100));
+
+        // when & then
+        assertThat(cache.get(digest)).hasValueSatisfying(result -> assertThat(result).hasSize(100));
+        assertThat(cache.get(BackgroundRemovalCache.digest(new byte[]{9}))).isEmpty();
+        assertThat(meterRegistry.get("photoroom.cache.requests").tags("result", "hit", "tier", "memory")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("photoroom.cache.hit_ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("배경 제거 캐시 - 메모리 계층에서 밀려난 항목은 디스크 계층에서 조회")
+    void get_diskHitAfterMemoryEviction() {
+        // given
+        BackgroundRemovalCache cache = cache(800, 10_000);
+        cache.put("a", bytes(200));
+        cache.put("b", bytes(200));
+        cache.put("c", bytes(200));
+        cache.put("d", bytes(200));
+        cache.put("e", bytes(200));
+
+        // when & then
+        assertThat(cache.getMemoryBytes()).isLessThanOrEqualTo(800);
+        assertThat(cache.get("a")).isPresent();
+        assertThat(meterRegistry.get("photoroom.cache.requests").tags("result", "hit", "tier", "disk")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("photoroom.cache.evictions").tag("tier", "memory")
+                .functionCounter().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("photoroom.cache.bytes").tag("tier", "disk").gauge().value()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("배경 제거 캐시 - 디스크 계층 용량을 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+    void put_evictsLeastRecentlyUsedOnDisk() {
+        // given
+        BackgroundRemovalCache cache = cache(0, 500);
+        cache.put("a", bytes(200));
+        cache.put("b", bytes(200));
+        cache.get("a");
+
+        // when
+        cache.put("c", bytes(200));
+
+        // then
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("c")).isPresent();
+        assertThat(cache.getDiskBytes()).isEqualTo(400);
+        assertThat(directory.resolve("b.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("배경 제거 캐시 - TTL이 지난 항목은 두 계층 모두에서 제거")
+    void get_expiresAfterTtl() {
+        // given
+        BackgroundRemovalCache cache = cache(1_000, 10_000);
+        cache.put("a", bytes(100));
+
+        // when
+        clock.advance(Duration.ofHours(2));
+
+        // then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.getDiskBytes()).isZero();
+        assertThat(directory.resolve("a.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("배경 제거 캐시 - 재시작 후에도 디스크 계층의 항목을 다시 색인해 사용")
+    void constructor_reloadsDiskEntries() {
+        // given
+        cache(1_000, 10_000).put("a", bytes(100));
+
+        // when
+        BackgroundRemovalCache restarted = new BackgroundRemovalCache(
+                new SimpleMeterRegistry(), true, 1_000, 10_000, Duration.ofDays(365), directory, Clock.systemUTC());
+
+        // then
+        assertThat(restarted.getDiskBytes()).isEqualTo(100);
+        assertThat(restarted.get("a")).isPresent();
+    }
+
+    private BackgroundRemovalCache cache(long memoryMaxBytes, long diskMaxBytes) {
+        return new BackgroundRemovalCache(meterRegistry, true, memoryMaxBytes, diskMaxBytes, Duration.ofHours(1), directory, clock);
+    }
+
+    private static byte[] bytes(int size) {
+        return new byte[size];
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
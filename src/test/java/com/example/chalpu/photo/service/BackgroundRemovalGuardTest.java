@@ -0,0 +1,109 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.PhotoException;
+import com.example.chalpu.common.resilience.Bulkhead;
+import com.example.chalpu.common.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BackgroundRemovalGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("배경 제거 격벽 - 동시 호출과 대기열이 가득 차면 503 BUSY로 즉시 거절")
+    void execute_rejectsWhenSaturated() throws Exception {
+        // given
+        BackgroundRemovalGuard guard = guard(1, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> running = executor.submit(() -> guard.execute(() -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> guard.execute(() -> "second"))
+                .isInstanceOf(PhotoException.class)
+                .satisfies(e -> assertThat(((PhotoException) e).getErrorMessage())
+                        .isEqualTo(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_BUSY));
+        assertThat(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_BUSY.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(meterRegistry.get("resilience.bulkhead.active").tag("name", "photoroom").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("resilience.rejected").tags("name", "photoroom", "reason", "queue_full")
+                .counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(guard.execute(() -> "third")).isEqualTo("third");
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("배경 제거 격벽 - 포토룸 장애가 이어지면 서킷이 열려 호출 없이 503 UNAVAILABLE로 거절")
+    void execute_opensCircuitOnFailures() {
+        // given
+        BackgroundRemovalGuard guard = guard(4, 4);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> {
+                throw new ResourceAccessException("timeout");
+            })).isInstanceOf(ResourceAccessException.class);
+        }
+
+        // when & then
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> guard.execute(() -> "never called"))
+                .isInstanceOf(PhotoException.class)
+                .satisfies(e -> assertThat(((PhotoException) e).getErrorMessage())
+                        .isEqualTo(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_UNAVAILABLE));
+    }
+
+    @Test
+    @DisplayName("배경 제거 격벽 - 요청 오류(4xx)는 포토룸 장애로 보지 않아 서킷을 열지 않음")
+    void execute_clientErrorsDoNotOpenCircuit() {
+        // given
+        BackgroundRemovalGuard guard = guard(4, 4);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        // then
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private BackgroundRemovalGuard guard(int maxConcurrent, int maxWaiting) {
+        Bulkhead bulkhead = new Bulkhead(BackgroundRemovalGuard.NAME, maxConcurrent, maxWaiting, Duration.ofMillis(50));
+        CircuitBreaker circuitBreaker = new CircuitBreaker(BackgroundRemovalGuard.NAME, new CircuitBreaker.Settings(
+                10, 3, 50, 80, Duration.ofSeconds(20), Duration.ofSeconds(30), 1));
+        return new BackgroundRemovalGuard(meterRegistry, bulkhead, circuitBreaker);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
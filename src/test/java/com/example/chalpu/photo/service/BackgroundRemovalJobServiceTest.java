@@ -0,0 +1,271 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.PhotoException;
+import com.example.chalpu.fcm.dto.NotificationRequest;
+import com.example.chalpu.fcm.service.NotificationService;
+import com.example.chalpu.photo.domain.BackgroundRemovalJob;
+import com.example.chalpu.photo.domain.BackgroundRemovalJobStatus;
+import com.example.chalpu.photo.dto.BackgroundRemovalJobResponse;
+import com.example.chalpu.photo.dto.PhotoBackgroundRemovalRequest;
+import com.example.chalpu.photo.repository.BackgroundRemovalJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.mock.web.MockMultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BackgroundRemovalJobServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private PhotoRoomService photoRoomService;
+
+    @Mock
+    private BackgroundRemovalJobRepository jobRepository;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private BackgroundRemovalJobService jobService;
+
+    // 인스턴스 간에 공유되는 작업 테이블 대역
+    private final Map<String, BackgroundRemovalJob> table = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(jobRepository.save(any(BackgroundRemovalJob.class))).thenAnswer(invocation -> {
+            BackgroundRemovalJob job = invocation.getArgument(0);
+            table.put(job.getId(), job);
+            return job;
+        });
+        lenient().when(jobRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.<String>getArgument(0))));
+        lenient().doAnswer(invocation -> table.remove(invocation.<String>getArgument(0)))
+                .when(jobRepository).deleteById(anyString());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("배경 제거 작업 - 제출 즉시 작업 ID를 반환하고 완료되면 tmp/ 결과 키와 FCM 알림을 남김")
+    void submit_processesJobInBackground() throws Exception {
+        // given
+        jobService = jobService(2, 10);
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write(new byte[]{1, 2, 3});
+            return null;
+        }).when(photoRoomService).removeBackground(any(InputStreamSource.class), anyString(), anyString(), anyLong(), any(OutputStream.class));
+
+        // when
+        BackgroundRemovalJobResponse submitted = jobService.submit(USER_ID, image(), request(), true);
+        BackgroundRemovalJobResponse completed = awaitCompletion(submitted.getJobId());
+
+        // then
+        assertThat(submitted.getJobId()).isNotBlank();
+        assertThat(completed.getStatus()).isEqualTo(BackgroundRemovalJobStatus.SUCCEEDED);
+        assertThat(completed.getResultS3Key()).startsWith("tmp/").endsWith(".png");
+        assertThat(completed.getResultUrl()).isEqualTo("https://cdn.example.com/" + completed.getResultS3Key());
+
+        ArgumentCaptor<PutObjectRequest> putRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(putRequest.capture(), any(RequestBody.class));
+        assertThat(putRequest.getValue().key()).isEqualTo(completed.getResultS3Key());
+
+        ArgumentCaptor<NotificationRequest> notification = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(notificationService, timeout(1_000)).sendNotificationToUser(eq(USER_ID), notification.capture());
+        assertThat(notification.getValue().getData())
+                .containsEntry("type", "background_removal")
+                .containsEntry("jobId", submitted.getJobId())
+                .containsEntry("status", "SUCCEEDED");
+    }
+
+    @Test
+    @DisplayName("배경 제거 작업 - 격벽 포화로 거절되면 잠시 후 다시 시도")
+    void process_retriesWhenBulkheadIsBusy() throws Exception {
+        // given
+        jobService = jobService(1, 10);
+        doAnswer(invocation -> {
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_BUSY);
+        }).doAnswer(invocation -> null)
+                .when(photoRoomService).removeBackground(any(InputStreamSource.class), anyString(), anyString(), anyLong(), any(OutputStream.class));
+
+        // when
+        BackgroundRemovalJobResponse submitted = jobService.submit(USER_ID, image(), request(), false);
+        BackgroundRemovalJobResponse completed = awaitCompletion(submitted.getJobId());
+
+        // then
+        assertThat(completed.getStatus()).isEqualTo(BackgroundRemovalJobStatus.SUCCEEDED);
+        verify(photoRoomService, times(2)).removeBackground(any(InputStreamSource.class), anyString(), anyString(), anyLong(), any(OutputStream.class));
+        verify(notificationService, never()).sendNotificationToUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("배경 제거 작업 - 포토룸 처리에 실패하면 FAILED 상태와 실패 사유를 남김")
+    void process_marksFailed() throws Exception {
+        // given
+        jobService = jobService(1, 10);
+        doAnswer(invocation -> {
+            throw new PhotoException(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED);
+        }).when(photoRoomService).removeBackground(any(InputStreamSource.class), anyString(), anyString(), anyLong(), any(OutputStream.class));
+
+        // when
+        BackgroundRemovalJobResponse completed = awaitCompletion(jobService.submit(USER_ID, image(), request(), false).getJobId());
+
+        // then
+        assertThat(completed.getStatus()).isEqualTo(BackgroundRemovalJobStatus.FAILED);
+        assertThat(completed.getErrorMessage()).isEqualTo(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED.getMessage());
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    @DisplayName("배경 제거 작업 - 작업 대기열이 가득 차면 503 BUSY로 거절")
+    void submit_rejectsWhenQueueIsFull() throws Exception {
+        // given
+        jobService = jobService(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(photoRoomService).removeBackground(any(InputStreamSource.class), anyString(), anyString(), anyLong(), any(OutputStream.class));
+        jobService.submit(USER_ID, image(), request(), false);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        jobService.submit(USER_ID, image(), request(), false);
+
+        // when & then
+        assertThatThrownBy(() -> jobService.submit(USER_ID, image(), request(), false))
+                .isInstanceOf(PhotoException.class)
+                .hasMessage(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_BUSY.getMessage());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("배경 제거 작업 조회 - 다른 사용자의 작업은 조회할 수 없음")
+    void getJob_otherUser() {
+        // given
+        jobService = jobService(1, 10);
+        String jobId = jobService.submit(USER_ID, image(), request(), false).getJobId();
+
+        // when & then
+        assertThatThrownBy(() -> jobService.getJob(2L, jobId))
+                .isInstanceOf(PhotoException.class)
+                .hasMessage(ErrorMessage.PHOTO_ACCESS_DENIED.getMessage());
+        assertThatThrownBy(() -> jobService.getJob(USER_ID, "unknown"))
+                .isInstanceOf(PhotoException.class)
+                .hasMessage(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_JOB_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("배경 제거 작업 - 다른 인스턴스가 제출받은 작업도 작업 테이블로 상태를 조회")
+    void getJob_fromAnotherInstance() throws Exception {
+        // given
+        jobService = jobService(1, 10);
+        BackgroundRemovalJobService otherInstance = jobService(1, 10);
+        doAnswer(invocation -> null)
+                .when(photoRoomService).removeBackground(any(InputStreamSource.class), anyString(), anyString(), anyLong(), any(OutputStream.class));
+
+        try {
+            // when
+            String jobId = jobService.submit(USER_ID, image(), request(), false).getJobId();
+            awaitCompletion(jobId);
+            BackgroundRemovalJobResponse response = otherInstance.getJob(USER_ID, jobId);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(BackgroundRemovalJobStatus.SUCCEEDED);
+            assertThat(response.getResultS3Key()).startsWith("tmp/");
+        } finally {
+            otherInstance.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("배경 제거 작업 정리 - 오래 멈춘 미완료 작업은 FAILED로, 보관 기간이 지난 작업은 삭제")
+    void sweep_failsStaleJobsAndDeletesExpired() {
+        // given
+        jobService = jobService(1, 10);
+        given(jobRepository.failStale(any(), any(), any(), any(), any())).willReturn(1);
+        given(jobRepository.deleteCreatedBefore(any())).willReturn(2);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        jobService.sweep();
+
+        // then
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> createdBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).failStale(eq(List.of(BackgroundRemovalJobStatus.QUEUED, BackgroundRemovalJobStatus.PROCESSING)),
+                eq(BackgroundRemovalJobStatus.FAILED), eq(ErrorMessage.PHOTO_BACKGROUND_REMOVAL_FAILED.getMessage()),
+                staleBefore.capture(), any(LocalDateTime.class));
+        verify(jobRepository).deleteCreatedBefore(createdBefore.capture());
+        assertThat(staleBefore.getValue()).isBeforeOrEqualTo(before.minusMinutes(30).plusSeconds(5)).isAfter(before.minusMinutes(31));
+        assertThat(createdBefore.getValue()).isBeforeOrEqualTo(before.minusMinutes(60).plusSeconds(5)).isAfter(before.minusMinutes(61));
+    }
+
+    private BackgroundRemovalJobService jobService(int workers, int queueCapacity) {
+        return new BackgroundRemovalJobService(photoRoomService, jobRepository, s3Client, notificationService, new SimpleMeterRegistry(),
+                "test-bucket", "https://cdn.example.com", workers, queueCapacity, 60, 30, 3, 1);
+    }
+
+    private BackgroundRemovalJobResponse awaitCompletion(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        BackgroundRemovalJobResponse response = jobService.getJob(USER_ID, jobId);
+        while (!response.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            response = jobService.getJob(USER_ID, jobId);
+        }
+        return response;
+    }
+
+    private static MockMultipartFile image() {
+        return new MockMultipartFile("file", "menu.jpg", "image/jpeg", new byte[]{9, 9, 9});
+    }
+
+    private static PhotoBackgroundRemovalRequest request() {
+        PhotoBackgroundRemovalRequest request = new PhotoBackgroundRemovalRequest();
+        request.setFileName("menu.jpg");
+        return request;
+    }
+}
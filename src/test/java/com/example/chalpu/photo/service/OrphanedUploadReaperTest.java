@@ -0,0 +1,155 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.storage.S3DeletionQueue;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanedUploadReaper 테스트")
+class OrphanedUploadReaperTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T00:00:00Z");
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+
+    private InMemoryS3Client s3Client;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("오래되고 등록되지 않은 객체만 삭제 대기열에 넣음 (등록된 키, 최근 업로드, 리사이즈 변형 제외)")
+    @SuppressWarnings("unchecked")
+    void reapPrefix_enqueuesOnlyOldUnregisteredObjects() {
+        // given
+        s3Client.put("foodPhoto/orphan.jpg", NOW.minus(Duration.ofDays(2)));
+        s3Client.put("foodPhoto/registered.jpg", NOW.minus(Duration.ofDays(2)));
+        s3Client.put("foodPhoto/registered_w320.jpg", NOW.minus(Duration.ofDays(2)));
+        s3Client.put("foodPhoto/recent.jpg", NOW.minus(Duration.ofHours(1)));
+        s3Client.put("tmp/orphan.png", NOW.minus(Duration.ofDays(3)));
+        when(photoRepository.findS3KeysByS3KeyIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.contains("foodPhoto/registered.jpg") ? List.of("foodPhoto/registered.jpg") : List.of();
+        });
+        OrphanedUploadReaper reaper = reaper(1000, 10);
+
+        // when
+        int orphaned = reaper.reapPrefix("foodPhoto/");
+
+        // then
+        assertThat(orphaned).isEqualTo(1);
+        ArgumentCaptor<Collection<String>> checked = ArgumentCaptor.forClass(Collection.class);
+        verify(photoRepository, times(1)).findS3KeysByS3KeyIn(checked.capture());
+        assertThat(checked.getValue()).containsExactly("foodPhoto/orphan.jpg", "foodPhoto/registered.jpg");
+        verify(s3DeletionQueue).enqueue(List.of("foodPhoto/orphan.jpg"));
+        assertThat(meterRegistry.get("photo.reaper.objects").tag("prefix", "foodPhoto/").tag("result", "scanned")
+                .counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("실행당 페이지 한도에 걸리면 다음 실행에서 이어서 조회")
+    void reapPrefix_resumesFromContinuationToken() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            s3Client.put("tmp/" + i + ".png", NOW.minus(Duration.ofDays(2)));
+        }
+        when(photoRepository.findS3KeysByS3KeyIn(anyCollection())).thenReturn(List.of());
+        OrphanedUploadReaper reaper = reaper(2, 1);
+
+        // when
+        int first = reaper.reapPrefix("tmp/");
+        int second = reaper.reapPrefix("tmp/");
+        int third = reaper.reapPrefix("tmp/");
+        int restarted = reaper.reapPrefix("tmp/");
+
+        // then
+        assertThat(List.of(first, second, third, restarted)).containsExactly(2, 2, 1, 2);
+        verify(s3DeletionQueue, times(2)).enqueue(List.of("tmp/0.png", "tmp/1.png"));
+        verify(s3DeletionQueue).enqueue(List.of("tmp/2.png", "tmp/3.png"));
+        verify(s3DeletionQueue).enqueue(List.of("tmp/4.png"));
+        assertThat(s3Client.requestedTokens).containsExactly(null, "tmp/1.png", "tmp/3.png", null);
+    }
+
+    private OrphanedUploadReaper reaper(int pageSize, int maxPagesPerRun) {
+        return new OrphanedUploadReaper(s3Client, photoRepository, s3DeletionQueue, meterRegistry, "test-bucket",
+                Duration.ofHours(24), pageSize, maxPagesPerRun, 0, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    /**
+     * ListObjectsV2만 지원하는 메모리 S3 (키 사전순, 연속 토큰은 마지막으로 반환한 키)
+     */
+    private static class InMemoryS3Client implements S3Client {
+
+        private final NavigableMap<String, Instant> objects = new TreeMap<>();
+        private final List<String> requestedTokens = new ArrayList<>();
+
+        void put(String key, Instant lastModified) {
+            objects.put(key, lastModified);
+        }
+
+        @Override
+        public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+            requestedTokens.add(request.continuationToken());
+            String after = request.continuationToken();
+            List<S3Object> contents = new ArrayList<>();
+            NavigableMap<String, Instant> candidates = after == null ? objects : objects.tailMap(after, false);
+            for (Map.Entry<String, Instant> entry : candidates.entrySet()) {
+                if (!entry.getKey().startsWith(request.prefix())) {
+                    continue;
+                }
+                if (contents.size() == request.maxKeys()) {
+                    return ListObjectsV2Response.builder()
+                            .contents(contents)
+                            .isTruncated(true)
+                            .nextContinuationToken(contents.get(contents.size() - 1).key())
+                            .build();
+                }
+                contents.add(S3Object.builder().key(entry.getKey()).lastModified(entry.getValue()).build());
+            }
+            return ListObjectsV2Response.builder().contents(contents).isTruncated(false).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.http.OutboundHttpDestination;
+import com.example.chalpu.common.http.PooledClientHttpRequestFactory;
+import com.example.chalpu.common.resilience.Bulkhead;
+import com.example.chalpu.common.resilience.CircuitBreaker;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhotoRoomStreamingTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PhotoRoomStreamingTest.class);
+
+    private static final int RESPONSE_CHUNK = 64 * 1024;
+
+    @TempDir
+    Path cacheDirectory;
+
+    private HttpServer server;
+    private Bulkhead bulkhead;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicLong receivedBytes = new AtomicLong();
+    private final AtomicReference<String> receivedHead = new AtomicReference<>();
+    private final AtomicReference<String> receivedApiKey = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // 요청 본문 크기만큼 고정 패턴의 응답을 돌려주는 포토룸 대역
+        server.createContext("/v1/segment", exchange -> {
+            calls.incrementAndGet();
+            receivedApiKey.set(exchange.getRequestHeaders().getFirst("X-Api-Key"));
+            byte[] buffer = new byte[RESPONSE_CHUNK];
+            long total = 0;
+            try (InputStream body = exchange.getRequestBody()) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (total == 0) {
+                        receivedHead.set(new String(buffer, 0, Math.min(read, 512), StandardCharsets.UTF_8));
+                    }
+                    total += read;
+                }
+            }
+            receivedBytes.set(total);
+            Arrays.fill(buffer, (byte) 7);
+            exchange.sendResponseHeaders(200, total);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (long remaining = total; remaining > 0; remaining -= RESPONSE_CHUNK) {
+                    out.write(buffer, 0, (int) Math.min(RESPONSE_CHUNK, remaining));
+                }
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(2));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("스트리밍 배경 제거 - 업로드를 multipart로 그대로 전달하고 응답을 출력 스트림에 기록, 재요청은 디스크 캐시에서 응답")
+    void removeBackground_streamsRequestAndResponse() {
+        // given
+        PhotoRoomService photoRoomService = photoRoomService(true);
+        byte[] image = new byte[300_000];
+        Arrays.fill(image, (byte) 1);
+        MockMultipartFile file = new MockMultipartFile("file", "menu.jpg", "image/jpeg", image);
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        // when
+        photoRoomService.removeBackground(file, first);
+        photoRoomService.removeBackground(file, second);
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(receivedApiKey.get()).isEqualTo("test-key");
+        assertThat(receivedHead.get())
+                .contains("Content-Disposition: form-data; name=\"image_file\"; filename=\"menu.jpg\"")
+                .contains("Content-Type: image/jpeg");
+        assertThat(receivedBytes.get()).isGreaterThan(image.length);
+        assertThat(first.size()).isEqualTo((int) receivedBytes.get());
+        assertThat(second.toByteArray()).isEqualTo(first.toByteArray());
+    }
+
+    @Test
+    @DisplayName("스트리밍 배경 제거 - 클라이언트 전송은 벌크헤드 슬롯을 반납한 뒤에 시작")
+    void removeBackground_writesToClientAfterReleasingBulkhead() {
+        // given
+        PhotoRoomService photoRoomService = photoRoomService(false);
+        MockMultipartFile file = new MockMultipartFile("file", "menu.jpg", "image/jpeg", new byte[100_000]);
+        AtomicInteger activeWhileWriting = new AtomicInteger(-1);
+        ByteArrayOutputStream client = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                activeWhileWriting.compareAndSet(-1, bulkhead.getActive());
+                super.write(b, off, len);
+            }
+        };
+
+        // when
+        photoRoomService.removeBackground(file, client);
+
+        // then
+        assertThat(activeWhileWriting.get()).isZero();
+        assertThat(client.size()).isEqualTo((int) receivedBytes.get());
+    }
+
+    /**
+     * 요청 스레드의 힙 할당량 비교 (./gradlew test -Dbenchmark=true)
+     * 버퍼링 모드는 원본/결과 크기에 비례해 할당하고, 스트리밍 모드는 원본 크기와 관계없이 일정해야 한다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("스트리밍 배경 제거 벤치마크 - 원본 크기가 커져도 요청 스레드 할당량이 일정")
+    void benchmark_allocationIsConstantInImageSize() {
+        // given
+        PhotoRoomService photoRoomService = photoRoomService(false);
+        MockMultipartFile small = new MockMultipartFile("file", "small.jpg", "image/jpeg", new byte[1024 * 1024]);
+        MockMultipartFile large = new MockMultipartFile("file", "large.jpg", "image/jpeg", new byte[8 * 1024 * 1024]);
+        for (int i = 0; i < 3; i++) {
+            photoRoomService.removeBackground(small, OutputStream.nullOutputStream());
+            photoRoomService.removeBackground(small);
+        }
+
+        // when
+        long streamingSmall = allocatedBytes(() -> photoRoomService.removeBackground(small, OutputStream.nullOutputStream()));
+        long streamingLarge = allocatedBytes(() -> photoRoomService.removeBackground(large, OutputStream.nullOutputStream()));
+        long bufferedSmall = allocatedBytes(() -> photoRoomService.removeBackground(small));
+        long bufferedLarge = allocatedBytes(() -> photoRoomService.removeBackground(large));
+
+        // then
+        log.info("event=benchmark_background_removal_allocation, streaming_small_bytes={}, streaming_large_bytes={}, "
+                        + "buffered_small_bytes={}, buffered_large_bytes={}",
+                streamingSmall, streamingLarge, bufferedSmall, bufferedLarge);
+        assertThat(streamingLarge - streamingSmall).isLessThan(1024 * 1024);
+        assertThat(bufferedLarge - bufferedSmall).isGreaterThan(7L * 1024 * 1024);
+    }
+
+    private PhotoRoomService photoRoomService(boolean cacheEnabled) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead(BackgroundRemovalGuard.NAME, 4, 4, Duration.ofSeconds(1));
+        OutboundHttpDestination destination = new OutboundHttpDestination(
+                "photoroom", "localhost", Duration.ofSeconds(1), Duration.ofSeconds(10), 4, Duration.ofSeconds(1));
+        RestTemplate restTemplate = new RestTemplate(new PooledClientHttpRequestFactory(List.of(destination), destination, meterRegistry));
+        BackgroundRemovalGuard guard = new BackgroundRemovalGuard(meterRegistry,
+                bulkhead,
+                new CircuitBreaker(BackgroundRemovalGuard.NAME, new CircuitBreaker.Settings(
+                        10, 5, 50, 80, Duration.ofSeconds(20), Duration.ofSeconds(30), 1)));
+        BackgroundRemovalCache cache = new BackgroundRemovalCache(meterRegistry, cacheEnabled, 0, 64L * 1024 * 1024,
+                Duration.ofHours(1), cacheDirectory, Clock.systemUTC());
+
+        PhotoRoomService photoRoomService = new PhotoRoomService(restTemplate, guard, cache);
+        ReflectionTestUtils.setField(photoRoomService, "photoRoomApiUrl",
+                "http://localhost:" + server.getAddress().getPort() + "/v1/segment");
+        ReflectionTestUtils.setField(photoRoomService, "photoRoomApiKey", "test-key");
+        return photoRoomService;
+    }
+
+    private static long allocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        task.run();
+        return threadMXBean.getCurrentThreadAllocatedBytes() - before;
+    }
+}
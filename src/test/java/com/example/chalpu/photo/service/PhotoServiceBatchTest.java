@@ -0,0 +1,282 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.PhotoException;
+import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import com.example.chalpu.photo.domain.Photo;
+import com.example.chalpu.photo.dto.PhotoBatchPresignedUrlResponse;
+import com.example.chalpu.photo.dto.PhotoBatchRegisterItem;
+import com.example.chalpu.photo.dto.PhotoBatchRegisterRequest;
+import com.example.chalpu.photo.dto.PhotoBatchRegisterResponse;
+import com.example.chalpu.photo.dto.PhotoBatchRegisterResult;
+import com.example.chalpu.photo.dto.PhotoBatchUploadRequest;
+import com.example.chalpu.photo.repository.PhotoJdbcRepository;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import com.example.chalpu.store.domain.Store;
+import com.example.chalpu.store.repository.StoreRepository;
+import com.example.chalpu.user.domain.User;
+import com.example.chalpu.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URL;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhotoService 일괄 처리 테스트")
+class PhotoServiceBatchTest {
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private PhotoJdbcRepository photoJdbcRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FoodItemRepository foodItemRepository;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private PhotoVariantService photoVariantService;
+
+    @InjectMocks
+    private PhotoService photoService;
+
+    private final Store store = Store.builder().id(1L).storeName("테스트 매장").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(photoService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(photoService, "cloudfrontDomain", "https://cdn.chalpu.com");
+        ReflectionTestUtils.setField(photoService, "maxBatchSize", 3);
+    }
+
+    @Test
+    @DisplayName("Presigned URL 일괄 발급 - 요청 순서대로 발급")
+    void generatePresignedUrls_Success() throws Exception {
+        // given
+        PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+        when(presigned.url()).thenReturn(new URL("https://test-bucket.s3.amazonaws.com/signed"));
+        when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+        PhotoBatchUploadRequest request = new PhotoBatchUploadRequest(List.of("a.jpg", "b.png"));
+
+        // when
+        PhotoBatchPresignedUrlResponse result = photoService.generatePresignedUrls(1L, request);
+
+        // then
+        assertThat(result.getPresignedUrls()).hasSize(2);
+        assertThat(result.getPresignedUrls().get(0).getS3Key()).startsWith("foodPhoto/").endsWith(".jpg");
+        assertThat(result.getPresignedUrls().get(1).getS3Key()).startsWith("foodPhoto/").endsWith(".png");
+        verify(s3Presigner, times(2)).presignPutObject(any(PutObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("Presigned URL 일괄 발급 실패 - 확장자 없는 파일이 있으면 하나도 발급하지 않음")
+    void generatePresignedUrls_InvalidFileName_ThrowsException() {
+        // given
+        PhotoBatchUploadRequest request = new PhotoBatchUploadRequest(List.of("a.jpg", "noext"));
+
+        // when & then
+        assertThatThrownBy(() -> photoService.generatePresignedUrls(1L, request))
+                .isInstanceOf(PhotoException.class)
+                .extracting("errorMessage")
+                .isEqualTo(ErrorMessage.PHOTO_INVALID_FORMAT);
+        verifyNoInteractions(s3Presigner);
+    }
+
+    @Test
+    @DisplayName("Presigned URL 일괄 발급 실패 - 최대 개수 초과")
+    void generatePresignedUrls_SizeExceeded_ThrowsException() {
+        // given
+        PhotoBatchUploadRequest request = new PhotoBatchUploadRequest(Collections.nCopies(4, "a.jpg"));
+
+        // when & then
+        assertThatThrownBy(() -> photoService.generatePresignedUrls(1L, request))
+                .isInstanceOf(PhotoException.class)
+                .extracting("errorMessage")
+                .isEqualTo(ErrorMessage.PHOTO_BATCH_SIZE_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("사진 일괄 등록 - 공통 엔티티는 한 번만 확인하고 사진별 결과를 요청 순서로 반환")
+    void registerPhotos_PartialSuccess() {
+        // given
+        PhotoBatchRegisterRequest request = PhotoBatchRegisterRequest.builder()
+                .storeId(1L)
+                .photos(List.of(item("foodPhoto/a.jpg"), item("foodPhoto/dup.jpg"), item("foodPhoto/a.jpg")))
+                .build();
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(storeRepository.existsById(1L)).thenReturn(true);
+        when(photoRepository.findS3KeysByS3KeyIn(any())).thenReturn(List.of("foodPhoto/dup.jpg"));
+        when(photoJdbcRepository.insertIgnoreAll(eq(1L), eq(1L), isNull(), anyList(), any())).thenReturn(new int[]{1});
+        when(photoRepository.findByS3KeyIn(List.of("foodPhoto/a.jpg"))).thenReturn(List.of(
+                Photo.builder().id(10L).store(store).s3Key("foodPhoto/a.jpg").fileName("a.jpg").build()));
+
+        // when
+        PhotoBatchRegisterResponse result = photoService.registerPhotos(1L, request);
+
+        // then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailureCount()).isEqualTo(2);
+        List<PhotoBatchRegisterResult> results = result.getResults();
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).getPhoto().getPhotoId()).isEqualTo(10L);
+        assertThat(results.get(1).getErrorCode()).isEqualTo(ErrorMessage.PHOTO_ALREADY_REGISTERED.name());
+        assertThat(results.get(2).getErrorCode()).isEqualTo(ErrorMessage.PHOTO_ALREADY_REGISTERED.name());
+
+        verify(storeRepository, times(1)).existsById(1L);
+        verify(photoJdbcRepository).insertIgnoreAll(eq(1L), eq(1L), isNull(),
+                argThat(items -> items.size() == 1 && items.get(0).getS3Key().equals("foodPhoto/a.jpg")), any());
+        verify(photoVariantService).scheduleAfterCommit(10L, "foodPhoto/a.jpg");
+        verify(photoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("사진 일괄 등록 - 동시 등록으로 무시된 사진은 실패로 응답")
+    void registerPhotos_ConcurrentDuplicate_ReportsFailure() {
+        // given
+        PhotoBatchRegisterRequest request = PhotoBatchRegisterRequest.builder()
+                .storeId(1L)
+                .photos(List.of(item("foodPhoto/a.jpg")))
+                .build();
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(storeRepository.existsById(1L)).thenReturn(true);
+        when(photoRepository.findS3KeysByS3KeyIn(any())).thenReturn(List.of());
+        when(photoJdbcRepository.insertIgnoreAll(anyLong(), anyLong(), any(), anyList(), any())).thenReturn(new int[]{0});
+
+        // when
+        PhotoBatchRegisterResponse result = photoService.registerPhotos(1L, request);
+
+        // then
+        assertThat(result.getSuccessCount()).isZero();
+        assertThat(result.getResults().get(0).getErrorCode()).isEqualTo(ErrorMessage.PHOTO_ALREADY_REGISTERED.name());
+        verify(photoRepository, never()).findByS3KeyIn(any());
+        verifyNoInteractions(photoVariantService);
+    }
+
+    @Test
+    @DisplayName("사진 일괄 등록 - 건별 결과가 SUCCESS_NO_INFO면 조회한 행이 이번 요청이 넣은 행일 때만 성공")
+    void registerPhotos_SuccessNoInfo_VerifiesOwnership() {
+        // given
+        PhotoBatchRegisterRequest request = PhotoBatchRegisterRequest.builder()
+                .storeId(1L)
+                .photos(List.of(item("foodPhoto/mine.jpg"), item("foodPhoto/theirs.jpg")))
+                .build();
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(storeRepository.existsById(1L)).thenReturn(true);
+        when(photoRepository.findS3KeysByS3KeyIn(any())).thenReturn(List.of());
+        AtomicReference<LocalDateTime> createdAt = new AtomicReference<>();
+        when(photoJdbcRepository.insertIgnoreAll(eq(1L), eq(1L), isNull(), anyList(), any())).thenAnswer(invocation -> {
+            createdAt.set(invocation.getArgument(4));
+            return new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO};
+        });
+        when(photoRepository.findByS3KeyIn(List.of("foodPhoto/mine.jpg", "foodPhoto/theirs.jpg"))).thenAnswer(invocation -> List.of(
+                photo(10L, 1L, "foodPhoto/mine.jpg", createdAt.get()),
+                photo(11L, 2L, "foodPhoto/theirs.jpg", createdAt.get().minusSeconds(1))));
+
+        // when
+        PhotoBatchRegisterResponse result = photoService.registerPhotos(1L, request);
+
+        // then
+        assertThat(result.getResults().get(0).isSuccess()).isTrue();
+        assertThat(result.getResults().get(1).getErrorCode()).isEqualTo(ErrorMessage.PHOTO_ALREADY_REGISTERED.name());
+        verify(photoVariantService).scheduleAfterCommit(10L, "foodPhoto/mine.jpg");
+        verify(photoVariantService, never()).scheduleAfterCommit(eq(11L), any());
+    }
+
+    @Test
+    @DisplayName("사진 일괄 등록 - 컬럼 길이를 넘는 s3Key/파일명은 잘라 저장하지 않고 해당 사진만 실패")
+    void registerPhotos_OverlongValues_Rejected() {
+        // given
+        PhotoBatchRegisterItem longFileName = PhotoBatchRegisterItem.builder()
+                .s3Key("foodPhoto/long.jpg")
+                .fileName("a".repeat(Photo.MAX_FILE_NAME_LENGTH + 1))
+                .build();
+        PhotoBatchRegisterRequest request = PhotoBatchRegisterRequest.builder()
+                .storeId(1L)
+                .photos(List.of(longFileName, item("foodPhoto/" + "k".repeat(Photo.MAX_S3_KEY_LENGTH))))
+                .build();
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(storeRepository.existsById(1L)).thenReturn(true);
+
+        // when
+        PhotoBatchRegisterResponse result = photoService.registerPhotos(1L, request);
+
+        // then
+        assertThat(result.getResults()).extracting(PhotoBatchRegisterResult::getErrorCode)
+                .containsOnly(ErrorMessage.PHOTO_INVALID_REQUEST.name());
+        verifyNoInteractions(photoJdbcRepository);
+        verify(photoRepository, never()).findByS3KeyIn(any());
+    }
+
+    @Test
+    @DisplayName("사진 일괄 등록 실패 - 매장 없음")
+    void registerPhotos_StoreNotFound_ThrowsException() {
+        // given
+        PhotoBatchRegisterRequest request = PhotoBatchRegisterRequest.builder()
+                .storeId(999L)
+                .photos(List.of(item("foodPhoto/a.jpg")))
+                .build();
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(storeRepository.existsById(999L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> photoService.registerPhotos(1L, request))
+                .isInstanceOf(PhotoException.class)
+                .extracting("errorMessage")
+                .isEqualTo(ErrorMessage.STORE_NOT_FOUND);
+        verifyNoInteractions(photoJdbcRepository);
+    }
+
+    private Photo photo(Long photoId, Long userId, String s3Key, LocalDateTime createdAt) {
+        Photo photo = Photo.builder()
+                .id(photoId)
+                .user(User.builder().id(userId).build())
+                .store(store)
+                .s3Key(s3Key)
+                .fileName(s3Key.substring(s3Key.lastIndexOf('/') + 1))
+                .build();
+        ReflectionTestUtils.setField(photo, "createdAt", createdAt);
+        return photo;
+    }
+
+    private static PhotoBatchRegisterItem item(String s3Key) {
+        return PhotoBatchRegisterItem.builder()
+                .s3Key(s3Key)
+                .fileName(s3Key.substring(s3Key.lastIndexOf('/') + 1))
+                .fileSize(1024)
+                .imageWidth(1920)
+                .imageHeight(1080)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.PhotoException;
+import com.example.chalpu.common.response.CursorResponse;
+import com.example.chalpu.common.response.SeekCursor;
+import com.example.chalpu.photo.domain.Photo;
+import com.example.chalpu.photo.dto.PhotoResponse;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import com.example.chalpu.store.domain.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhotoService 커서 페이지네이션 테스트")
+class PhotoServiceCursorTest {
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @InjectMocks
+    private PhotoService photoService;
+
+    private final Store store = Store.builder().id(1L).storeName("테스트 매장").build();
+    private final LocalDateTime baseTime = LocalDateTime.of(2024, 1, 15, 9, 30, 0, 123_456_000);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(photoService, "cloudfrontDomain", "https://cdn.chalpu.com");
+    }
+
+    @Test
+    @DisplayName("첫 페이지 조회 - 한 건 더 조회해 다음 커서를 만들고 COUNT 쿼리는 실행하지 않음")
+    void getPhotosByStoreWithCursor_FirstPage() {
+        // given
+        List<Photo> photos = List.of(photo(30L, 0), photo(29L, 1), photo(28L, 2));
+        when(photoRepository.findFirstPageByStoreId(eq(1L), argThat(pageable -> pageable.getPageSize() == 3)))
+                .thenReturn(photos);
+
+        // when
+        CursorResponse<PhotoResponse> result = photoService.getPhotosByStoreWithCursor(1L, null, 2);
+
+        // then
+        assertThat(result.getContent()).extracting(PhotoResponse::getPhotoId).containsExactly(30L, 29L);
+        assertThat(result.isHasNext()).isTrue();
+        SeekCursor next = SeekCursor.decode(result.getNextCursor());
+        assertThat(next.id()).isEqualTo(29L);
+        assertThat(next.createdAt()).isEqualTo(baseTime.minusSeconds(1));
+        verify(photoRepository, never()).findByStoreIdAndIsActiveTrueWithoutJoin(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("다음 페이지 조회 - 커서의 (createdAt, id) 이후부터 조회하고 마지막 페이지면 커서 없음")
+    void getPhotosByStoreWithCursor_LastPage() {
+        // given
+        String cursor = new SeekCursor(baseTime, 29L).encode();
+        when(photoRepository.findPageByStoreIdAfter(eq(1L), eq(baseTime), eq(29L), any(Pageable.class)))
+                .thenReturn(List.of(photo(28L, 2)));
+
+        // when
+        CursorResponse<PhotoResponse> result = photoService.getPhotosByStoreWithCursor(1L, cursor, 2);
+
+        // then
+        assertThat(result.getContent()).extracting(PhotoResponse::getPhotoId).containsExactly(28L);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 조회 실패 - 형식이 잘못된 커서")
+    void getPhotosByFoodItemWithCursor_InvalidCursor_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> photoService.getPhotosByFoodItemWithCursor(1L, "not-a-cursor", 10))
+                .isInstanceOf(PhotoException.class)
+                .extracting("errorMessage")
+                .isEqualTo(ErrorMessage.PHOTO_INVALID_CURSOR);
+        verifyNoInteractions(photoRepository);
+    }
+
+    private Photo photo(Long id, int secondsAgo) {
+        Photo photo = Photo.builder()
+                .id(id)
+                .store(store)
+                .s3Key("foodPhoto/" + id + ".jpg")
+                .fileName(id + ".jpg")
+                .build();
+        ReflectionTestUtils.setField(photo, "createdAt", baseTime.minusSeconds(secondsAgo));
+        return photo;
+    }
+}
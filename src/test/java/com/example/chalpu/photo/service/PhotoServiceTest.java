@@ -3,12 +3,18 @@ package com.example.chalpu.photo.service;
 import com.example.chalpu.common.exception.ErrorMessage;
 import com.example.chalpu.common.exception.PhotoException;
 import com.example.chalpu.common.response.PageResponse;
+import com.example.chalpu.fooditem.domain.FoodItem;
+import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import com.example.chalpu.fooditem.service.FoodItemSearchIndex;
+import com.example.chalpu.menu.service.StorefrontMenuCache;
 import com.example.chalpu.photo.domain.Photo;
 import com.example.chalpu.photo.dto.PhotoRegisterRequest;
 import com.example.chalpu.photo.dto.PhotoResponse;
+import com.example.chalpu.photo.dto.PhotoSetFeaturedRequest;
 import com.example.chalpu.photo.repository.PhotoRepository;
 import com.example.chalpu.store.domain.Store;
 import com.example.chalpu.store.repository.StoreRepository;
+import com.example.chalpu.store.service.UserStoreRoleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +56,21 @@ class PhotoServiceTest {
     
     @Mock
     private S3Presigner s3Presigner;
+
+    @Mock
+    private PhotoVariantService photoVariantService;
+
+    @Mock
+    private UserStoreRoleService userStoreRoleService;
+
+    @Mock
+    private FoodItemRepository foodItemRepository;
+
+    @Mock
+    private StorefrontMenuCache storefrontMenuCache;
+
+    @Mock
+    private FoodItemSearchIndex foodItemSearchIndex;
     
     @InjectMocks
     private PhotoService photoService;
@@ -327,4 +348,22 @@ class PhotoServiceTest {
         
         verify(photoRepository).findById(1L);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("대표 사진 지정 - 음식 썸네일을 바꾸고 메뉴 캐시와 검색 색인을 갱신")
+    void setFeaturedPhoto_RefreshesStorefrontAndSearchIndex() {
+        // given
+        FoodItem foodItem = FoodItem.builder().id(7L).store(testStore).foodName("김치찌개").isActive(true).build();
+        when(photoRepository.findByIdAndIsActiveTrueWithoutJoin(1L)).thenReturn(Optional.of(testPhoto));
+        when(userStoreRoleService.canUserManageStore(10L, 1L)).thenReturn(true);
+        when(foodItemRepository.findById(7L)).thenReturn(Optional.of(foodItem));
+
+        // when
+        photoService.setFeaturedPhoto(10L, new PhotoSetFeaturedRequest(1L, 7L));
+
+        // then
+        assertThat(foodItem.getThumbnailUrl()).isEqualTo("foodPhoto/test-image.jpg");
+        verify(storefrontMenuCache).evict(1L);
+        verify(foodItemSearchIndex).refreshAfterCommit(1L, 7L);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.chalpu.photo.service;
+
+import com.example.chalpu.photo.domain.Photo;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoVariantServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PhotoVariantService photoVariantService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        photoVariantService = new PhotoVariantService(s3Client, photoRepository, meterRegistry,
+                "test-bucket", new int[]{640, 320, 1080}, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        photoVariantService.shutdown();
+    }
+
+    @Test
+    @DisplayName("사진 변형 렌더링 - 원본보다 좁은 너비만 비율을 유지해 생성")
+    void renderVariants_keepsAspectRatioAndSkipsUpscale() throws Exception {
+        // given
+        Path source = directory.resolve("source.jpg");
+        Files.write(source, image(800, 400, "jpg"));
+
+        // when
+        Map<Integer, byte[]> variants = photoVariantService.renderVariants(source, "jpg");
+
+        // then
+        assertThat(variants).containsOnlyKeys(320, 640);
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(variants.get(320)));
+        assertThat(small.getWidth()).isEqualTo(320);
+        assertThat(small.getHeight()).isEqualTo(160);
+        assertThat(ImageIO.read(new ByteArrayInputStream(variants.get(640))).getWidth()).isEqualTo(640);
+    }
+
+    @Test
+    @DisplayName("사진 변형 렌더링 - EXIF Orientation 6(90도 회전) 원본은 세로 방향으로 돌려서 생성")
+    void renderVariants_appliesExifOrientation() throws Exception {
+        // given: 800x400으로 저장되고 위쪽 절반이 빨간 원본, 화면에는 400x800으로 보여야 함
+        BufferedImage stored = new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = stored.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 800, 200);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, 200, 800, 200);
+        graphics.dispose();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(stored, "jpg", jpeg);
+        Path source = directory.resolve("rotated.jpg");
+        Files.write(source, withExifOrientation(jpeg.toByteArray(), 6));
+
+        // when
+        Map<Integer, byte[]> variants = photoVariantService.renderVariants(source, "jpg");
+
+        // then: 시계 방향 90도 회전이므로 저장된 위쪽(빨강)이 오른쪽으로 감
+        assertThat(variants).containsOnlyKeys(320);
+        BufferedImage variant = ImageIO.read(new ByteArrayInputStream(variants.get(320)));
+        assertThat(variant.getWidth()).isEqualTo(320);
+        assertThat(variant.getHeight()).isEqualTo(640);
+        Color right = new Color(variant.getRGB(300, 320));
+        Color left = new Color(variant.getRGB(20, 320));
+        assertThat(right.getRed()).isGreaterThan(right.getBlue());
+        assertThat(left.getBlue()).isGreaterThan(left.getRed());
+    }
+
+    @Test
+    @DisplayName("사진 변형 생성 - 원본을 내려받아 파생 키로 업로드하고 생성된 너비를 기록")
+    void generate_uploadsVariantsAndRecordsWidths() throws Exception {
+        // given
+        String s3Key = "foodPhoto/abc.png";
+        byte[] original = image(1600, 1200, "png");
+        given(s3Client.getObject(any(GetObjectRequest.class))).willReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(original))));
+
+        // when
+        photoVariantService.generate(1L, s3Key);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> putRequests = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client, times(3)).putObject(putRequests.capture(), any(RequestBody.class));
+        assertThat(putRequests.getAllValues()).extracting(PutObjectRequest::key)
+                .containsExactly("foodPhoto/abc_w320.png", "foodPhoto/abc_w640.png", "foodPhoto/abc_w1080.png");
+        assertThat(putRequests.getAllValues()).extracting(PutObjectRequest::contentType).containsOnly("image/png");
+        verify(photoRepository).updateVariantWidths(1L, "320,640,1080");
+        assertThat(meterRegistry.get("photo.variants.stage").tag("stage", "decode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("photo.variants.stage").tag("stage", "encode").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("photo.variants.completed").tag("result", "success").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사진 변형 생성 - 디코딩할 수 없는 원본은 실패로 기록하고 사진 정보는 그대로 둠")
+    void generate_unreadableImage() {
+        // given
+        given(s3Client.getObject(any(GetObjectRequest.class))).willReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(new byte[]{1, 2, 3}))));
+
+        // when
+        photoVariantService.generate(1L, "foodPhoto/broken.jpg");
+
+        // then
+        verify(photoRepository, never()).updateVariantWidths(any(), any());
+        assertThat(meterRegistry.get("photo.variants.completed").tag("result", "failure").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사진 변형 예약 - 대기열이 가득 차면 요청 스레드에서 처리하지 않고 버린 뒤 지표로 기록")
+    void scheduleAfterCommit_rejectsWhenSaturated() throws Exception {
+        // given: 작업자 1개, 대기열 1칸이고 첫 작업은 다운로드에서 멈춰 있음
+        photoVariantService.shutdown();
+        photoVariantService = new PhotoVariantService(s3Client, photoRepository, meterRegistry,
+                "test-bucket", new int[]{320}, 1, 1);
+        CountDownLatch downloadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(s3Client.getObject(any(GetObjectRequest.class))).willAnswer(invocation -> {
+            downloadStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(new byte[]{1, 2, 3})));
+        });
+
+        // when
+        photoVariantService.scheduleAfterCommit(1L, "foodPhoto/1.jpg");
+        assertThat(downloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        photoVariantService.scheduleAfterCommit(2L, "foodPhoto/2.jpg");
+        photoVariantService.scheduleAfterCommit(3L, "foodPhoto/3.jpg");
+        release.countDown();
+
+        // then
+        assertThat(meterRegistry.get("photo.variants.completed").tag("result", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사진 변형 키 - 원본 키에서 너비별 파생 키를 만들고 응답 URL로 노출")
+    void variantS3Keys() {
+        // given
+        Photo photo = Photo.builder().s3Key("foodPhoto/abc.jpeg").variantWidths("640,320").build();
+
+        // when & then
+        assertThat(photo.getVariantS3Keys()).containsExactly(
+                Map.entry(320, "foodPhoto/abc_w320.jpg"),
+                Map.entry(640, "foodPhoto/abc_w640.jpg"));
+    }
+
+    /**
+     * JFIF APP0 바로 뒤에 Orientation 태그 하나만 담은 Exif APP1 세그먼트를 끼워 넣는다.
+     */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = ByteBuffer.allocate(36)
+                .putShort((short) 0xFFE1).putShort((short) 34)
+                .put(new byte[]{'E', 'x', 'i', 'f', 0, 0})
+                .put(new byte[]{'M', 'M', 0, 42}).putInt(8)
+                .putShort((short) 1)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+                .putInt(0)
+                .array();
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, app0End);
+        out.write(exif, 0, exif.length);
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    private static byte[] image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
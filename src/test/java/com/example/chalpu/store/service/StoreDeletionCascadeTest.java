@@ -0,0 +1,147 @@
+package com.example.chalpu.store.service;
+
+import com.example.chalpu.fooditem.repository.FoodItemRepository;
+import com.example.chalpu.menu.repository.MenuItemRepository;
+import com.example.chalpu.menu.repository.MenuRepository;
+import com.example.chalpu.photo.repository.PhotoRepository;
+import com.example.chalpu.store.domain.StoreDeletionTask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreDeletionCascade 테스트")
+class StoreDeletionCascadeTest {
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private FoodItemRepository foodItemRepository;
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private StoreDeletionQueue deletionQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StoreDeletionCascade cascade;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cascade = new StoreDeletionCascade(menuItemRepository, menuRepository, foodItemRepository, photoRepository,
+                deletionQueue, meterRegistry, 100, 2, 0);
+    }
+
+    @Test
+    @DisplayName("동기 처리 - 테이블마다 UPDATE 한 번씩 실행하고 엔티티는 조회하지 않음")
+    void cascade_IssuesOneUpdatePerTable() {
+        // given
+        when(menuItemRepository.softDeleteByStoreId(1L)).thenReturn(7);
+        when(menuRepository.softDeleteByStoreId(1L)).thenReturn(2);
+        when(foodItemRepository.softDeleteByStoreId(1L)).thenReturn(5);
+        when(photoRepository.softDeleteByStoreId(1L)).thenReturn(30);
+
+        // when
+        Map<String, Integer> affected = cascade.cascade(1L);
+
+        // then
+        assertThat(affected).containsExactly(
+                Map.entry("menu_items", 7), Map.entry("menus", 2), Map.entry("food_items", 5), Map.entry("photos", 30));
+        verify(menuItemRepository, times(1)).softDeleteByStoreId(1L);
+        verify(menuRepository, times(1)).softDeleteByStoreId(1L);
+        verify(foodItemRepository, times(1)).softDeleteByStoreId(1L);
+        verify(photoRepository, times(1)).softDeleteByStoreId(1L);
+        verifyNoMoreInteractions(menuItemRepository, menuRepository, foodItemRepository, photoRepository);
+        assertThat(meterRegistry.get("store.deletion.rows").tag("table", "photos").tag("mode", "sync")
+                .summary().totalAmount()).isEqualTo(30);
+        assertThat(meterRegistry.get("store.deletion.cascade").tag("table", "menu_items").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 처리 - 청크 크기보다 적게 변경될 때까지 반복")
+    void cascadeInChunks_LoopsUntilShortChunk() throws Exception {
+        // given
+        when(menuItemRepository.softDeleteChunkByStoreId(1L, 2)).thenReturn(0);
+        when(menuRepository.softDeleteChunkByStoreId(1L, 2)).thenReturn(1);
+        when(foodItemRepository.softDeleteChunkByStoreId(1L, 2)).thenReturn(2, 0);
+        when(photoRepository.softDeleteChunkByStoreId(1L, 2)).thenReturn(2, 2, 1);
+
+        // when
+        Map<String, Integer> affected = cascade.cascadeInChunks(1L);
+
+        // then
+        assertThat(affected).containsExactly(
+                Map.entry("menu_items", 0), Map.entry("menus", 1), Map.entry("food_items", 2), Map.entry("photos", 5));
+        verify(photoRepository, times(3)).softDeleteChunkByStoreId(1L, 2);
+        verify(foodItemRepository, times(2)).softDeleteChunkByStoreId(1L, 2);
+        assertThat(meterRegistry.get("store.deletion.cascade").tag("table", "photos").tag("mode", "chunked")
+                .timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대기열 처리 - 청크 처리를 마친 항목만 대기열에서 제거하고, 실패한 항목은 재시도 예약")
+    void drain_CompletesOrReschedulesClaimedTasks() {
+        // given
+        StoreDeletionTask done = task(1L, 10L);
+        StoreDeletionTask broken = task(2L, 20L);
+        when(deletionQueue.claimDueBatch()).thenReturn(List.of(done, broken));
+        when(deletionQueue.getBatchSize()).thenReturn(10);
+        when(photoRepository.softDeleteChunkByStoreId(20L, 2)).thenThrow(new IllegalStateException("lock wait timeout"));
+
+        // when
+        cascade.drain();
+
+        // then
+        verify(deletionQueue).complete(1L);
+        verify(deletionQueue).scheduleRetry(2L, "lock wait timeout");
+        verify(deletionQueue, never()).complete(2L);
+        verify(deletionQueue, times(1)).claimDueBatch();
+    }
+
+    @Test
+    @DisplayName("청크 모드 예약 - 실행하지 않고 대기열에만 적재")
+    void enqueue_OnlyPersistsTask() {
+        // when
+        cascade.enqueue(1L);
+
+        // then
+        verify(deletionQueue).enqueue(1L);
+        verifyNoInteractions(menuItemRepository, menuRepository, foodItemRepository, photoRepository);
+    }
+
+    @Test
+    @DisplayName("사진 수가 임계치를 넘을 때만 청크 비동기 모드 사용")
+    void shouldRunAsync_UsesActivePhotoCount() {
+        // given
+        when(photoRepository.countByStoreIdAndIsActiveTrue(1L)).thenReturn(100L);
+        when(photoRepository.countByStoreIdAndIsActiveTrue(2L)).thenReturn(101L);
+
+        // when & then
+        assertThat(cascade.shouldRunAsync(1L)).isFalse();
+        assertThat(cascade.shouldRunAsync(2L)).isTrue();
+    }
+
+    private StoreDeletionTask task(Long deletionId, Long storeId) {
+        StoreDeletionTask task = StoreDeletionTask.builder().storeId(storeId).nextAttemptAt(LocalDateTime.now()).build();
+        ReflectionTestUtils.setField(task, "id", deletionId);
+        return task;
+    }
+}
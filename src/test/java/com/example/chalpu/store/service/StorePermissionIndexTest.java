@@ -0,0 +1,141 @@
+package com.example.chalpu.store.service;
+
+import com.example.chalpu.store.domain.Store;
+import com.example.chalpu.store.domain.StoreRoleType;
+import com.example.chalpu.store.domain.UserStoreRole;
+import com.example.chalpu.store.repository.UserStoreRoleRepository;
+import com.example.chalpu.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("매장 권한 인덱스 테스트")
+class StorePermissionIndexTest {
+
+    @Mock
+    private UserStoreRoleRepository userStoreRoleRepository;
+
+    private StorePermissionIndex storePermissionIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private UserStoreRole ownerRole;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storePermissionIndex = new StorePermissionIndex(userStoreRoleRepository, meterRegistry, 100, 300);
+
+        User user = User.builder().id(1L).email("test@example.com").build();
+        Store store = Store.builder().id(10L).storeName("테스트 매장").build();
+        ownerRole = UserStoreRole.builder()
+                .id(1L)
+                .user(user)
+                .store(store)
+                .roleType(StoreRoleType.OWNER)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("반복 권한 조회 시 DB는 한 번만 조회")
+    void findRole_loadsOnce() {
+        // given
+        when(userStoreRoleRepository.findByUserIdAndIsActiveTrueWithoutJoin(1L)).thenReturn(List.of(ownerRole));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(storePermissionIndex.findRole(1L, 10L)).contains(StoreRoleType.OWNER);
+        }
+        assertThat(storePermissionIndex.findRole(1L, 20L)).isEmpty();
+
+        // then
+        verify(userStoreRoleRepository, times(1)).findByUserIdAndIsActiveTrueWithoutJoin(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "store.permission").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 DB에서 다시 조회")
+    void evict_reloads() {
+        // given
+        when(userStoreRoleRepository.findByUserIdAndIsActiveTrueWithoutJoin(1L))
+                .thenReturn(List.of(ownerRole))
+                .thenReturn(List.of());
+
+        // when
+        assertThat(storePermissionIndex.findRole(1L, 10L)).isPresent();
+        storePermissionIndex.evict(1L);
+
+        // then
+        assertThat(storePermissionIndex.findRole(1L, 10L)).isEmpty();
+        verify(userStoreRoleRepository, times(2)).findByUserIdAndIsActiveTrueWithoutJoin(1L);
+    }
+
+    @Test
+    @DisplayName("권한 적재 중 회수되면 적재 결과를 캐시하지 않음")
+    void evictDuringLoad_doesNotCacheStaleRoles() throws Exception {
+        // given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch revoked = new CountDownLatch(1);
+        when(userStoreRoleRepository.findByUserIdAndIsActiveTrueWithoutJoin(1L))
+                .thenAnswer(invocation -> {
+                    loadStarted.countDown();
+                    assertThat(revoked.await(5, TimeUnit.SECONDS)).isTrue();
+                    return List.of(ownerRole);
+                })
+                .thenReturn(List.of());
+
+        // when
+        CompletableFuture<Map<Long, StoreRoleType>> staleLoad =
+                CompletableFuture.supplyAsync(() -> storePermissionIndex.getPermissions(1L));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        storePermissionIndex.evict(1L);
+        revoked.countDown();
+
+        // then
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS)).containsKey(10L);
+        assertThat(storePermissionIndex.findRole(1L, 10L)).isEmpty();
+        verify(userStoreRoleRepository, times(2)).findByUserIdAndIsActiveTrueWithoutJoin(1L);
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 적재한 미확정 권한은 롤백 이후 캐시에 남지 않음")
+    void evictInRolledBackTransaction_dropsUncommittedRoles() {
+        // given
+        when(userStoreRoleRepository.findByUserIdAndIsActiveTrueWithoutJoin(1L))
+                .thenReturn(List.of(ownerRole))
+                .thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            storePermissionIndex.evict(1L);
+            assertThat(storePermissionIndex.findRole(1L, 10L)).isPresent();
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(storePermissionIndex.findRole(1L, 10L)).isEmpty();
+        verify(userStoreRoleRepository, times(2)).findByUserIdAndIsActiveTrueWithoutJoin(1L);
+    }
+}
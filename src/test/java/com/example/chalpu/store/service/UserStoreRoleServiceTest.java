@@ -45,6 +45,9 @@ class UserStoreRoleServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private StorePermissionIndex storePermissionIndex;
+
     @InjectMocks
     private UserStoreRoleService userStoreRoleService;
 
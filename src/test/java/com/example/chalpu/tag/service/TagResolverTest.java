@@ -0,0 +1,118 @@
+package com.example.chalpu.tag.service;
+
+import com.example.chalpu.common.exception.ErrorMessage;
+import com.example.chalpu.common.exception.GuideTagException;
+import com.example.chalpu.tag.domain.Tag;
+import com.example.chalpu.tag.repository.TagJdbcRepository;
+import com.example.chalpu.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TagResolverTest {
+
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private TagJdbcRepository tagJdbcRepository;
+
+    private TagResolver tagResolver;
+
+    @BeforeEach
+    void setUp() {
+        tagResolver = new TagResolver(tagRepository, tagJdbcRepository, new SimpleMeterRegistry(), 100, 3600);
+    }
+
+    @Test
+    @DisplayName("태그 일괄 조회/생성 - IN 조회 1회, 누락분 INSERT 1회, 입력 순서 유지")
+    void resolveAll_bulkLookupAndInsert() {
+        // given
+        List<String> names = List.of("음식", "정면", "음식", "야외");
+        given(tagRepository.findByNameInAndIsActiveTrue(List.of("음식", "정면", "야외")))
+                .willReturn(List.of(tag(2L, "정면")));
+        given(tagJdbcRepository.upsertActiveAll(List.of("음식", "야외"))).willReturn(2);
+        given(tagRepository.findByNameInAndIsActiveTrueForShare(List.of("음식", "야외")))
+                .willReturn(List.of(tag(3L, "야외"), tag(1L, "음식")));
+
+        // when
+        List<Tag> tags = tagResolver.resolveAll(names);
+
+        // then
+        assertThat(tags).extracting(Tag::getName).containsExactly("음식", "정면", "야외");
+        verify(tagRepository, times(1)).findByNameInAndIsActiveTrue(anyCollection());
+        verify(tagJdbcRepository, times(1)).upsertActiveAll(List.of("음식", "야외"));
+    }
+
+    @Test
+    @DisplayName("태그 조회 - 캐시에는 ID만 두고, 현재 트랜잭션에서 PK 조회로 엔티티를 가져온다")
+    void resolveAll_servedFromIdCache() {
+        // given
+        Tag food = tag(1L, "음식");
+        given(tagRepository.findByNameInAndIsActiveTrue(List.of("음식"))).willReturn(List.of(food));
+        given(tagRepository.findAllById(Set.of(1L))).willReturn(List.of(food));
+        tagResolver.resolveAll(List.of("음식"));
+
+        // when
+        List<Tag> tags = tagResolver.resolveAll(List.of("음식"));
+
+        // then
+        assertThat(tags).extracting(Tag::getId).containsExactly(1L);
+        verify(tagRepository, times(1)).findByNameInAndIsActiveTrue(anyCollection());
+        verify(tagRepository, times(1)).findAllById(Set.of(1L));
+        verify(tagJdbcRepository, never()).upsertActiveAll(anyList());
+        verifyNoMoreInteractions(tagRepository);
+    }
+
+    @Test
+    @DisplayName("태그 생성 실패 - 등록 후에도 조회되지 않는 이름이 있으면 태그 없이 저장하지 않고 예외")
+    void resolveAll_failsWhenNameStaysUnresolved() {
+        // given
+        given(tagRepository.findByNameInAndIsActiveTrue(List.of("음식", "야외"))).willReturn(List.of());
+        given(tagRepository.findByNameInAndIsActiveTrueForShare(List.of("음식", "야외")))
+                .willReturn(List.of(tag(1L, "음식")));
+
+        // when & then
+        assertThatThrownBy(() -> tagResolver.resolveAll(List.of("음식", "야외")))
+                .isInstanceOf(GuideTagException.class)
+                .hasMessage(ErrorMessage.TAG_CREATE_FAILED.getMessage());
+    }
+
+    @Test
+    @DisplayName("태그 이름 검증 - 컬럼 길이를 넘는 이름은 잘라 저장하지 않고 거부")
+    void resolveAll_rejectsOverlongName() {
+        // given
+        String overlong = "가".repeat(Tag.MAX_NAME_LENGTH + 1);
+
+        // when & then
+        assertThatThrownBy(() -> tagResolver.resolveAll(List.of("음식", overlong)))
+                .isInstanceOf(GuideTagException.class)
+                .hasMessage(ErrorMessage.TAG_NAME_INVALID.getMessage());
+        verifyNoInteractions(tagRepository, tagJdbcRepository);
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = Tag.builder().name(name).build();
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}